@@ -0,0 +1,156 @@
+package org.example.catp.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.catp.dto.DepartmentImportDto;
+import org.example.catp.dto.QuestionImportDto;
+import org.example.catp.entity.Department;
+import org.example.catp.entity.Question;
+import org.example.catp.repository.DepartmentRepository;
+import org.example.catp.repository.QuestionRepository;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.cache.AnalysisResultCache;
+import org.example.catp.service.calculator.StandardScoreCalculator;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.metrics.PipelineMetrics;
+import org.example.catp.service.storage.DatabaseLimiter;
+import org.example.catp.service.strategy.WeightedDistanceStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 벤치마크 공용 데이터
+ * 질문은 실제 questions.json 을, 학과는 실제 학과 데이터를 본떠 원하는 개수만큼 만든 합성 데이터를 사용합니다.
+ * 같은 시드로 만들면 매번 같은 데이터가 나오므로 커밋 간 결과를 비교할 수 있습니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final long SEED = 20240101L;
+
+    /** 실제 학과 적성 점수 범위 */
+    private static final int MIN_DEPARTMENT_SCORE = 1;
+    private static final int MAX_DEPARTMENT_SCORE = 10;
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Question> questions(ObjectMapper objectMapper) {
+        List<QuestionImportDto> dtos = readResource("/questions.json", objectMapper, new TypeReference<>() {});
+        List<Question> questions = new ArrayList<>(dtos.size());
+        for (QuestionImportDto dto : dtos) {
+            Question question = dto.toEntity(objectMapper);
+            question.setId((long) questions.size() + 1);
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    /**
+     * 합성 학과 목록
+     * 실제 학과를 차례로 본떠 계열과 태그는 그대로 두고, 적성 점수만 ±2 범위에서 흔듭니다.
+     */
+    public static List<Department> departments(int count, ObjectMapper objectMapper) {
+        return departments(count, 2, objectMapper);
+    }
+
+    /**
+     * 합성 학과 목록 (적성 점수를 ±jitter 범위에서 흔듦, 0이면 같은 학과를 그대로 반복)
+     */
+    public static List<Department> departments(int count, int jitter, ObjectMapper objectMapper) {
+        List<DepartmentImportDto> templates =
+                readResource("/jj_departments_with_scores.json", objectMapper, new TypeReference<>() {});
+        Random random = new Random(SEED);
+
+        List<Department> departments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            DepartmentImportDto template = templates.get(i % templates.size());
+            Department department = template.toEntity(objectMapper);
+            department.setId((long) i + 1);
+            department.setName(String.format("%s-%05d", template.getName(), i));
+
+            List<Integer> scores = new ArrayList<>(template.getAptitudeScores().size());
+            for (int score : template.getAptitudeScores()) {
+                int jittered = score + random.nextInt(2 * jitter + 1) - jitter;
+                scores.add(Math.max(MIN_DEPARTMENT_SCORE, Math.min(MAX_DEPARTMENT_SCORE, jittered)));
+            }
+            department.setAptitudeScores(scores.toString());
+            departments.add(department);
+        }
+        return departments;
+    }
+
+    /**
+     * 무작위 답변 묶음 (1 ~ 5)
+     */
+    public static int[][] answerSets(int questionCount, int sets) {
+        Random random = new Random(SEED);
+        int[][] answers = new int[sets][questionCount];
+        for (int[] answer : answers) {
+            for (int i = 0; i < questionCount; i++) {
+                answer[i] = 1 + random.nextInt(5);
+            }
+        }
+        return answers;
+    }
+
+    public static List<Integer> boxed(int[] answers) {
+        List<Integer> boxed = new ArrayList<>(answers.length);
+        for (int answer : answers) {
+            boxed.add(answer);
+        }
+        return boxed;
+    }
+
+    /**
+     * DB 없이 주어진 질문으로 적재된 질문 카탈로그
+     */
+    public static QuestionCatalog questionCatalog(List<Question> questions, ObjectMapper objectMapper) {
+        QuestionRepository repository = mock(QuestionRepository.class);
+        when(repository.findAllByOrderByQuestionOrderAsc()).thenReturn(questions);
+        QuestionCatalog catalog = new QuestionCatalog(repository, objectMapper, event -> { });
+        catalog.reload();
+        return catalog;
+    }
+
+    /**
+     * DB 없이 주어진 학과로 적재된 학과 카탈로그
+     */
+    public static DepartmentCatalog departmentCatalog(List<Department> departments, ObjectMapper objectMapper) {
+        DepartmentRepository repository = mock(DepartmentRepository.class);
+        when(repository.findAllBySchoolIsNullOrderByIdAsc()).thenReturn(departments);
+        DepartmentCatalog catalog = new DepartmentCatalog(repository, objectMapper, event -> { },
+                new DatabaseLimiter(10, Duration.ofSeconds(5)),
+                100_000, Duration.ofHours(1));
+        catalog.reload();
+        return catalog;
+    }
+
+    /**
+     * DB 없이 동작하는 분석 서비스 (cacheSize 가 0이면 분석 결과 캐시를 쓰지 않는 것과 같음)
+     */
+    public static CareerService careerService(QuestionCatalog questionCatalog, DepartmentCatalog departmentCatalog,
+                                              long cacheSize) {
+        return new CareerService(questionCatalog, departmentCatalog, new StandardScoreCalculator(),
+                new WeightedDistanceStrategy(), new AnalysisResultCache(cacheSize, Duration.ofHours(1)),
+                new PipelineMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static <T> T readResource(String path, ObjectMapper objectMapper, TypeReference<T> type) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(path)) {
+            return objectMapper.readValue(in, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
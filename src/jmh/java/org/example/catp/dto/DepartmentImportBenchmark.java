@@ -0,0 +1,48 @@
+package org.example.catp.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.entity.Department;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학과 가져오기 변환, 실제 학과 파일을 순환하며 한 건씩 변환
+ * toEntity: 계열 추론 + 태그 추출 + JSON 직렬화 전체, classify: 키워드 표 매칭(계열 + 태그)만
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DepartmentImportBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<DepartmentImportDto> dtos;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        try (InputStream in = DepartmentImportBenchmark.class.getResourceAsStream("/jj_departments_with_scores.json")) {
+            dtos = objectMapper.readValue(in, new TypeReference<>() {});
+        }
+    }
+
+    @Benchmark
+    public Department toEntity() {
+        DepartmentImportDto dto = dtos.get(cursor);
+        cursor = (cursor + 1 == dtos.size()) ? 0 : cursor + 1;
+        return dto.toEntity(objectMapper);
+    }
+
+    @Benchmark
+    public int classify() {
+        DepartmentImportDto dto = dtos.get(cursor);
+        cursor = (cursor + 1 == dtos.size()) ? 0 : cursor + 1;
+        return DepartmentKeywords.standard().extractTags(dto.getAptitudeDescription()).size()
+                + DepartmentKeywords.standard().inferCategory(dto.getName()).length();
+    }
+}
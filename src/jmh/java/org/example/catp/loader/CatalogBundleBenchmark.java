@@ -0,0 +1,96 @@
+package org.example.catp.loader;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.dto.DepartmentImportDto;
+import org.example.catp.dto.DepartmentKeywords;
+import org.example.catp.dto.QuestionImportDto;
+import org.example.catp.entity.Department;
+import org.example.catp.entity.Question;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 적재 시 카탈로그 원본 → 저장할 행 변환 (JSON 파싱 + 계열/태그 추출 vs 빌드 시 컴파일된 번들 읽기)
+ * DB 저장은 포함하지 않으며, 번들은 리소스의 현재 JSON 으로 만들어 두 방식이 같은 행을 만드는지 먼저 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CatalogBundleBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] questionsJson;
+    private byte[] departmentsJson;
+    private byte[] bundle;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        questionsJson = resource("/" + CatalogBundleCompiler.QUESTIONS_SOURCE);
+        departmentsJson = resource("/" + CatalogBundleCompiler.DEPARTMENTS_SOURCE);
+
+        CatalogBundle compiled = new CatalogBundle(DepartmentKeywords.standard().digest(),
+                List.of(CatalogBundleCompiler.compileQuestions(CatalogBundleCompiler.QUESTIONS_SOURCE, questionsJson, objectMapper)),
+                List.of(CatalogBundleCompiler.compileDepartments(CatalogBundleCompiler.DEPARTMENTS_SOURCE, null, departmentsJson, objectMapper)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        compiled.write(out);
+        bundle = out.toByteArray();
+
+        verifySameRows();
+    }
+
+    @Benchmark
+    public void json(Blackhole blackhole) throws IOException {
+        List<QuestionImportDto> questions = objectMapper.readValue(questionsJson, new TypeReference<>() {});
+        for (QuestionImportDto dto : questions) {
+            blackhole.consume(dto.toEntity(objectMapper));
+        }
+        List<DepartmentImportDto> departments = objectMapper.readValue(departmentsJson, new TypeReference<>() {});
+        for (DepartmentImportDto dto : departments) {
+            blackhole.consume(dto.toEntity(objectMapper));
+        }
+    }
+
+    @Benchmark
+    public void bundle(Blackhole blackhole) throws IOException {
+        CatalogBundle catalog = CatalogBundle.read(new ByteArrayInputStream(bundle));
+        for (CatalogBundle.QuestionRecord record : catalog.questionSections().get(0).records()) {
+            blackhole.consume(record.toEntity(objectMapper));
+        }
+        for (CatalogBundle.DepartmentRecord record : catalog.departmentSections().get(0).records()) {
+            blackhole.consume(record.toEntity(objectMapper, null));
+        }
+    }
+
+    private void verifySameRows() throws IOException {
+        CatalogBundle catalog = CatalogBundle.read(new ByteArrayInputStream(bundle));
+        List<Question> fromBundle = catalog.questionSections().get(0).records().stream()
+                .map(record -> record.toEntity(objectMapper)).toList();
+        List<Question> fromJson = objectMapper.readValue(questionsJson, new TypeReference<List<QuestionImportDto>>() {})
+                .stream().map(dto -> dto.toEntity(objectMapper)).toList();
+        List<Department> departmentsFromBundle = catalog.departmentSections().get(0).records().stream()
+                .map(record -> record.toEntity(objectMapper, null)).toList();
+        List<Department> departmentsFromJson = objectMapper.readValue(departmentsJson, new TypeReference<List<DepartmentImportDto>>() {})
+                .stream().map(dto -> dto.toEntity(objectMapper)).toList();
+        if (!fromBundle.equals(fromJson) || !departmentsFromBundle.equals(departmentsFromJson)) {
+            throw new IllegalStateException("번들과 JSON 의 변환 결과가 다릅니다.");
+        }
+    }
+
+    private static byte[] resource(String path) throws IOException {
+        try (InputStream in = CatalogBundleBenchmark.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("리소스를 찾을 수 없습니다: " + path);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
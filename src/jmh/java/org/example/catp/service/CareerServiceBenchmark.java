@@ -0,0 +1,52 @@
+package org.example.catp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.benchmark.BenchmarkFixtures;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.entity.Question;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 답변 제출 분석 전체 (DB 없이 메모리 카탈로그 사용)
+ * cacheSize 가 0이면 매번 추천까지 계산하고, 0보다 크면 같은 답변 묶음이 반복되어 캐시 적중 경로를 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CareerServiceBenchmark {
+
+    /** 답변 묶음 수 (2의 거듭제곱, 순환 인덱스용) */
+    private static final int ANSWER_SETS = 1024;
+
+    @Param({"70", "1000", "10000"})
+    public int departments;
+
+    @Param({"0", "10000"})
+    public long cacheSize;
+
+    private CareerService careerService;
+    private List<List<Integer>> answers;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Question> questions = BenchmarkFixtures.questions(objectMapper);
+        careerService = BenchmarkFixtures.careerService(
+                BenchmarkFixtures.questionCatalog(questions, objectMapper),
+                BenchmarkFixtures.departmentCatalog(BenchmarkFixtures.departments(departments, objectMapper), objectMapper),
+                cacheSize);
+        answers = Arrays.stream(BenchmarkFixtures.answerSets(questions.size(), ANSWER_SETS))
+                .map(BenchmarkFixtures::boxed)
+                .toList();
+    }
+
+    @Benchmark
+    public AnalysisResult analyzeTest() {
+        return careerService.analyzeTest(answers.get(cursor++ & (ANSWER_SETS - 1)));
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.catp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.benchmark.BenchmarkFixtures;
+import org.example.catp.entity.Question;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.catalog.QuestionSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관심사 태그 추출 + 필터링 (빈도 집계, 그룹 대표 선택, 상위 N개)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class InterestTagBenchmark {
+
+    /** 답변 묶음 수 (2의 거듭제곱, 순환 인덱스용) */
+    private static final int ANSWER_SETS = 1024;
+
+    private CareerService careerService;
+    private QuestionSnapshot questionSnapshot;
+    private int[][] answers;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Question> questions = BenchmarkFixtures.questions(objectMapper);
+        QuestionCatalog questionCatalog = BenchmarkFixtures.questionCatalog(questions, objectMapper);
+        careerService = BenchmarkFixtures.careerService(questionCatalog,
+                BenchmarkFixtures.departmentCatalog(BenchmarkFixtures.departments(70, objectMapper), objectMapper),
+                0);
+        questionSnapshot = questionCatalog.current();
+        answers = BenchmarkFixtures.answerSets(questions.size(), ANSWER_SETS);
+    }
+
+    @Benchmark
+    public List<String> extractInterestTags() {
+        return careerService.extractInterestTags(questionSnapshot, answers[cursor++ & (ANSWER_SETS - 1)]);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.catp.service.calculator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.benchmark.BenchmarkFixtures;
+import org.example.catp.entity.Question;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적성 점수 계산 (컴파일된 채점 계획 vs 질문 목록 직접 순회)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ScoreCalculatorBenchmark {
+
+    /** 답변 묶음 수 (2의 거듭제곱, 순환 인덱스용) */
+    private static final int ANSWER_SETS = 1024;
+
+    private final StandardScoreCalculator calculator = new StandardScoreCalculator();
+
+    private List<Question> questions;
+    private ScoringPlan plan;
+    private int[][] answers;
+    private List<List<Integer>> boxedAnswers;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        questions = BenchmarkFixtures.questions(new ObjectMapper());
+        plan = ScoringPlan.compile(questions);
+        answers = BenchmarkFixtures.answerSets(questions.size(), ANSWER_SETS);
+        boxedAnswers = Arrays.stream(answers).map(BenchmarkFixtures::boxed).toList();
+    }
+
+    @Benchmark
+    public double[] compiledPlan() {
+        return calculator.calculate(plan, answers[cursor++ & (ANSWER_SETS - 1)]);
+    }
+
+    @Benchmark
+    public List<Double> questionList() {
+        return calculator.calculate(questions, boxedAnswers.get(cursor++ & (ANSWER_SETS - 1)));
+    }
+}
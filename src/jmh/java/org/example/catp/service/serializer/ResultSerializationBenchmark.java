@@ -0,0 +1,85 @@
+package org.example.catp.service.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.benchmark.BenchmarkFixtures;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.entity.Question;
+import org.example.catp.entity.TestResult;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.storage.TestResultCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결과 직렬화 (제출 응답 본문, 저장용 압축 행, 조회 응답 복원)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ResultSerializationBenchmark {
+
+    /** 분석 결과 묶음 수 (2의 거듭제곱, 순환 인덱스용) */
+    private static final int RESULT_SETS = 256;
+
+    private static final String RESULT_ID = "0000000000000";
+
+    private ObjectMapper objectMapper;
+    private AnalysisResultWriter writer;
+    private TestResultCodec codec;
+    private List<Integer>[] answers;
+    private AnalysisResult[] results;
+    private TestResult[] encoded;
+    private int cursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        List<Question> questions = BenchmarkFixtures.questions(objectMapper);
+        DepartmentCatalog departmentCatalog = BenchmarkFixtures.departmentCatalog(
+                BenchmarkFixtures.departments(70, objectMapper), objectMapper);
+        CareerService careerService = BenchmarkFixtures.careerService(
+                BenchmarkFixtures.questionCatalog(questions, objectMapper), departmentCatalog, 0);
+        writer = new AnalysisResultWriter(objectMapper);
+        codec = new TestResultCodec(departmentCatalog, objectMapper);
+
+        int[][] answerSets = BenchmarkFixtures.answerSets(questions.size(), RESULT_SETS);
+        answers = new List[RESULT_SETS];
+        results = new AnalysisResult[RESULT_SETS];
+        encoded = new TestResult[RESULT_SETS];
+        for (int i = 0; i < RESULT_SETS; i++) {
+            answers[i] = BenchmarkFixtures.boxed(answerSets[i]);
+            results[i] = careerService.analyzeTest(answers[i]);
+            encoded[i] = codec.encode(RESULT_ID, null, answers[i], results[i]);
+        }
+    }
+
+    /**
+     * 제출 응답 본문 직렬화
+     */
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return writer.write(RESULT_ID, results[cursor++ & (RESULT_SETS - 1)]).body();
+    }
+
+    /**
+     * 저장용 압축 행 생성
+     */
+    @Benchmark
+    public TestResult encodeRow() throws IOException {
+        int i = cursor++ & (RESULT_SETS - 1);
+        return codec.encode(RESULT_ID, null, answers[i], results[i]);
+    }
+
+    /**
+     * 저장된 행으로 조회 응답 조립 + 직렬화 (조회 캐시 미스 경로)
+     */
+    @Benchmark
+    public byte[] decodeRow() throws IOException {
+        return objectMapper.writeValueAsBytes(codec.toResponse(encoded[cursor++ & (RESULT_SETS - 1)]));
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.catp.service.strategy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.benchmark.BenchmarkFixtures;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.dto.DepartmentMatch;
+import org.example.catp.entity.Question;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학과 추천 (학과 수에 따른 전체 스캔 비용, 콘 트리 색인과 비교)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class RecommendationBenchmark {
+
+    /** 사용자 입력 묶음 수 (2의 거듭제곱, 순환 인덱스용) */
+    private static final int INPUT_SETS = 256;
+
+    @Param({"70", "1000", "10000"})
+    public int departments;
+
+    /** 합성 학과 적성 점수의 흔들림 폭 (0: 같은 적성 분포의 학과가 반복되는 카탈로그) */
+    @Param({"0", "2"})
+    public int jitter;
+
+    /** linear: 전체 스캔, cone-tree: 콘 트리 색인 */
+    @Param({"linear", "cone-tree"})
+    public String strategyName;
+
+    private WeightedDistanceStrategy strategy;
+
+    private DepartmentSnapshot catalog;
+    private double[][] scores;
+    private List<Set<String>> tags;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Question> questions = BenchmarkFixtures.questions(objectMapper);
+        QuestionCatalog questionCatalog = BenchmarkFixtures.questionCatalog(questions, objectMapper);
+        DepartmentCatalog departmentCatalog = BenchmarkFixtures.departmentCatalog(
+                BenchmarkFixtures.departments(departments, jitter, objectMapper), objectMapper);
+        catalog = departmentCatalog.current();
+
+        // 점수와 관심사 태그는 실제 분석 과정으로 미리 만들어 둠
+        CareerService careerService = BenchmarkFixtures.careerService(questionCatalog, departmentCatalog, 0);
+        int[][] answers = BenchmarkFixtures.answerSets(questions.size(), INPUT_SETS);
+        scores = new double[INPUT_SETS][];
+        tags = new ArrayList<>(INPUT_SETS);
+        for (int i = 0; i < INPUT_SETS; i++) {
+            AnalysisResult result = careerService.analyzeTest(BenchmarkFixtures.boxed(answers[i]));
+            scores[i] = result.scores();
+            tags.add(new HashSet<>(result.interestTags()));
+        }
+
+        strategy = strategyName.equals("cone-tree") ? new ConeTreeStrategy() : new WeightedDistanceStrategy();
+        verifySameAsLinearScan();
+    }
+
+    /**
+     * 측정 전에 모든 입력에서 전체 스캔과 같은 학과/점수를 고르는지 확인
+     */
+    private void verifySameAsLinearScan() {
+        WeightedDistanceStrategy linear = new WeightedDistanceStrategy();
+        for (int i = 0; i < INPUT_SETS; i++) {
+            Recommendation expected = linear.recommend(scores[i], tags.get(i), catalog);
+            Recommendation actual = strategy.recommend(scores[i], tags.get(i), catalog);
+            if (!summarize(expected).equals(summarize(actual))) {
+                throw new IllegalStateException(strategyName + " 결과가 전체 스캔과 다릅니다: 입력 " + i
+                        + "\n기대: " + summarize(expected) + "\n실제: " + summarize(actual));
+            }
+        }
+    }
+
+    private static String summarize(Recommendation recommendation) {
+        StringBuilder builder = new StringBuilder();
+        for (List<DepartmentMatch> matches : List.of(recommendation.getTopDepartments(),
+                recommendation.getWorstDepartments(), recommendation.getSimilarDepartments())) {
+            for (DepartmentMatch match : matches) {
+                builder.append(match.department().getId()).append('=').append(match.matchPercentage()).append(' ');
+            }
+            builder.append("| ");
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public Recommendation recommend() {
+        int i = cursor++ & (INPUT_SETS - 1);
+        return strategy.recommend(scores[i], tags.get(i), catalog);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.catp.service.strategy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.benchmark.BenchmarkFixtures;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.catp.service.catalog.DepartmentSnapshot.DIMENSION;
+
+/**
+ * 전체 학과 내적 계산 (학과별 행 우선 루프 vs 열 우선 스칼라 커널 vs Vector API 커널)
+ * 설정 단계에서 세 방식의 결과가 비트 단위로 같은지 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SimilarityKernelBenchmark {
+
+    /** 사용자 벡터 수 (2의 거듭제곱, 순환 인덱스용) */
+    private static final int USER_SETS = 64;
+
+    @Param({"1000", "10000"})
+    public int departments;
+
+    private final SimilarityKernel scalar = new ScalarSimilarityKernel();
+    private final SimilarityKernel vector = SimilarityKernels.select("vector");
+
+    private DepartmentSnapshot catalog;
+    private double[][] users;
+    private double[][][] categoryUsers;
+    private double[] dots;
+    private double[] weightedDots;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        catalog = DepartmentSnapshot.compile(BenchmarkFixtures.departments(departments, objectMapper), 1, objectMapper);
+        dots = new double[catalog.size()];
+        weightedDots = new double[catalog.size()];
+
+        Random random = new Random(BenchmarkFixtures.SEED);
+        users = new double[USER_SETS][DIMENSION];
+        categoryUsers = new double[USER_SETS][catalog.categoryCount()][DIMENSION];
+        for (int u = 0; u < USER_SETS; u++) {
+            for (int i = 0; i < DIMENSION; i++) {
+                users[u][i] = (10 + random.nextInt(41)) / 10.0 * 2; // 1.0 ~ 5.0 점수의 10점 만점 환산
+            }
+            for (int c = 0; c < catalog.categoryCount(); c++) {
+                for (int i = 0; i < DIMENSION; i++) {
+                    categoryUsers[u][c][i] = users[u][i] * catalog.categoryWeights(c)[i];
+                }
+            }
+        }
+
+        verify(scalar);
+        verify(vector);
+    }
+
+    /**
+     * 기존 방식: 학과마다 행 우선 배열에서 두 내적을 따로 계산
+     */
+    @Benchmark
+    public double[] rowMajor() {
+        int u = cursor++ & (USER_SETS - 1);
+        rowMajor(u, dots, weightedDots);
+        return weightedDots;
+    }
+
+    @Benchmark
+    public double[] scalarKernel() {
+        scalar.dotProducts(users[cursor++ & (USER_SETS - 1)], catalog, dots, weightedDots);
+        return weightedDots;
+    }
+
+    @Benchmark
+    public double[] vectorKernel() {
+        vector.dotProducts(users[cursor++ & (USER_SETS - 1)], catalog, dots, weightedDots);
+        return weightedDots;
+    }
+
+    private void rowMajor(int u, double[] dots, double[] weightedDots) {
+        double[] vectors = catalog.vectors();
+        double[] weightedVectors = catalog.weightedVectors();
+        int[] categoryIds = catalog.categoryIds();
+        for (int d = 0; d < catalog.size(); d++) {
+            double[] user = users[u];
+            double[] weightedUser = categoryUsers[u][categoryIds[d]];
+            double dot = 0.0;
+            double weightedDot = 0.0;
+            for (int i = 0; i < DIMENSION; i++) {
+                dot += user[i] * vectors[d * DIMENSION + i];
+                weightedDot += weightedUser[i] * weightedVectors[d * DIMENSION + i];
+            }
+            dots[d] = dot;
+            weightedDots[d] = weightedDot;
+        }
+    }
+
+    private void verify(SimilarityKernel kernel) {
+        double[] expectedDots = new double[catalog.size()];
+        double[] expectedWeighted = new double[catalog.size()];
+        double[] actualDots = new double[catalog.size()];
+        double[] actualWeighted = new double[catalog.size()];
+        for (int u = 0; u < USER_SETS; u++) {
+            rowMajor(u, expectedDots, expectedWeighted);
+            kernel.dotProducts(users[u], catalog, actualDots, actualWeighted);
+            if (!Arrays.equals(expectedDots, actualDots) || !Arrays.equals(expectedWeighted, actualWeighted)) {
+                throw new IllegalStateException(kernel.name() + " 커널 결과가 학과별 계산과 다릅니다.");
+            }
+        }
+    }
+}
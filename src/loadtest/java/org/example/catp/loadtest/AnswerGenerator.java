@@ -0,0 +1,82 @@
+package org.example.catp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * questions.json 으로 실제 학생과 비슷한 답변 생성
+ * 학생마다 적성별 성향(표준 정규 분포)과 전반적인 응답 경향(후하게/박하게 답하는 정도)을 뽑고,
+ * 문항 답은 해당 적성 성향을 중심으로 흔들리게 하여 같은 적성 문항끼리 답이 비슷하게 나오도록 합니다.
+ * 역문항은 성향의 부호를 뒤집으며, 답은 1 ~ 5 로 자릅니다.
+ *
+ * 모든 학생이 같은 답을 내는 균일 분포와 달리 점수/관심사 태그 조합이 퍼지므로 분석 결과 캐시 적중률도 실제에 가깝습니다.
+ */
+final class AnswerGenerator {
+
+    /** 적성 성향이 답에 미치는 크기 (성향 1 표준편차 = 약 1점) */
+    private static final double APTITUDE_EFFECT = 1.1;
+    private static final double BIAS_SPREAD = 0.5;
+    private static final double ANSWER_NOISE = 0.9;
+
+    private final int[] aptitudeIndex;
+    private final boolean[] reverse;
+    private final int aptitudeCount;
+
+    private AnswerGenerator(int[] aptitudeIndex, boolean[] reverse, int aptitudeCount) {
+        this.aptitudeIndex = aptitudeIndex;
+        this.reverse = reverse;
+        this.aptitudeCount = aptitudeCount;
+    }
+
+    /**
+     * 질문 파일 읽기 (답변은 질문 순서(question_order) 순으로 생성)
+     */
+    static AnswerGenerator load(Path questionsFile, ObjectMapper objectMapper) throws IOException {
+        List<JsonNode> questions = new ArrayList<>();
+        objectMapper.readTree(questionsFile.toFile()).forEach(questions::add);
+        questions.sort(Comparator.comparingInt(question -> question.path("question_order").asInt()));
+
+        Map<String, Integer> aptitudes = new HashMap<>();
+        int[] aptitudeIndex = new int[questions.size()];
+        boolean[] reverse = new boolean[questions.size()];
+        for (int i = 0; i < questions.size(); i++) {
+            JsonNode question = questions.get(i);
+            aptitudeIndex[i] = aptitudes.computeIfAbsent(question.path("aptitude_type").asText(), key -> aptitudes.size());
+            reverse[i] = question.path("is_reverse").asBoolean();
+        }
+        return new AnswerGenerator(aptitudeIndex, reverse, aptitudes.size());
+    }
+
+    int questionCount() {
+        return aptitudeIndex.length;
+    }
+
+    /**
+     * 학생 한 명의 답변 (1 ~ 5)
+     */
+    int[] next(Random random) {
+        double[] affinity = new double[aptitudeCount];
+        for (int a = 0; a < aptitudeCount; a++) {
+            affinity[a] = random.nextGaussian();
+        }
+        double bias = random.nextGaussian() * BIAS_SPREAD;
+
+        int[] answers = new int[aptitudeIndex.length];
+        for (int i = 0; i < answers.length; i++) {
+            double direction = reverse[i] ? -1 : 1;
+            double mean = 3 + APTITUDE_EFFECT * affinity[aptitudeIndex[i]] * direction + bias;
+            long answer = Math.round(mean + random.nextGaussian() * ANSWER_NOISE);
+            answers[i] = (int) Math.max(1, Math.min(5, answer));
+        }
+        return answers;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.catp.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (JSON 으로 저장, 키 순서가 고정되어 실행 간 diff 가능)
+ *
+ * @param startedAt 실행 시작 시각 (ISO-8601)
+ * @param phases 구간별 결과 (실행 순서)
+ * @param total 전체 구간 합계
+ */
+@JsonPropertyOrder({"baseUrl", "school", "seed", "maxInFlight", "startedAt", "phases", "total"})
+record LoadReport(String baseUrl, String school, long seed, int maxInFlight, String startedAt,
+                  List<PhaseReport> phases, PhaseReport total) {
+
+    /**
+     * @param targetRate 설정한 초당 도착 수
+     * @param achievedRate 실제로 완료된 초당 요청 수 (구간 시작 ~ 마지막 응답)
+     * @param requests 요청 종류(submit, view)별 결과
+     */
+    @JsonPropertyOrder({"name", "durationSeconds", "targetRate", "viewFraction", "achievedRate", "requests"})
+    record PhaseReport(String name, double durationSeconds, double targetRate, double viewFraction,
+                       double achievedRate, Map<String, RequestReport> requests) {
+    }
+
+    /**
+     * @param count 응답을 받은 요청 수 (오류 응답, 시간 초과 포함)
+     * @param errors 2xx 가 아닌 응답과 예외 수
+     * @param dropped 응답 대기 요청 상한으로 보내지 못한 도착 수
+     * @param outcomes HTTP 상태 코드/예외 이름별 수
+     * @param latency 예정 시각부터의 응답 시간 (밀리초)
+     * @param serviceTime 실제로 보낸 시각부터의 응답 시간 (밀리초)
+     */
+    @JsonPropertyOrder({"count", "errors", "dropped", "outcomes", "latency", "serviceTime"})
+    record RequestReport(long count, long errors, long dropped, Map<String, Long> outcomes,
+                         Latency latency, Latency serviceTime) {
+    }
+
+    /**
+     * 응답 시간 분포 (밀리초)
+     */
+    @JsonPropertyOrder({"p50", "p90", "p99", "p999", "max", "mean"})
+    record Latency(double p50, double p90, double p99, double p999, double max, double mean) {
+
+        static Latency of(Histogram micros) {
+            if (micros.getTotalCount() == 0) {
+                return new Latency(0, 0, 0, 0, 0, 0);
+            }
+            return new Latency(
+                    millis(micros.getValueAtPercentile(50)),
+                    millis(micros.getValueAtPercentile(90)),
+                    millis(micros.getValueAtPercentile(99)),
+                    millis(micros.getValueAtPercentile(99.9)),
+                    millis(micros.getMaxValue()),
+                    Math.round(micros.getMean()) / 1000.0);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
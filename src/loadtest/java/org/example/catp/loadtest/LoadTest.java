@@ -0,0 +1,314 @@
+package org.example.catp.loadtest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * REST API 부하 생성기 (gradle loadTest)
+ * 시험 당일 아침처럼 제출(POST /api/results)이 몰린 뒤 공유 링크 조회(GET /api/results/{id})가 이어지는 트래픽을
+ * 로컬에서 띄운 앱(gradle bootRun, H2 파일 DB)에 재현하고, 구간별 응답 시간 분포를 JSON 으로 남깁니다.
+ *
+ * 요청은 응답을 기다리지 않고 정해진 도착률(포아송 간격)로 보내는 open model 이며,
+ * 응답 시간은 요청을 보냈어야 할 시각부터 재므로 서버가 밀리면 그만큼 응답 시간에 드러납니다.
+ * 조회 대상은 이번 실행에서 제출에 성공한 최근 결과 중에서 고릅니다.
+ */
+public final class LoadTest {
+
+    /** 조회 대상으로 기억하는 최근 결과 id 수 */
+    private static final int RECENT_IDS = 10_000;
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final Random random;
+    private AnswerGenerator answers;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReferenceArray<String> recentIds = new AtomicReferenceArray<>(RECENT_IDS);
+    private final AtomicLong storedIds = new AtomicLong();
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.random = new Random(options.seed());
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        System.exit(new LoadTest(options).run() ? 0 : 1);
+    }
+
+    /**
+     * @return 대상 앱 확인에 성공해 끝까지 실행했으면 true
+     */
+    private boolean run() throws Exception {
+        // 1. 답변 생성기 + 대상 앱 확인 (질문 수가 다르면 모든 제출이 400 이므로 중단)
+        answers = AnswerGenerator.load(options.questions(), objectMapper);
+        if (!checkTarget()) {
+            return false;
+        }
+
+        // 2. 구간별 실행
+        String startedAt = Instant.now().toString();
+        List<LoadReport.PhaseReport> phases = new ArrayList<>();
+        RequestStats totalSubmit = new RequestStats();
+        RequestStats totalView = new RequestStats();
+        double totalSeconds = 0;
+        long totalCompleted = 0;
+        for (LoadTestOptions.Phase phase : options.phases()) {
+            RequestStats submit = new RequestStats();
+            RequestStats view = new RequestStats();
+            long startedNanos = System.nanoTime();
+            runPhase(phase, submit, view);
+            double seconds = (System.nanoTime() - startedNanos) / 1e9;
+
+            LoadReport.PhaseReport report = phaseReport(phase.name(), phase.duration().toMillis() / 1000.0,
+                    phase.rate(), phase.viewFraction(), seconds, submit, view);
+            phases.add(report);
+            print(report);
+
+            totalSubmit.add(submit);
+            totalView.add(view);
+            totalSeconds += seconds;
+            totalCompleted += report.requests().values().stream().mapToLong(LoadReport.RequestReport::count).sum();
+        }
+
+        // 3. 전체 합계 + JSON 저장
+        double plannedSeconds = options.phases().stream().mapToLong(phase -> phase.duration().toMillis()).sum() / 1000.0;
+        double plannedRequests = options.phases().stream()
+                .mapToDouble(phase -> phase.rate() * phase.duration().toMillis() / 1000.0).sum();
+        double plannedViews = options.phases().stream()
+                .mapToDouble(phase -> phase.rate() * phase.duration().toMillis() / 1000.0 * phase.viewFraction()).sum();
+        LoadReport.PhaseReport total = phaseReport("total", plannedSeconds, round(plannedRequests / plannedSeconds),
+                Math.round(plannedViews / plannedRequests * 1000) / 1000.0, totalSeconds, totalSubmit, totalView);
+        LoadReport report = new LoadReport(options.baseUrl().toString(), options.school(), options.seed(),
+                options.maxInFlight(), startedAt, phases, total);
+
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(options.output().toFile(), report);
+        System.out.printf("결과 %d건 저장: %s%n", totalCompleted, options.output().toAbsolutePath());
+        return true;
+    }
+
+    /**
+     * 구간 하나 실행 (도착 예정 시각마다 요청을 보내고, 구간이 끝나면 남은 응답을 기다림)
+     */
+    private void runPhase(LoadTestOptions.Phase phase, RequestStats submit, RequestStats view) throws InterruptedException {
+        System.out.printf("구간 %s 시작: %ds, 초당 %.0f건, 조회 %.0f%%%n",
+                phase.name(), phase.duration().toSeconds(), phase.rate(), phase.viewFraction() * 100);
+        AtomicInteger outstanding = new AtomicInteger();
+        long start = System.nanoTime();
+        long end = start + phase.duration().toNanos();
+
+        long intended = start;
+        while (true) {
+            intended += nextInterval(phase.rate());
+            if (intended >= end) {
+                break;
+            }
+            parkUntil(intended);
+
+            String viewId = (random.nextDouble() < phase.viewFraction()) ? pickRecentId() : null;
+            RequestStats stats = (viewId != null) ? view : submit;
+            if (inFlight.get() >= options.maxInFlight()) {
+                stats.drop();
+                continue;
+            }
+            if (viewId != null) {
+                send(viewRequest(viewId), stats, intended, outstanding, null);
+            } else {
+                send(submitRequest(answers.next(random)), stats, intended, outstanding, this::rememberId);
+            }
+        }
+
+        // 남은 응답 대기 (요청 제한 시간이 지나면 HttpClient 가 시간 초과로 완료시킴)
+        long deadline = System.nanoTime() + options.timeout().toNanos() + TimeUnit.SECONDS.toNanos(5);
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void send(HttpRequest request, RequestStats stats, long intended, AtomicInteger outstanding,
+                      Consumer<byte[]> onSuccess) {
+        inFlight.incrementAndGet();
+        outstanding.incrementAndGet();
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+            long completed = System.nanoTime();
+            try {
+                if (error != null) {
+                    Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+                    stats.record(intended, sent, completed, cause.getClass().getSimpleName(), false);
+                    return;
+                }
+                boolean success = response.statusCode() / 100 == 2;
+                stats.record(intended, sent, completed, String.valueOf(response.statusCode()), success);
+                if (success && onSuccess != null) {
+                    onSuccess.accept(response.body());
+                }
+            } finally {
+                inFlight.decrementAndGet();
+                outstanding.decrementAndGet();
+            }
+        });
+    }
+
+    private HttpRequest submitRequest(int[] answerArray) {
+        StringBuilder body = new StringBuilder(answerArray.length * 2 + 16).append("{\"answers\":[");
+        for (int i = 0; i < answerArray.length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(answerArray[i]);
+        }
+        body.append("]}");
+
+        String query = (options.school() != null)
+                ? "?school=" + URLEncoder.encode(options.school(), StandardCharsets.UTF_8) : "";
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/results" + query))
+                .timeout(options.timeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private HttpRequest viewRequest(String id) {
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/results/" + id))
+                .timeout(options.timeout())
+                .GET()
+                .build();
+    }
+
+    /**
+     * 제출 응답의 결과 id 를 최근 결과 목록에 저장 (응답 본문 앞부분의 "id" 만 읽음)
+     */
+    private void rememberId(byte[] body) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("id".equals(field)) {
+                    long sequence = storedIds.get();
+                    recentIds.set((int) (sequence % RECENT_IDS), parser.getText());
+                    storedIds.incrementAndGet();
+                    return;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // id 를 읽지 못한 응답은 조회 대상에서 제외
+        }
+    }
+
+    /**
+     * 최근 결과 중 하나 (아직 없으면 null 이므로 제출로 대신함)
+     */
+    private String pickRecentId() {
+        long stored = storedIds.get();
+        if (stored == 0) {
+            return null;
+        }
+        int window = (int) Math.min(stored, RECENT_IDS);
+        long sequence = stored - 1 - random.nextInt(window);
+        return recentIds.get((int) (sequence % RECENT_IDS));
+    }
+
+    /**
+     * 앱 실행 여부와 질문 수 확인
+     */
+    private boolean checkTarget() throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/questions"))
+                .timeout(options.timeout())
+                .GET()
+                .build();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            int total = objectMapper.readTree(response.body()).path("total").asInt(-1);
+            if (total != answers.questionCount()) {
+                System.err.printf("앱의 질문 수(%d)와 %s 의 질문 수(%d)가 다릅니다.%n",
+                        total, options.questions(), answers.questionCount());
+                return false;
+            }
+            return true;
+        } catch (ConnectException e) {
+            System.err.printf("앱에 연결할 수 없습니다: %s (gradle bootRun 으로 먼저 실행하세요)%n", options.baseUrl());
+            return false;
+        } catch (IOException e) {
+            System.err.printf("앱 확인 실패: %s%n", e.getMessage());
+            return false;
+        }
+    }
+
+    private long nextInterval(double rate) {
+        // 포아송 도착: 지수 분포 간격
+        return (long) (-Math.log(1 - random.nextDouble()) / rate * 1e9);
+    }
+
+    private static void parkUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static LoadReport.PhaseReport phaseReport(String name, double durationSeconds, double targetRate,
+                                                      double viewFraction, double elapsedSeconds,
+                                                      RequestStats submit, RequestStats view) {
+        Map<String, LoadReport.RequestReport> requests = new LinkedHashMap<>();
+        requests.put("submit", submit.report());
+        requests.put("view", view.report());
+        long completed = requests.values().stream().mapToLong(LoadReport.RequestReport::count).sum();
+        return new LoadReport.PhaseReport(name, durationSeconds, targetRate, viewFraction,
+                round(completed / elapsedSeconds), requests);
+    }
+
+    private static void print(LoadReport.PhaseReport report) {
+        System.out.printf("구간 %s 완료: 실제 초당 %.1f건%n", report.name(), report.achievedRate());
+        report.requests().forEach((type, request) -> System.out.printf(
+                "  %-6s %7d건 (오류 %d, 미전송 %d)  p50 %.2fms  p99 %.2fms  p99.9 %.2fms  max %.2fms  %s%n",
+                type, request.count(), request.errors(), request.dropped(), request.latency().p50(),
+                request.latency().p99(), request.latency().p999(), request.latency().max(), request.outcomes()));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
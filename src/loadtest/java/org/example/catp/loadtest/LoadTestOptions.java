@@ -0,0 +1,128 @@
+package org.example.catp.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트 옵션 (--이름=값)
+ *
+ * @param baseUrl 대상 앱 주소
+ * @param questions 답변 생성에 쓸 질문 파일 (앱의 질문 수와 같아야 함)
+ * @param school 추천 기준 학교 코드 (없으면 기본 학교)
+ * @param phases 순서대로 실행할 구간
+ * @param maxInFlight 응답 대기 중인 요청 상한 (넘는 도착은 보내지 않고 dropped 로 집계)
+ * @param timeout 요청 하나의 응답 제한 시간
+ * @param seed 도착 간격/답변 생성 난수 시드 (같으면 같은 요청 순서)
+ * @param output 결과 JSON 파일
+ */
+record LoadTestOptions(URI baseUrl, Path questions, String school, List<Phase> phases,
+                       int maxInFlight, Duration timeout, long seed, Path output) {
+
+    /** 구간 형식: 이름:기간@초당 도착 수/조회 비율 (예: submit:60s@800/0.1) */
+    private static final Pattern PHASE = Pattern.compile("([\\w-]+):(\\d+(?:ms|s|m))@(\\d+(?:\\.\\d+)?)/(\\d(?:\\.\\d+)?)");
+    private static final Pattern DURATION = Pattern.compile("(\\d+)(ms|s|m)");
+
+    static final String USAGE = """
+            사용법: gradle loadTest -PloadTestArgs="--이름=값 ..."
+              --base-url=http://localhost:8080   대상 앱 주소
+              --questions=src/main/resources/questions.json
+              --school=                          추천 기준 학교 코드 (없으면 기본 학교)
+              --rate=100                         초당 도착 수 (open model, 응답을 기다리지 않고 포아송 간격으로 도착)
+              --duration=60s                     실행 기간 (ms, s, m)
+              --view-fraction=0.3                도착 중 결과 조회(GET /api/results/{id}) 비율, 나머지는 제출
+              --phases=warmup:30s@100/0,submit:60s@800/0.05,view:30s@1500/0.9
+                                                 구간별 실행 (지정하면 rate, duration, view-fraction 무시)
+              --max-in-flight=5000               응답 대기 중인 요청 상한
+              --timeout=30s                      요청 응답 제한 시간
+              --seed=42                          난수 시드
+              --output=build/results/loadtest/results.json
+            """;
+
+    /**
+     * 부하 구간
+     *
+     * @param rate 초당 도착 수
+     * @param viewFraction 도착 중 결과 조회 비율 (0 ~ 1, 조회할 결과가 아직 없으면 제출)
+     */
+    record Phase(String name, Duration duration, double rate, double viewFraction) {
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 옵션이거나 값 형식이 잘못된 경우
+     */
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        String baseUrl = take(values, "base-url", "http://localhost:8080");
+        Path questions = Path.of(take(values, "questions", "src/main/resources/questions.json"));
+        String school = take(values, "school", "");
+        double rate = Double.parseDouble(take(values, "rate", "100"));
+        Duration duration = duration(take(values, "duration", "60s"));
+        double viewFraction = Double.parseDouble(take(values, "view-fraction", "0.3"));
+        String phaseSpec = take(values, "phases", "");
+        int maxInFlight = Integer.parseInt(take(values, "max-in-flight", "5000"));
+        Duration timeout = duration(take(values, "timeout", "30s"));
+        long seed = Long.parseLong(take(values, "seed", "42"));
+        Path output = Path.of(take(values, "output", "build/results/loadtest/results.json"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 옵션: " + values.keySet());
+        }
+
+        List<Phase> phases = new ArrayList<>();
+        if (phaseSpec.isBlank()) {
+            phases.add(phase("main", duration, rate, viewFraction));
+        } else {
+            for (String spec : phaseSpec.split(",")) {
+                Matcher matcher = PHASE.matcher(spec.trim());
+                if (!matcher.matches()) {
+                    throw new IllegalArgumentException("구간은 이름:기간@초당 도착 수/조회 비율 형식이어야 합니다: " + spec);
+                }
+                phases.add(phase(matcher.group(1), duration(matcher.group(2)),
+                        Double.parseDouble(matcher.group(3)), Double.parseDouble(matcher.group(4))));
+            }
+        }
+
+        String trimmedUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        return new LoadTestOptions(URI.create(trimmedUrl), questions, school.isBlank() ? null : school,
+                List.copyOf(phases), maxInFlight, timeout, seed, output);
+    }
+
+    private static Phase phase(String name, Duration duration, double rate, double viewFraction) {
+        if (rate <= 0 || duration.isZero() || viewFraction < 0 || viewFraction > 1) {
+            throw new IllegalArgumentException("구간 " + name + ": 도착 수와 기간은 0보다 크고, 조회 비율은 0 ~ 1 이어야 합니다.");
+        }
+        return new Phase(name, duration, rate, viewFraction);
+    }
+
+    private static Duration duration(String value) {
+        Matcher matcher = DURATION.matcher(value);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("기간은 숫자 + 단위(ms, s, m) 형식이어야 합니다: " + value);
+        }
+        long amount = Long.parseLong(matcher.group(1));
+        return switch (matcher.group(2)) {
+            case "ms" -> Duration.ofMillis(amount);
+            case "s" -> Duration.ofSeconds(amount);
+            default -> Duration.ofMinutes(amount);
+        };
+    }
+
+    private static String take(Map<String, String> values, String key, String defaultValue) {
+        String value = values.remove(key);
+        return (value != null) ? value : defaultValue;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.catp.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 구간, 한 요청 종류(제출/조회)의 응답 시간과 결과 집계 (응답 스레드에서 동시에 기록)
+ *
+ * 응답 시간(latency)은 요청을 보냈어야 할 예정 시각부터 재므로, 서버가 밀려 요청이 늦게 나간 시간도 포함합니다.
+ * (coordinated omission 보정) 실제로 보낸 시각부터 잰 시간은 serviceTime 으로 따로 기록합니다.
+ */
+final class RequestStats {
+
+    /** 기록 가능한 최대 응답 시간 (마이크로초, 1시간) */
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * 응답 하나 기록
+     *
+     * @param outcome HTTP 상태 코드 또는 예외 이름
+     * @param success 2xx 응답 여부
+     */
+    void record(long intendedNanos, long sentNanos, long completedNanos, String outcome, boolean success) {
+        latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos)));
+        serviceTime.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos)));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 응답 대기 요청이 상한을 넘어 보내지 못한 도착
+     */
+    void drop() {
+        dropped.increment();
+    }
+
+    /**
+     * 다른 집계를 더함 (전체 합계용)
+     */
+    void add(RequestStats other) {
+        latency.add(other.latency);
+        serviceTime.add(other.serviceTime);
+        other.outcomes.forEach((outcome, count) ->
+                outcomes.computeIfAbsent(outcome, key -> new LongAdder()).add(count.sum()));
+        errors.add(other.errors.sum());
+        dropped.add(other.dropped.sum());
+    }
+
+    LoadReport.RequestReport report() {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return new LoadReport.RequestReport(latency.getTotalCount(), errors.sum(), dropped.sum(), counts,
+                LoadReport.Latency.of(latency), LoadReport.Latency.of(serviceTime));
+    }
+}
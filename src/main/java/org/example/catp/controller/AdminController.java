@@ -0,0 +1,145 @@
+package org.example.catp.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.service.catalog.CatalogReloader;
+import org.example.catp.service.profiling.FlightRecordingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 운영자용 API (X-Admin-Token 헤더가 catp.admin.token 과 같아야 하며, 토큰이 설정되지 않으면 모두 거부)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    /** 재적재 결과를 기다리는 최대 시간 (넘으면 202 로 응답하고 재적재는 계속 진행) */
+    private static final Duration RELOAD_WAIT = Duration.ofSeconds(30);
+
+    private final CatalogReloader catalogReloader;
+    private final FlightRecordingService flightRecordingService;
+    private final byte[] adminToken;
+
+    public AdminController(CatalogReloader catalogReloader,
+                           FlightRecordingService flightRecordingService,
+                           @Value("${catp.admin.token:}") String adminToken) {
+        this.catalogReloader = catalogReloader;
+        this.flightRecordingService = flightRecordingService;
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 카탈로그 재적재 (감시 폴더가 있으면 폴더의 파일을, 없으면 DB의 현재 데이터를 반영)
+     * 검증에 실패한 파일이 있으면 422 와 함께 파일별 결과를 반환하며, 실패한 카탈로그는 기존 버전을 유지합니다.
+     */
+    @PostMapping("/catalogs/reload")
+    public ResponseEntity<?> reloadCatalogs(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+
+        try {
+            List<CatalogReloader.ReloadReport> reports =
+                    catalogReloader.reloadAll().get(RELOAD_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+            boolean failed = reports.stream().anyMatch(report -> !report.succeeded());
+            return ResponseEntity.status(failed ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.OK)
+                    .body(Map.of("reports", reports));
+        } catch (TimeoutException e) {
+            return ResponseEntity.accepted().body(Map.of("status", "재적재가 진행 중입니다. 결과는 서버 로그에서 확인하세요."));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "재적재 대기가 중단되었습니다."));
+        } catch (ExecutionException e) {
+            log.error("카탈로그 재적재 실패", e.getCause());
+            return ResponseEntity.internalServerError().body(Map.of("error", e.getCause().getMessage()));
+        }
+    }
+
+    // ========== JFR 녹화 ==========
+
+    /**
+     * 진행 중인 녹화 상태 (녹화 중이 아니면 state 가 NONE)
+     */
+    @GetMapping("/recordings")
+    public ResponseEntity<?> recordingStatus(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        return flightRecordingService.status()
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.ok(Map.of("state", "NONE")));
+    }
+
+    /**
+     * 녹화 시작 (?settings=profile 이면 메서드 샘플링 등 상세 설정, 기본은 상시 녹화용 default)
+     */
+    @PostMapping("/recordings/start")
+    public ResponseEntity<?> startRecording(@RequestHeader(value = "X-Admin-Token", required = false) String token,
+                                            @RequestParam(value = "settings", defaultValue = "default") String settings) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        return recording(() -> flightRecordingService.start(settings));
+    }
+
+    /**
+     * 녹화는 계속하면서 지금까지의 내용을 서버의 파일로 저장
+     */
+    @PostMapping("/recordings/dump")
+    public ResponseEntity<?> dumpRecording(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        return recording(flightRecordingService::dump);
+    }
+
+    /**
+     * 녹화를 멈추고 내용을 서버의 파일로 저장
+     */
+    @PostMapping("/recordings/stop")
+    public ResponseEntity<?> stopRecording(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        return recording(flightRecordingService::stop);
+    }
+
+    private interface RecordingAction {
+        Object run() throws IOException;
+    }
+
+    private ResponseEntity<?> recording(RecordingAction action) {
+        try {
+            return ResponseEntity.ok(action.run());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            log.error("JFR 녹화 처리 실패", e);
+            return ResponseEntity.internalServerError().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    private ResponseEntity<?> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자 토큰이 올바르지 않습니다."));
+    }
+
+    private boolean authorized(String token) {
+        return adminToken.length > 0 && token != null
+                && MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,21 +1,40 @@
 package org.example.catp.controller;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.dto.BatchResultSummary;
+import org.example.catp.dto.SessionAnswerRequest;
 import org.example.catp.entity.Question;
 import org.example.catp.entity.TestResult;
-import org.example.catp.repository.QuestionRepository;
-import org.example.catp.repository.TestResultRepository;
+import org.example.catp.service.BatchResultService;
 import org.example.catp.service.CareerService;
+import org.example.catp.service.cache.ResultResponseCache;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.catalog.UnknownSchoolException;
+import org.example.catp.service.metrics.PipelineMetrics;
+import org.example.catp.service.serializer.AnalysisResultWriter;
+import org.example.catp.service.serializer.SerializedResult;
+import org.example.catp.service.session.TestSession;
+import org.example.catp.service.session.TestSessionService;
+import org.example.catp.service.storage.DatabaseBusyException;
+import org.example.catp.service.storage.ResultQueueFullException;
+import org.example.catp.service.storage.TestResultCodec;
+import org.example.catp.service.storage.TestResultWriteBehind;
 import org.example.catp.util.IdGenerator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -23,98 +42,301 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ApiController {
 
-    private final QuestionRepository questionRepository;
-    private final TestResultRepository testResultRepository;
+    private final QuestionCatalog questionCatalog;
     private final CareerService careerService;
+    private final AnalysisResultWriter analysisResultWriter;
+    private final TestResultCodec testResultCodec;
+    private final TestResultWriteBehind testResultWriteBehind;
+    private final IdGenerator idGenerator;
+    private final ResultResponseCache resultResponseCache;
+    private final BatchResultService batchResultService;
+    private final TestSessionService testSessionService;
     private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
 
     @GetMapping("/questions")
     public Map<String, Object> getQuestions() {
-        List<Question> questions = questionRepository.findAllByOrderByQuestionOrderAsc();
+        List<Question> questions = questionCatalog.current().questions();
         return Map.of("questions", questions, "total", questions.size());
     }
 
+    /**
+     * 검사 제출 (?school= 로 추천 기준 학교 선택, 없으면 기본 학교)
+     */
     @PostMapping("/results")
-    public ResponseEntity<Map<String, Object>> submitTest(@RequestBody Map<String, List<Integer>> payload) {
+    public ResponseEntity<?> submitTest(@RequestBody Map<String, List<Integer>> payload,
+                                        @RequestParam(value = "school", required = false) String school) {
         try {
             List<Integer> answers = payload.get("answers");
 
-            // ✅ [핵심 수정] 하드코딩된 20 제거 -> DB의 실제 질문 개수와 비교
-            long totalQuestions = questionRepository.count();
+            // ✅ [핵심 수정] 하드코딩된 20 제거 -> 현재 질문 스냅샷의 개수와 비교
+            long totalQuestions = questionCatalog.current().size();
 
             if (answers == null || answers.size() != totalQuestions) {
                 return ResponseEntity.badRequest().body(Map.of("error", "답변 개수가 질문 개수(" + totalQuestions + "개)와 일치하지 않습니다."));
             }
 
             // 서비스 로직 실행
-            Map<String, Object> analysisResult = careerService.analyzeTest(answers);
+            AnalysisResult analysisResult = careerService.analyzeTest(school, answers);
 
-            // 결과 저장 (Entity 생성)
-            TestResult testResult = new TestResult();
-            String resultId = IdGenerator.generate();
+            return saveAndRespond(school, answers, analysisResult);
 
-            // ID 중복 체크
-            while(testResultRepository.existsById(resultId)) {
-                resultId = IdGenerator.generate();
-            }
+        } catch (UnknownSchoolException e) {
+            return schoolNotFound(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (ResultQueueFullException e) {
+            log.debug("결과 저장 대기열 포화: {}", testResultWriteBehind.stats());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (DatabaseBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("결과 처리 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+        }
+    }
 
-            testResult.setId(resultId);
-            testResult.setPersonalityType((String) analysisResult.get("personality"));
+    // ========== 검사 세션 (답변을 나누어 제출) ==========
 
-            // JSON 변환 후 저장
-            testResult.setUserAnswers(objectMapper.writeValueAsString(answers));
-            testResult.setUserScores(objectMapper.writeValueAsString(analysisResult.get("scores")));
-            testResult.setInterestTags(objectMapper.writeValueAsString(analysisResult.get("interest_tags")));
-            testResult.setTopDepartments(objectMapper.writeValueAsString(analysisResult.get("top_departments")));
-            testResult.setWorstDepartments(objectMapper.writeValueAsString(analysisResult.get("worst_departments")));
-            testResult.setSimilarDepartments(objectMapper.writeValueAsString(analysisResult.get("similar_departments")));
+    @PostMapping("/sessions")
+    public ResponseEntity<?> createSession(@RequestParam(value = "school", required = false) String school) {
+        try {
+            TestSession session = testSessionService.create(school);
+            return ResponseEntity.ok(Map.of(
+                    "session_id", session.id(),
+                    "total", session.total(),
+                    "ttl_seconds", testSessionService.ttl().toSeconds()
+            ));
+        } catch (UnknownSchoolException e) {
+            return schoolNotFound(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (DatabaseBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        }
+    }
 
-            testResultRepository.save(testResult);
+    /**
+     * 한 문항 또는 한 페이지의 답변 반영 (preview 가 true 이면 임시 추천 학과 포함)
+     */
+    @PostMapping("/sessions/{sessionId}/answers")
+    public ResponseEntity<?> answerSession(@PathVariable String sessionId, @RequestBody SessionAnswerRequest request) {
+        Optional<TestSession> found = testSessionService.find(sessionId);
+        if (found.isEmpty()) {
+            return sessionNotFound();
+        }
+        TestSession session = found.get();
 
-            Map<String, Object> response = new HashMap<>(analysisResult);
-            response.put("id", resultId);
+        try {
+            if (request.answers() == null || request.answers().isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "답변(answers)이 비어 있습니다."));
+            }
+            session.answer(request.from(), request.answers());
 
+            Map<String, Object> response = new HashMap<>();
+            response.put("answered", session.answered());
+            response.put("total", session.total());
+            if (request.preview()) {
+                List<Map<String, Object>> preview = testSessionService.preview(session).stream()
+                        .map(match -> Map.<String, Object>of(
+                                "id", match.department().getId(),
+                                "name", match.department().getName(),
+                                "match_percentage", match.matchPercentage()))
+                        .toList();
+                response.put("provisional_top_departments", preview);
+            }
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 최종 제출 (응답 형식은 POST /results 와 같음)
+     */
+    @PostMapping("/sessions/{sessionId}/submit")
+    public ResponseEntity<?> submitSession(@PathVariable String sessionId) {
+        Optional<TestSession> found = testSessionService.find(sessionId);
+        if (found.isEmpty()) {
+            return sessionNotFound();
+        }
+
+        try {
+            // 결과가 저장된 뒤에만 세션이 닫히므로, 아래 오류로 실패하면 같은 세션으로 다시 제출 가능
+            TestSession session = found.get();
+            return testSessionService.complete(session,
+                    completed -> saveAndRespond(session.school(), completed.answers(), completed.result()));
+
+        } catch (UnknownSchoolException e) {
+            return schoolNotFound(e);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (ResultQueueFullException e) {
+            log.debug("결과 저장 대기열 포화: {}", testResultWriteBehind.stats());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (DatabaseBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            log.error("결과 처리 중 오류 발생", e);
-            return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+            log.error("검사 세션 제출 처리 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * 반 단위 일괄 제출 ({"answers": [[...], [...]]})
+     * 결과 전체 대신 id 와 요약만 반환합니다. 응답 형식은 Accept 로 고르며(JSON 또는 NDJSON, 둘 다 받지 않으면 406),
+     * 둘 다 받을 수 있으면 건수가 많을 때 NDJSON 으로 한 줄에 한 건씩 보냅니다.
+     * 요약은 전체 저장이 커밋된 뒤에 쓰기 시작하므로, NDJSON 도 첫 줄이 빨리 오지는 않고 응답 본문을 한 번에 만들지 않는 효과만 있습니다.
+     */
+    @PostMapping("/results/batch")
+    public ResponseEntity<StreamingResponseBody> submitBatch(
+            @RequestBody Map<String, List<List<Integer>>> payload,
+            @RequestParam(value = "school", required = false) String school,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        try {
+            // 저장 전에 응답 형식부터 결정 (406 인데 결과만 저장되지 않도록)
+            List<List<Integer>> answerSets = payload.get("answers");
+            MediaType responseType = batchResponseType(accept, answerSets == null ? 0 : answerSets.size());
+            if (responseType == null) {
+                return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+            }
+
+            List<BatchResultSummary> summaries = batchResultService.submit(school, answerSets);
+            if (MediaType.APPLICATION_JSON.equals(responseType)) {
+                return json(HttpStatus.OK, Map.of("results", summaries, "total", summaries.size()));
+            }
+
+            StreamingResponseBody body = out -> {
+                for (BatchResultSummary summary : summaries) {
+                    out.write(objectMapper.writeValueAsBytes(summary));
+                    out.write('\n');
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(body);
+
+        } catch (UnknownSchoolException e) {
+            return json(HttpStatus.NOT_FOUND, Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return json(HttpStatus.BAD_REQUEST, Map.of("error", e.getMessage()));
+        } catch (DatabaseBusyException e) {
+            return json(HttpStatus.SERVICE_UNAVAILABLE, Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("일괄 제출 처리 중 오류 발생", e);
+            return json(HttpStatus.INTERNAL_SERVER_ERROR, Map.of("error", String.valueOf(e.getMessage())));
         }
     }
 
-    // ... (getResult 메서드는 기존 유지) ...
     @GetMapping("/results/{id}")
-    public ResponseEntity<?> getResult(@PathVariable String id) {
-        return testResultRepository.findById(id)
-                .map(result -> {
-                    try {
-                        Map<String, Object> response = new HashMap<>();
-                        response.put("id", result.getId());
-                        response.put("personality", result.getPersonalityType());
-                        response.put("created_at", result.getCreatedAt());
-
-                        response.put("scores", objectMapper.readValue(result.getUserScores(), new TypeReference<List<Double>>(){}));
-                        response.put("interest_tags", objectMapper.readValue(result.getInterestTags(), new TypeReference<List<String>>(){}));
-                        response.put("top_departments", objectMapper.readValue(result.getTopDepartments(), new TypeReference<List<Map<String, Object>>>(){}));
-                        response.put("worst_departments", objectMapper.readValue(result.getWorstDepartments(), new TypeReference<List<Map<String, Object>>>(){}));
-
-                        // similar_departments null 체크
-                        if (result.getSimilarDepartments() != null) {
-                            response.put("similar_departments", objectMapper.readValue(result.getSimilarDepartments(), new TypeReference<List<Map<String, Object>>>(){}));
-                        } else {
-                            response.put("similar_departments", List.of());
+    public ResponseEntity<?> getResult(@PathVariable String id,
+                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            return resultResponseCache.get(id)
+                    .map(cached -> {
+                        // 이미 같은 응답을 가진 클라이언트에는 본문 없이 304
+                        if (cached.matches(ifNoneMatch)) {
+                            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.etag()).build();
                         }
+                        return ResponseEntity.ok()
+                                .eTag(cached.etag())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body((Object) cached.body());
+                    })
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (DatabaseBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("데이터 파싱 오류", e);
+            return ResponseEntity.internalServerError().body(Map.of("error", "데이터 처리 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 일괄 제출 응답 형식 선택
+     * 각 형식에 가장 구체적으로 맞는 Accept 항목의 품질값(q)이 높은 쪽, 같으면 더 구체적으로 지정된 쪽을 고르고,
+     * 그것도 같으면(Accept 가 없거나 같은 와일드카드) 건수가 기준을 넘을 때 NDJSON 을 고릅니다.
+     *
+     * @return JSON 과 NDJSON 모두 받지 않으면 null
+     */
+    private MediaType batchResponseType(String accept, int batchSize) {
+        List<MediaType> accepted;
+        try {
+            accepted = (accept == null || accept.isBlank()) ? List.of(MediaType.ALL) : MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            accepted = List.of(MediaType.ALL);
+        }
+        MediaType json = bestMatch(accepted, MediaType.APPLICATION_JSON);
+        MediaType ndjson = bestMatch(accepted, MediaType.APPLICATION_NDJSON);
+        double jsonQuality = (json == null) ? 0 : json.getQualityValue();
+        double ndjsonQuality = (ndjson == null) ? 0 : ndjson.getQualityValue();
+
+        if (jsonQuality == 0 && ndjsonQuality == 0) {
+            return null;
+        }
+        if (jsonQuality != ndjsonQuality) {
+            return (ndjsonQuality > jsonQuality) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        }
+        if (specificity(json) != specificity(ndjson)) {
+            return (specificity(ndjson) > specificity(json)) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        }
+        return batchResultService.shouldStream(batchSize) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Accept 항목 중 type 에 해당하는 가장 구체적인 항목 (없으면 null)
+     */
+    private static MediaType bestMatch(List<MediaType> accepted, MediaType type) {
+        MediaType best = null;
+        for (MediaType range : accepted) {
+            if (range.includes(type) && (best == null || specificity(range) > specificity(best))) {
+                best = range;
+            }
+        }
+        return best;
+    }
+
+    private static int specificity(MediaType range) {
+        return range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+    }
+
+    /**
+     * 스트리밍 응답 메서드에서 일반 JSON 본문을 보낼 때 사용
+     */
+    private ResponseEntity<StreamingResponseBody> json(HttpStatus status, Object body) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(objectMapper.writeValueAsBytes(body)));
+    }
+
+    /**
+     * 분석 결과 저장 + 제출 응답 생성
+     */
+    private ResponseEntity<?> saveAndRespond(String school, List<Integer> answers, AnalysisResult analysisResult) throws Exception {
+        // 결과 ID 생성 (시각 + 노드 번호 + 순번으로 중복이 없으므로 DB 확인 불필요)
+        String resultId = idGenerator.generate();
+
+        // 응답 본문은 한 번만 직렬화하고, DB에는 학과 참조만 담은 압축 형식으로 비동기 저장
+        SerializedResult serialized = analysisResultWriter.write(resultId, analysisResult);
+        TestResult testResult = testResultCodec.encode(resultId, school, answers, analysisResult);
+        pipelineMetrics.run(PipelineMetrics.Stage.RESULT_SAVE, () -> testResultWriteBehind.submit(testResult));
+
+        // 공유 링크 조회에 대비해 조회 응답도 미리 만들어 캐시
+        resultResponseCache.put(testResult, analysisResult);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(serialized.body());
+    }
+
+    private ResponseEntity<?> sessionNotFound() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "검사 세션이 없거나 만료되었습니다."));
+    }
 
-                        Map<String, String> summary = new HashMap<>();
-                        summary.put("personality", result.getPersonalityType() + " 학생입니다.");
-                        response.put("summary", summary);
-
-                        return ResponseEntity.ok(response);
-                    } catch (Exception e) {
-                        log.error("데이터 파싱 오류", e);
-                        return ResponseEntity.internalServerError().body((Object) Map.of("error", "데이터 처리 중 오류가 발생했습니다."));
-                    }
-                })
-                .orElse(ResponseEntity.notFound().build());
+    private ResponseEntity<?> schoolNotFound(UnknownSchoolException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package org.example.catp.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.List;
+
+/**
+ * 검사 분석 결과 (불변)
+ *
+ * @param scores 10가지 적성 점수 (AptitudeType 인덱스 순서)
+ * @param interestTags 필터링된 관심사 태그
+ * @param personality 성향 유형 (예: "논리형 인재")
+ * @param topDepartments 추천 학과 (점수 높은 순)
+ * @param worstDepartments 비추천 학과 (점수 낮은 순)
+ * @param similarDepartments 관심사 기반 유사 학과
+ * @param summary 결과 요약 문구
+ */
+@JsonPropertyOrder({"personality", "scores", "interest_tags",
+        "top_departments", "worst_departments", "similar_departments", "summary"})
+public record AnalysisResult(
+        @JsonProperty("scores") double[] scores,
+        @JsonProperty("interest_tags") List<String> interestTags,
+        @JsonProperty("personality") String personality,
+        @JsonProperty("top_departments") List<DepartmentMatch> topDepartments,
+        @JsonProperty("worst_departments") List<DepartmentMatch> worstDepartments,
+        @JsonProperty("similar_departments") List<DepartmentMatch> similarDepartments,
+        @JsonProperty("summary") Summary summary
+) {
+
+    /**
+     * 분석 결과 캐시가 같은 인스턴스를 여러 요청에 돌려주므로 변경할 수 없게 보관
+     * (점수 배열은 들어올 때와 나갈 때 복사, 목록은 불변 목록으로 복사)
+     */
+    public AnalysisResult {
+        scores = scores.clone();
+        interestTags = List.copyOf(interestTags);
+        topDepartments = List.copyOf(topDepartments);
+        worstDepartments = List.copyOf(worstDepartments);
+        similarDepartments = List.copyOf(similarDepartments);
+    }
+
+    @Override
+    public double[] scores() {
+        return scores.clone();
+    }
+}
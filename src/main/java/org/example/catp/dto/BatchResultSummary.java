@@ -0,0 +1,19 @@
+package org.example.catp.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 일괄 제출 결과 한 건 (전체 결과는 id 로 조회)
+ *
+ * @param index 요청의 답변 목록에서의 순서 (0부터)
+ * @param id 저장된 결과 ID
+ * @param personality 성향 유형
+ * @param summary 결과 요약 문구
+ */
+public record BatchResultSummary(
+        @JsonProperty("index") int index,
+        @JsonProperty("id") String id,
+        @JsonProperty("personality") String personality,
+        @JsonProperty("summary") Summary summary
+) {
+}
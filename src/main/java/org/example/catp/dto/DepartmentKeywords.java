@@ -0,0 +1,141 @@
+package org.example.catp.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.util.KeywordAutomaton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 학과 계열 추론과 태그 추출에 쓰는 키워드 표 (리소스 /department-keywords.json)
+ * 계열 키워드와 태그 키워드를 각각 하나의 오토마톤으로 만들어 두고, 학과 이름/설명을 한 번만 훑어 모든 키워드를 찾습니다.
+ * 불변이므로 가져오기 작업을 여러 스레드에서 나누어 실행해도 같은 인스턴스를 공유합니다.
+ *
+ * 규칙은 기존과 같습니다.
+ *   - 계열: 파일에 적힌 계열 순서대로 키워드 하나라도 이름에 포함된 첫 계열 (없으면 defaultCategory)
+ *   - 태그: 소문자로 바꾼 설명 전체에 포함된 키워드의 태그 합집합
+ */
+public final class DepartmentKeywords {
+
+    public static final String RESOURCE = "/department-keywords.json";
+
+    private final List<String> categoryNames;
+    private final String defaultCategory;
+    /** 계열 키워드 번호 → 계열 번호 (키워드는 계열 순서로 번호를 매기므로 가장 작은 키워드 번호가 첫 계열) */
+    private final int[] keywordCategories;
+    private final KeywordAutomaton categoryKeywords;
+
+    /** 태그 키워드 번호 → 태그 목록 */
+    private final List<List<String>> keywordTags;
+    private final KeywordAutomaton tagKeywords;
+
+    private final byte[] digest;
+
+    /** 리소스 파일 형식 */
+    private record Source(List<Category> categories, String defaultCategory, LinkedHashMap<String, List<String>> tags) {
+    }
+
+    private record Category(String name, List<String> keywords) {
+    }
+
+    private DepartmentKeywords(Source source, byte[] digest) {
+        this.categoryNames = source.categories().stream().map(Category::name).toList();
+        this.defaultCategory = source.defaultCategory();
+
+        List<String> categoryKeywordList = new ArrayList<>();
+        List<Integer> categoryIndex = new ArrayList<>();
+        for (int c = 0; c < source.categories().size(); c++) {
+            for (String keyword : source.categories().get(c).keywords()) {
+                categoryKeywordList.add(keyword);
+                categoryIndex.add(c);
+            }
+        }
+        this.keywordCategories = categoryIndex.stream().mapToInt(Integer::intValue).toArray();
+        this.categoryKeywords = new KeywordAutomaton(categoryKeywordList);
+
+        // 기존 구현의 태그 순서(HashSet 삽입 순서)를 그대로 유지하려고 같은 순서로 넣은 HashMap 의 순회 순서로 번호를 매김
+        Map<String, List<String>> hashed = new HashMap<>();
+        source.tags().forEach(hashed::put);
+        List<String> tagKeywordList = new ArrayList<>(hashed.size());
+        List<List<String>> tags = new ArrayList<>(hashed.size());
+        hashed.forEach((keyword, values) -> {
+            tagKeywordList.add(keyword);
+            tags.add(List.copyOf(values));
+        });
+        this.keywordTags = List.copyOf(tags);
+        this.tagKeywords = new KeywordAutomaton(tagKeywordList);
+
+        this.digest = digest;
+    }
+
+    /**
+     * 기본 키워드 표 (처음 사용할 때 리소스에서 한 번 읽음)
+     */
+    public static DepartmentKeywords standard() {
+        return Holder.STANDARD;
+    }
+
+    /**
+     * 키워드 표 파일 내용으로 생성
+     */
+    public static DepartmentKeywords load(byte[] content, ObjectMapper objectMapper) throws IOException {
+        Source source = objectMapper.readValue(content, Source.class);
+        if (source.categories() == null || source.defaultCategory() == null || source.tags() == null) {
+            throw new IOException("키워드 표에는 categories, defaultCategory, tags 가 모두 있어야 합니다.");
+        }
+        try {
+            return new DepartmentKeywords(source, MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 학과 이름으로 계열 추론
+     */
+    public String inferCategory(String name) {
+        int keyword = categoryKeywords.findFirst(name);
+        return (keyword >= 0) ? categoryNames.get(keywordCategories[keyword]) : defaultCategory;
+    }
+
+    /**
+     * 적성 설명에서 태그 추출
+     */
+    public List<String> extractTags(List<String> descriptions) {
+        // 리스트 설명글을 하나의 문자열로 합쳐서 검사
+        String combinedText = String.join(" ", descriptions).toLowerCase();
+
+        Set<String> tags = new HashSet<>();
+        BitSet found = tagKeywords.find(combinedText);
+        for (int k = found.nextSetBit(0); k >= 0; k = found.nextSetBit(k + 1)) {
+            tags.addAll(keywordTags.get(k));
+        }
+        return new ArrayList<>(tags);
+    }
+
+    /**
+     * 키워드 표 파일의 SHA-256 (카탈로그 번들이 같은 표로 만들어졌는지 확인용)
+     */
+    public byte[] digest() {
+        return digest.clone();
+    }
+
+    private static final class Holder {
+        private static final DepartmentKeywords STANDARD = loadStandard();
+
+        private static DepartmentKeywords loadStandard() {
+            try (InputStream in = DepartmentKeywords.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("키워드 표 리소스가 없습니다: " + RESOURCE);
+                }
+                return load(in.readAllBytes(), new ObjectMapper());
+            } catch (IOException e) {
+                throw new UncheckedIOException("키워드 표를 읽을 수 없습니다: " + RESOURCE, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.catp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.example.catp.entity.Department;
+import org.example.catp.service.strategy.MatchReason;
+
+import java.util.List;
+
+/**
+ * 학과 하나에 대한 매칭 결과
+ *
+ * @param department 학과 엔티티
+ * @param matchPercentage 일치율 (100점 만점, 소수점 첫째 자리)
+ * @param reason 추천 사유
+ * @param mismatchReason 과락 사유 (과락이 없으면 null)
+ * @param commonTags 사용자와 학과의 공통 관심사 태그 (없으면 null)
+ * @param matchReason 추천 사유 코드 (결과 저장용, 응답에는 포함하지 않음)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DepartmentMatch(
+        @JsonProperty("department") Department department,
+        @JsonProperty("match_percentage") double matchPercentage,
+        @JsonProperty("reason") String reason,
+        @JsonProperty("mismatch_reason") String mismatchReason,
+        @JsonProperty("common_tags") List<String> commonTags,
+        @JsonIgnore MatchReason matchReason
+) {
+
+    public DepartmentMatch {
+        commonTags = (commonTags != null) ? List.copyOf(commonTags) : null;
+    }
+}
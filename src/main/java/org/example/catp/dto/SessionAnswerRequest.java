@@ -0,0 +1,19 @@
+package org.example.catp.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 검사 세션 답변 요청 (한 문항 또는 한 페이지)
+ *
+ * @param from 첫 답변의 문항 번호 (0부터)
+ * @param answers from번째 문항부터 차례로의 답변 (1 ~ 5)
+ * @param preview true 이면 지금까지의 답변 기준 추천 학과도 함께 반환
+ */
+public record SessionAnswerRequest(
+        @JsonProperty("from") int from,
+        @JsonProperty("answers") List<Integer> answers,
+        @JsonProperty("preview") boolean preview
+) {
+}
@@ -0,0 +1,21 @@
+package org.example.catp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 결과 요약 문구
+ *
+ * @param personality 성향 요약
+ * @param strength 강점 요약
+ * @param interest 관심사 요약 (관심사 태그가 없으면 null)
+ * @param topDepartment 1순위 학과 요약 (추천 학과가 없으면 null)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Summary(
+        @JsonProperty("personality") String personality,
+        @JsonProperty("strength") String strength,
+        @JsonProperty("interest") String interest,
+        @JsonProperty("top_department") String topDepartment
+) {
+}
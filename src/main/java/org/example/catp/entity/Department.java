@@ -1,11 +1,12 @@
 package org.example.catp.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "departments")
+@Table(name = "departments", uniqueConstraints = @UniqueConstraint(columnNames = {"school", "name"}))
 @Data
 @NoArgsConstructor
 public class Department {
@@ -14,7 +15,7 @@ public class Department {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -29,4 +30,8 @@ public class Department {
     private String tags; // JSON 문자열
 
     private String category; // 계열 (예: "이공계")
+
+    @JsonIgnore
+    @Column(length = 50)
+    private String school; // 학교 코드 (null 이면 기본 학교, 응답에는 포함하지 않음)
 }
\ No newline at end of file
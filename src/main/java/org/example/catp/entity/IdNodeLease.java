@@ -0,0 +1,25 @@
+package org.example.catp.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "id_node_leases")
+@Data
+@NoArgsConstructor
+public class IdNodeLease {
+
+    @Id
+    private Integer nodeId; // 결과 ID에 들어가는 노드 번호 (0 ~ 1023)
+
+    @Column(nullable = false, length = 100)
+    private String owner; // 점유 중인 인스턴스 식별자
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt; // 마지막 갱신 시간, DB 시각 기준 (만료되면 다른 인스턴스가 가져갈 수 있음)
+
+    private Long reservedUntil; // 이 번호로 ID를 발급해도 되는 시각 상한 (epoch 밀리초, 다음 점유자는 이 이후로만 발급)
+}
@@ -8,20 +8,20 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "test_results")
+@Table(name = "test_results", indexes = @Index(name = "idx_test_results_created_at", columnList = "created_at, id"))
 @Data
 @NoArgsConstructor
 public class TestResult {
 
     @Id
     @Column(length = 20)
-    private String id; // 공유용 랜덤 ID (직접 생성해서 넣음)
+    private String id; // 공유용 ID (시각 순 13자리, 직접 생성해서 넣음)
 
     @Column(columnDefinition = "TEXT", nullable = false)
-    private String userAnswers; // 사용자가 선택한 답변 (JSON)
+    private String userAnswers; // 사용자가 선택한 답변 (3비트 압축, 기존 행은 JSON)
 
     @Column(columnDefinition = "TEXT", nullable = false)
-    private String userScores; // 계산된 10개 적성 점수 (JSON)
+    private String userScores; // 계산된 10개 적성 점수 (점수당 1글자, 기존 행은 JSON)
 
     @Column(columnDefinition = "TEXT")
     private String interestTags; // 도출된 관심사 태그 (JSON)
@@ -29,13 +29,16 @@ public class TestResult {
     private String personalityType; // 성향 유형 (예: "논리형")
 
     @Column(columnDefinition = "TEXT")
-    private String topDepartments; // 추천 학과 Top 3 결과 (JSON)
+    private String topDepartments; // 추천 학과 Top 3 결과 (학과 참조 목록, 기존 행은 JSON)
 
     @Column(columnDefinition = "TEXT")
-    private String worstDepartments; // 비추천 학과 결과 (JSON)
+    private String worstDepartments; // 비추천 학과 결과 (학과 참조 목록, 기존 행은 JSON)
 
     @Column(columnDefinition = "TEXT")
-    private String similarDepartments; // 관심사 기반 추천 학과 (JSON)
+    private String similarDepartments; // 관심사 기반 추천 학과 (학과 참조 목록, 기존 행은 JSON)
+
+    @Column(length = 50)
+    private String school; // 검사한 학교 코드 (null 이면 기본 학교, 조회 시 같은 학교 학과로 응답 조립)
 
     @CreationTimestamp
     private LocalDateTime createdAt; // 생성 시간 자동 기록
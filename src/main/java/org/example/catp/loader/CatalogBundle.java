@@ -0,0 +1,277 @@
+package org.example.catp.loader;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.entity.Department;
+import org.example.catp.entity.Question;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 빌드 시 카탈로그 JSON 을 미리 변환해 둔 바이너리 스냅샷 (jar 의 /catalog-bundle.bin, gradle compileCatalogBundle)
+ * 계열 추론, 태그 추출처럼 학과마다 문자열을 반복 검사하는 변환을 빌드 시 한 번만 수행하고,
+ * 시작 시에는 스트림으로 읽어 바로 저장할 행을 만듭니다.
+ *
+ * 형식 (DataOutput, big-endian)
+ *   magic "CATB", 형식 버전, 계열/태그 키워드 표 SHA-256
+ *   문자열 테이블: 개수, (UTF-8 바이트 수, 바이트)... (태그/계열/적성 유형은 한 번만 저장하고 레코드에는 번호만 기록, null = -1)
+ *   질문 구간 개수, 구간마다: 원본 경로, 원본 SHA-256, 질문 수, (내용, 적성 유형, 역문항, 순서, 태그들)...
+ *   학과 구간 개수, 구간마다: 원본 경로, 원본 SHA-256, 학교 코드, 학과 수, (이름, URL, 계열, 적성 설명들, 적성 점수들, 태그들)...
+ * 원본 SHA-256 이 현재 JSON 과 다르면 (IDE 에서 JSON 만 바뀐 경우 등) 그 구간은 쓰지 않고 JSON 을 읽으며,
+ * 키워드 표가 바뀐 경우에도 계열/태그가 달라지므로 학과 구간은 쓰지 않습니다.
+ */
+public final class CatalogBundle {
+
+    public static final String RESOURCE = "/catalog-bundle.bin";
+
+    private static final int MAGIC = 0x43415442; // "CATB"
+    private static final int FORMAT_VERSION = 2;
+
+    public record QuestionRecord(String text, String aptitudeType, boolean reverse, int order, List<String> tags) {
+
+        public Question toEntity(ObjectMapper objectMapper) {
+            Question question = new Question();
+            question.setQuestionText(text);
+            question.setAptitudeType(aptitudeType);
+            question.setReverse(reverse);
+            question.setQuestionOrder(order);
+            question.setTags(toJson(objectMapper, tags));
+            return question;
+        }
+    }
+
+    public record DepartmentRecord(String name, String url, String category, List<String> description,
+                                   List<Integer> aptitudeScores, List<String> tags) {
+
+        public Department toEntity(ObjectMapper objectMapper, String school) {
+            Department department = new Department();
+            department.setName(name);
+            department.setUrl(url);
+            department.setCategory(category);
+            department.setAptitudeScores(toJson(objectMapper, aptitudeScores));
+            department.setDescription(toJson(objectMapper, description));
+            department.setTags(toJson(objectMapper, tags));
+            department.setSchool(school);
+            return department;
+        }
+    }
+
+    public record QuestionSection(String source, byte[] digest, List<QuestionRecord> records) {
+    }
+
+    /**
+     * @param school 학교 코드 (기본 학교는 null)
+     */
+    public record DepartmentSection(String source, byte[] digest, String school, List<DepartmentRecord> records) {
+    }
+
+    private final byte[] keywordsDigest;
+    private final List<QuestionSection> questionSections;
+    private final List<DepartmentSection> departmentSections;
+
+    public CatalogBundle(byte[] keywordsDigest, List<QuestionSection> questionSections,
+                         List<DepartmentSection> departmentSections) {
+        this.keywordsDigest = keywordsDigest.clone();
+        this.questionSections = List.copyOf(questionSections);
+        this.departmentSections = List.copyOf(departmentSections);
+    }
+
+    /**
+     * 원본 경로와 내용이 모두 같은 질문 구간
+     */
+    public Optional<QuestionSection> questions(String source, byte[] content) {
+        byte[] digest = digest(content);
+        return questionSections.stream()
+                .filter(section -> section.source().equals(source) && Arrays.equals(section.digest(), digest))
+                .findFirst();
+    }
+
+    /**
+     * 학교 코드와 원본 내용이 같은 학과 구간 (학교 파일은 위치와 관계없이 파일 이름 = 학교 코드로 찾음)
+     */
+    public Optional<DepartmentSection> departments(String school, byte[] content) {
+        byte[] digest = digest(content);
+        return departmentSections.stream()
+                .filter(section -> Objects.equals(section.school(), school) && Arrays.equals(section.digest(), digest))
+                .findFirst();
+    }
+
+    /**
+     * 학과 구간의 계열/태그를 만들 때 쓴 키워드 표의 SHA-256
+     */
+    public byte[] keywordsDigest() {
+        return keywordsDigest.clone();
+    }
+
+    public List<QuestionSection> questionSections() {
+        return questionSections;
+    }
+
+    public List<DepartmentSection> departmentSections() {
+        return departmentSections;
+    }
+
+    public static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // --- 직렬화 ---
+
+    public void write(OutputStream out) throws IOException {
+        // 1. 레코드를 쓰면서 문자열 번호 부여
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(body);
+
+        records.writeInt(questionSections.size());
+        for (QuestionSection section : questionSections) {
+            writeString(records, strings, section.source());
+            records.write(section.digest());
+            records.writeInt(section.records().size());
+            for (QuestionRecord question : section.records()) {
+                writeString(records, strings, question.text());
+                writeString(records, strings, question.aptitudeType());
+                records.writeBoolean(question.reverse());
+                records.writeInt(question.order());
+                writeStrings(records, strings, question.tags());
+            }
+        }
+
+        records.writeInt(departmentSections.size());
+        for (DepartmentSection section : departmentSections) {
+            writeString(records, strings, section.source());
+            records.write(section.digest());
+            writeString(records, strings, section.school());
+            records.writeInt(section.records().size());
+            for (DepartmentRecord department : section.records()) {
+                writeString(records, strings, department.name());
+                writeString(records, strings, department.url());
+                writeString(records, strings, department.category());
+                writeStrings(records, strings, department.description());
+                records.writeInt(department.aptitudeScores().size());
+                for (int score : department.aptitudeScores()) {
+                    records.writeInt(score);
+                }
+                writeStrings(records, strings, department.tags());
+            }
+        }
+        records.flush();
+
+        // 2. 헤더 + 문자열 테이블 + 레코드
+        DataOutputStream output = new DataOutputStream(out);
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.write(keywordsDigest);
+        output.writeInt(strings.size());
+        for (String value : strings.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+        body.writeTo(output);
+        output.flush();
+    }
+
+    /**
+     * @throws IOException 형식이 다르거나 (다른 버전으로 빌드된 경우 포함) 내용이 잘린 경우
+     */
+    public static CatalogBundle read(InputStream in) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(in));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("카탈로그 번들 형식이 아닙니다.");
+        }
+        int version = input.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 카탈로그 번들 버전: " + version);
+        }
+        byte[] keywordsDigest = input.readNBytes(32);
+
+        String[] strings = new String[input.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        List<QuestionSection> questionSections = new ArrayList<>();
+        for (int s = input.readInt(); s > 0; s--) {
+            String source = readString(input, strings);
+            byte[] digest = input.readNBytes(32);
+            List<QuestionRecord> records = new ArrayList<>();
+            for (int n = input.readInt(); n > 0; n--) {
+                records.add(new QuestionRecord(readString(input, strings), readString(input, strings),
+                        input.readBoolean(), input.readInt(), readStrings(input, strings)));
+            }
+            questionSections.add(new QuestionSection(source, digest, records));
+        }
+
+        List<DepartmentSection> departmentSections = new ArrayList<>();
+        for (int s = input.readInt(); s > 0; s--) {
+            String source = readString(input, strings);
+            byte[] digest = input.readNBytes(32);
+            String school = readString(input, strings);
+            List<DepartmentRecord> records = new ArrayList<>();
+            for (int n = input.readInt(); n > 0; n--) {
+                String name = readString(input, strings);
+                String url = readString(input, strings);
+                String category = readString(input, strings);
+                List<String> description = readStrings(input, strings);
+                Integer[] scores = new Integer[input.readInt()];
+                for (int i = 0; i < scores.length; i++) {
+                    scores[i] = input.readInt();
+                }
+                records.add(new DepartmentRecord(name, url, category, description, List.of(scores), readStrings(input, strings)));
+            }
+            departmentSections.add(new DepartmentSection(source, digest, school, records));
+        }
+        return new CatalogBundle(keywordsDigest, questionSections, departmentSections);
+    }
+
+    private static void writeString(DataOutputStream out, Map<String, Integer> strings, String value) throws IOException {
+        out.writeInt((value != null) ? strings.computeIfAbsent(value, key -> strings.size()) : -1);
+    }
+
+    private static void writeStrings(DataOutputStream out, Map<String, Integer> strings, List<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, strings, value);
+        }
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException {
+        int id = in.readInt();
+        return (id >= 0) ? strings[id] : null;
+    }
+
+    private static List<String> readStrings(DataInputStream in, String[] strings) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in, strings));
+        }
+        return values;
+    }
+
+    private static String toJson(ObjectMapper objectMapper, Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.catp.loader;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.dto.DepartmentImportDto;
+import org.example.catp.dto.DepartmentKeywords;
+import org.example.catp.dto.QuestionImportDto;
+import org.example.catp.entity.Department;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 빌드 시 리소스 폴더의 카탈로그 JSON 을 CatalogBundle 로 컴파일합니다. (gradle compileCatalogBundle)
+ * 계열/태그는 실행 시 적재와 같은 결과가 나오도록 DepartmentImportDto 의 변환 로직과 키워드 표를 그대로 사용합니다.
+ * (키워드 표는 classpath 의 /department-keywords.json 에서 읽으므로 리소스 폴더가 classpath 에 있어야 합니다)
+ *
+ * 사용법: CatalogBundleCompiler <리소스 폴더> <출력 파일>
+ */
+public final class CatalogBundleCompiler {
+
+    static final String QUESTIONS_SOURCE = "questions.json";
+    static final String DEPARTMENTS_SOURCE = "jj_departments_with_scores.json";
+    static final String SCHOOL_DIRECTORY = "catalogs";
+
+    private CatalogBundleCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("사용법: CatalogBundleCompiler <리소스 폴더> <출력 파일>");
+        }
+        Path output = Path.of(args[1]);
+        CatalogBundle bundle = compile(Path.of(args[0]), new ObjectMapper());
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            bundle.write(out);
+        }
+        System.out.printf("카탈로그 번들 생성: %s (질문 구간 %d, 학과 구간 %d, %d bytes)%n", output,
+                bundle.questionSections().size(), bundle.departmentSections().size(), Files.size(output));
+    }
+
+    public static CatalogBundle compile(Path resources, ObjectMapper objectMapper) throws IOException {
+        List<CatalogBundle.QuestionSection> questionSections = new ArrayList<>();
+        Path questions = resources.resolve(QUESTIONS_SOURCE);
+        if (Files.isRegularFile(questions)) {
+            questionSections.add(compileQuestions(QUESTIONS_SOURCE, Files.readAllBytes(questions), objectMapper));
+        }
+
+        List<CatalogBundle.DepartmentSection> departmentSections = new ArrayList<>();
+        Path departments = resources.resolve(DEPARTMENTS_SOURCE);
+        if (Files.isRegularFile(departments)) {
+            departmentSections.add(compileDepartments(DEPARTMENTS_SOURCE, null, Files.readAllBytes(departments), objectMapper));
+        }
+
+        // 학교별 학과 파일 (파일 이름 = 학교 코드)
+        Path schools = resources.resolve(SCHOOL_DIRECTORY);
+        if (Files.isDirectory(schools)) {
+            try (Stream<Path> files = Files.list(schools)) {
+                for (Path file : files.filter(path -> path.getFileName().toString().endsWith(".json")).sorted().toList()) {
+                    String filename = file.getFileName().toString();
+                    String school = filename.substring(0, filename.length() - ".json".length());
+                    departmentSections.add(compileDepartments(
+                            SCHOOL_DIRECTORY + "/" + filename, school, Files.readAllBytes(file), objectMapper));
+                }
+            }
+        }
+        return new CatalogBundle(DepartmentKeywords.standard().digest(), questionSections, departmentSections);
+    }
+
+    static CatalogBundle.QuestionSection compileQuestions(String source, byte[] content, ObjectMapper objectMapper)
+            throws IOException {
+        List<QuestionImportDto> dtos = objectMapper.readValue(content, new TypeReference<>() {});
+        List<CatalogBundle.QuestionRecord> records = new ArrayList<>(dtos.size());
+        for (QuestionImportDto dto : dtos) {
+            if (dto.getQuestionOrder() == null) {
+                throw new IllegalArgumentException(source + ": 질문 순서가 없습니다: " + dto.getQuestionText());
+            }
+            records.add(new CatalogBundle.QuestionRecord(dto.getQuestionText(), dto.getAptitudeType(),
+                    dto.isReverse(), dto.getQuestionOrder(), dto.getTags()));
+        }
+        return new CatalogBundle.QuestionSection(source, CatalogBundle.digest(content), records);
+    }
+
+    static CatalogBundle.DepartmentSection compileDepartments(String source, String school, byte[] content,
+                                                              ObjectMapper objectMapper) throws IOException {
+        List<DepartmentImportDto> dtos = objectMapper.readValue(content, new TypeReference<>() {});
+        List<CatalogBundle.DepartmentRecord> records = new ArrayList<>(dtos.size());
+        for (DepartmentImportDto dto : dtos) {
+            if (dto.getAptitudeScores() == null || dto.getAptitudeScores().contains(null)) {
+                throw new IllegalArgumentException(source + ": 적성 점수가 없습니다: " + dto.getName());
+            }
+            Department department = dto.toEntity(objectMapper);
+            List<String> tags = objectMapper.readValue(department.getTags(), new TypeReference<>() {});
+            records.add(new CatalogBundle.DepartmentRecord(department.getName(), department.getUrl(),
+                    department.getCategory(), dto.getAptitudeDescription(), dto.getAptitudeScores(), tags));
+        }
+        return new CatalogBundle.DepartmentSection(source, CatalogBundle.digest(content), school, records);
+    }
+}
@@ -2,79 +2,326 @@ package org.example.catp.loader;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.catp.dto.DepartmentImportDto;
+import org.example.catp.dto.DepartmentKeywords;
 import org.example.catp.dto.QuestionImportDto; // 추가됨
 import org.example.catp.entity.Department;
 import org.example.catp.entity.Question;
 import org.example.catp.repository.DepartmentRepository;
 import org.example.catp.repository.QuestionRepository;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.catalog.QuestionSnapshot;
+import org.example.catp.service.profiling.CatalogLoadEvent;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * 시작 시 빈 테이블에 카탈로그를 넣고 요청 처리용 스냅샷을 만듭니다.
+ * 빌드 시 컴파일된 카탈로그 번들(CatalogBundle)이 있고 원본 JSON 과 내용이 같으면 JSON 변환 대신 번들을 읽으며,
+ * 행은 한 번의 배치 INSERT 로 저장합니다. 단계별 소요 시간은 startupSteps() 로 확인할 수 있습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner {
 
+    private static final String QUESTION_INSERT_SQL = """
+            INSERT INTO questions (question_text, aptitude_type, is_reverse, question_order, tags)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String DEPARTMENT_INSERT_SQL = """
+            INSERT INTO departments (name, aptitude_scores, description, url, tags, category, school)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * 시작 시 카탈로그 적재 단계 하나의 결과
+     *
+     * @param source bundle: 빌드 시 컴파일된 번들, json: JSON 변환, snapshot: DB 행 → 메모리 스냅샷 컴파일
+     */
+    public record LoadStep(String catalog, String source, int rows, long durationMillis) {
+    }
+
     private final QuestionRepository questionRepository;
     private final DepartmentRepository departmentRepository;
     private final ObjectMapper objectMapper;
+    private final QuestionCatalog questionCatalog;
+    private final DepartmentCatalog departmentCatalog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String schoolLocation;
+    private final boolean bundleEnabled;
+
+    /** 카탈로그 번들 (처음 필요할 때 한 번 읽음, 없거나 읽을 수 없으면 empty) */
+    private Optional<CatalogBundle> bundle;
+
+    private volatile List<LoadStep> startupSteps = List.of();
+    private volatile long startupMillis;
+
+    public DataLoader(
+            QuestionRepository questionRepository,
+            DepartmentRepository departmentRepository,
+            ObjectMapper objectMapper,
+            QuestionCatalog questionCatalog,
+            DepartmentCatalog departmentCatalog,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${catp.catalog.school-location:classpath*:catalogs/*.json}") String schoolLocation,
+            @Value("${catp.catalog.bundle-enabled:true}") boolean bundleEnabled) {
+        this.questionRepository = questionRepository;
+        this.departmentRepository = departmentRepository;
+        this.objectMapper = objectMapper;
+        this.questionCatalog = questionCatalog;
+        this.departmentCatalog = departmentCatalog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.schoolLocation = schoolLocation;
+        this.bundleEnabled = bundleEnabled;
+    }
 
     @Override
     public void run(String... args) throws Exception {
+        long startedAt = System.nanoTime();
+        List<LoadStep> steps = new ArrayList<>();
+
         // 1. 질문 데이터 초기화
         if (questionRepository.count() == 0) {
-            initQuestions();
+            initQuestions(steps);
         }
 
-        // 2. 학과 데이터 초기화
-        if (departmentRepository.count() == 0) {
-            initDepartments();
+        // 2. 학과 데이터 초기화 (기본 학교)
+        if (!departmentRepository.existsBySchoolIsNull()) {
+            initDepartments(steps);
         }
+
+        // 3. 학교별 학과 데이터 초기화 (스냅샷은 학교가 처음 요청될 때 생성)
+        initSchoolDepartments(steps);
+
+        // 4. 요청 처리용 메모리 스냅샷 생성
+        long snapshotStartedAt = System.nanoTime();
+        CatalogLoadEvent event = beginLoad();
+        QuestionSnapshot questions = questionCatalog.reload();
+        addStep(steps, event, "questions", "snapshot", questions.size(), snapshotStartedAt);
+        snapshotStartedAt = System.nanoTime();
+        event = beginLoad();
+        DepartmentSnapshot departments = departmentCatalog.reload();
+        addStep(steps, event, "departments", "snapshot", departments.size(), snapshotStartedAt);
+
+        startupSteps = List.copyOf(steps);
+        startupMillis = millisSince(startedAt);
+        log.info("⏱ 카탈로그 시작 적재 {}ms {}", startupMillis, steps);
+    }
+
+    /**
+     * 마지막 시작 적재의 단계별 결과
+     */
+    public List<LoadStep> startupSteps() {
+        return startupSteps;
+    }
+
+    public long startupMillis() {
+        return startupMillis;
     }
 
-    private void initQuestions() {
+    private void initQuestions(List<LoadStep> steps) {
         log.info("📝 질문 데이터 로딩 중... (questions.json)");
+        long startedAt = System.nanoTime();
+        CatalogLoadEvent event = beginLoad();
         try {
-            InputStream inputStream = getClass().getResourceAsStream("/questions.json");
+            byte[] content = readResource("/" + CatalogBundleCompiler.QUESTIONS_SOURCE);
+            Optional<CatalogBundle.QuestionSection> compiled =
+                    bundle().flatMap(b -> b.questions(CatalogBundleCompiler.QUESTIONS_SOURCE, content));
 
-            // [수정] DTO를 통해 배열 데이터를 안전하게 받음
-            List<QuestionImportDto> dtos = objectMapper.readValue(inputStream, new TypeReference<>() {});
+            List<Question> questions;
+            if (compiled.isPresent()) {
+                questions = compiled.get().records().stream()
+                        .map(record -> record.toEntity(objectMapper))
+                        .collect(Collectors.toList());
+            } else {
+                // [수정] DTO를 통해 배열 데이터를 안전하게 받음
+                List<QuestionImportDto> dtos = objectMapper.readValue(content, new TypeReference<>() {});
 
-            // DTO -> Entity 변환
-            List<Question> questions = dtos.stream()
-                    .map(dto -> dto.toEntity(objectMapper))
-                    .collect(Collectors.toList());
+                // DTO -> Entity 변환
+                questions = dtos.stream()
+                        .map(dto -> dto.toEntity(objectMapper))
+                        .collect(Collectors.toList());
+            }
 
-            questionRepository.saveAll(questions);
-            log.info("✅ 질문 {}개 로딩 완료!", questions.size());
+            insertQuestions(questions);
+            addStep(steps, event, "questions", compiled.isPresent() ? "bundle" : "json", questions.size(), startedAt);
+            log.info("✅ 질문 {}개 로딩 완료! ({})", questions.size(), compiled.isPresent() ? "번들" : "JSON");
         } catch (Exception e) {
             log.error("❌ 질문 데이터 로딩 실패: {}", e.getMessage(), e);
         }
     }
 
-    private void initDepartments() {
+    private void initDepartments(List<LoadStep> steps) {
         log.info("🏫 학과 데이터 로딩 중... (jj_departments_with_scores.json)");
+        long startedAt = System.nanoTime();
+        CatalogLoadEvent event = beginLoad();
         try {
-            InputStream inputStream = getClass().getResourceAsStream("/jj_departments_with_scores.json");
+            byte[] content = readResource("/" + CatalogBundleCompiler.DEPARTMENTS_SOURCE);
+            List<Department> departments = toDepartments(null, content, steps, event, startedAt);
+            log.info("✅ 학과 {}개 로딩 완료!", departments.size());
 
-            List<DepartmentImportDto> dtos = objectMapper.readValue(inputStream, new TypeReference<>() {});
+        } catch (Exception e) {
+            log.error("❌ 학과 데이터 로딩 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 학교별 학과 파일(파일 이름 = 학교 코드)을 아직 등록되지 않은 학교만 DB에 저장합니다.
+     */
+    private void initSchoolDepartments(List<LoadStep> steps) {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(schoolLocation);
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                if (filename == null || !filename.endsWith(".json")) {
+                    continue;
+                }
+                String school = filename.substring(0, filename.length() - ".json".length());
+                if (departmentRepository.existsBySchool(school)) {
+                    continue;
+                }
 
-            List<Department> departments = dtos.stream()
-                    .map(dto -> dto.toEntity(objectMapper))
+                long startedAt = System.nanoTime();
+                CatalogLoadEvent event = beginLoad();
+                try (InputStream inputStream = resource.getInputStream()) {
+                    List<Department> departments = toDepartments(school, inputStream.readAllBytes(), steps, event, startedAt);
+                    log.info("✅ 학교 {} 학과 {}개 로딩 완료!", school, departments.size());
+                } catch (Exception e) {
+                    log.error("❌ 학교 {} 학과 데이터 로딩 실패: {}", school, e.getMessage(), e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ 학교별 학과 파일 조회 실패 ({}): {}", schoolLocation, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 학과 파일 내용을 행으로 변환해 저장합니다. (번들이 같은 파일 내용과 같은 키워드 표로 만들어졌으면 번들 사용)
+     */
+    private List<Department> toDepartments(String school, byte[] content, List<LoadStep> steps, CatalogLoadEvent event,
+                                           long startedAt) throws IOException {
+        Optional<CatalogBundle.DepartmentSection> compiled = bundle()
+                .filter(b -> Arrays.equals(b.keywordsDigest(), DepartmentKeywords.standard().digest()))
+                .flatMap(b -> b.departments(school, content));
+
+        List<Department> departments;
+        if (compiled.isPresent()) {
+            departments = compiled.get().records().stream()
+                    .map(record -> record.toEntity(objectMapper, school))
                     .collect(Collectors.toList());
+        } else {
+            List<DepartmentImportDto> dtos = objectMapper.readValue(content, new TypeReference<>() {});
+            departments = DepartmentImportDto.toEntities(dtos, objectMapper);
+            departments.forEach(department -> department.setSchool(school));
+        }
 
-            departmentRepository.saveAll(departments);
-            log.info("✅ 학과 {}개 로딩 완료!", departments.size());
+        insertDepartments(departments);
+        String catalog = (school != null) ? "departments:" + school : "departments";
+        addStep(steps, event, catalog, compiled.isPresent() ? "bundle" : "json", departments.size(), startedAt);
+        return departments;
+    }
 
-        } catch (Exception e) {
-            log.error("❌ 학과 데이터 로딩 실패: {}", e.getMessage(), e);
+    /**
+     * 질문 행 저장 (한 번의 배치 INSERT, 입력 순서대로 id 부여)
+     */
+    private void insertQuestions(List<Question> questions) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(QUESTION_INSERT_SQL, questions, questions.size(), (ps, question) -> {
+                    ps.setString(1, question.getQuestionText());
+                    ps.setString(2, question.getAptitudeType());
+                    ps.setBoolean(3, question.isReverse());
+                    ps.setInt(4, question.getQuestionOrder());
+                    ps.setString(5, question.getTags());
+                }));
+    }
+
+    /**
+     * 학과 행 저장 (한 번의 배치 INSERT, 입력 순서대로 id 부여되어 스냅샷의 동점 순위도 파일 순서를 따름)
+     */
+    private void insertDepartments(List<Department> departments) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(DEPARTMENT_INSERT_SQL, departments, departments.size(), (ps, department) -> {
+                    ps.setString(1, department.getName());
+                    ps.setString(2, department.getAptitudeScores());
+                    ps.setString(3, department.getDescription());
+                    ps.setString(4, department.getUrl());
+                    ps.setString(5, department.getTags());
+                    ps.setString(6, department.getCategory());
+                    ps.setString(7, department.getSchool());
+                }));
+    }
+
+    private Optional<CatalogBundle> bundle() {
+        if (bundle == null) {
+            bundle = bundleEnabled ? readBundle() : Optional.empty();
         }
+        return bundle;
+    }
+
+    private Optional<CatalogBundle> readBundle() {
+        try (InputStream inputStream = getClass().getResourceAsStream(CatalogBundle.RESOURCE)) {
+            if (inputStream == null) {
+                log.info("카탈로그 번들이 없어 JSON 으로 적재합니다. (gradle compileCatalogBundle 로 생성)");
+                return Optional.empty();
+            }
+            return Optional.of(CatalogBundle.read(inputStream));
+        } catch (IOException e) {
+            log.warn("카탈로그 번들을 읽을 수 없어 JSON 으로 적재합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private byte[] readResource(String path) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IOException("리소스를 찾을 수 없습니다: " + path);
+            }
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static CatalogLoadEvent beginLoad() {
+        CatalogLoadEvent event = new CatalogLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 적재 단계 기록 (시작 단계 목록 + JFR 이벤트)
+     */
+    private static void addStep(List<LoadStep> steps, CatalogLoadEvent event, String catalog, String source, int rows,
+                                long startedAt) {
+        steps.add(new LoadStep(catalog, source, rows, millisSince(startedAt)));
+        event.end();
+        if (event.shouldCommit()) {
+            event.catalog = catalog;
+            event.source = source;
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+    private static long millisSince(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
     }
-}
\ No newline at end of file
+}
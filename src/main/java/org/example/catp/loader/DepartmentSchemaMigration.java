@@ -0,0 +1,83 @@
+package org.example.catp.loader;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이전 버전 DB의 학과 테이블 보정
+ * 이전 버전은 학과 이름 하나에 UNIQUE 제약(@Column(unique = true))이 있었고, ddl-auto=update 는 기존 제약을 지우지 않으므로
+ * 그대로 두면 학교별 카탈로그에 다른 학교(기본 학교 포함)와 같은 이름의 학과가 있을 때 저장에 실패합니다.
+ * 카탈로그 적재 전에 이름 컬럼 하나로만 된 UNIQUE 제약을 찾아 지웁니다. (학교 + 이름 제약은 유지)
+ *
+ * 학교 + 이름 제약은 학교가 NULL 인 행끼리는 서로 다른 값으로 보므로 기본 학교 학과 이름의 중복을 막지 못합니다.
+ * H2 는 식 인덱스가 없으므로 COALESCE(school, '') 생성 컬럼(school_key)을 두고 (school_key, name) UNIQUE 제약을 추가합니다.
+ * (학교 코드는 1자 이상이므로 '' 는 기본 학교만 뜻함)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // 테이블 생성/갱신 이후에 실행
+@RequiredArgsConstructor
+public class DepartmentSchemaMigration {
+
+    private static final String LEGACY_NAME_UNIQUE_SQL = """
+            SELECT tc.CONSTRAINT_NAME
+            FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+            JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu
+              ON kcu.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME
+            WHERE tc.TABLE_SCHEMA = CURRENT_SCHEMA AND tc.TABLE_NAME = 'DEPARTMENTS' AND tc.CONSTRAINT_TYPE = 'UNIQUE'
+            GROUP BY tc.CONSTRAINT_NAME
+            HAVING COUNT(*) = 1 AND MAX(kcu.COLUMN_NAME) = 'NAME'
+            """;
+
+    private static final String ADD_SCHOOL_KEY_SQL =
+            "ALTER TABLE departments ADD COLUMN IF NOT EXISTS school_key VARCHAR(50) GENERATED ALWAYS AS (COALESCE(school, ''))";
+
+    private static final String SCHOOL_KEY_NAME_UNIQUE = "UK_DEPARTMENTS_SCHOOL_KEY_NAME";
+
+    private static final String SCHOOL_KEY_NAME_UNIQUE_EXISTS_SQL = """
+            SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS
+            WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME = 'DEPARTMENTS' AND CONSTRAINT_NAME = ?
+            """;
+
+    private static final String DEFAULT_SCHOOL_DUPLICATES_SQL =
+            "SELECT name FROM departments WHERE school IS NULL GROUP BY name HAVING COUNT(*) > 1 ORDER BY name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        dropLegacyNameUnique();
+        addDefaultSchoolNameUnique();
+    }
+
+    private void dropLegacyNameUnique() {
+        List<String> constraints = jdbcTemplate.queryForList(LEGACY_NAME_UNIQUE_SQL, String.class);
+        for (String constraint : constraints) {
+            jdbcTemplate.execute("ALTER TABLE departments DROP CONSTRAINT \"" + constraint + "\"");
+            log.info("학과 이름 단독 UNIQUE 제약 {} 삭제 (학교별로 같은 이름의 학과 허용)", constraint);
+        }
+    }
+
+    private void addDefaultSchoolNameUnique() {
+        jdbcTemplate.execute(ADD_SCHOOL_KEY_SQL);
+        Integer existing = jdbcTemplate.queryForObject(SCHOOL_KEY_NAME_UNIQUE_EXISTS_SQL, Integer.class, SCHOOL_KEY_NAME_UNIQUE);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        // 이미 중복된 행이 있으면 제약을 만들 수 없으므로 알리고 건너뜀 (정리 후 다음 시작 시 추가)
+        List<String> duplicates = jdbcTemplate.queryForList(DEFAULT_SCHOOL_DUPLICATES_SQL, String.class);
+        if (!duplicates.isEmpty()) {
+            log.error("기본 학교에 이름이 같은 학과가 있어 학과 이름 UNIQUE 제약을 추가하지 못했습니다: {}", duplicates);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE departments ADD CONSTRAINT " + SCHOOL_KEY_NAME_UNIQUE + " UNIQUE (school_key, name)");
+        log.info("학과 (학교, 이름) UNIQUE 제약 {} 추가 (기본 학교 포함)", SCHOOL_KEY_NAME_UNIQUE);
+    }
+}
@@ -4,10 +4,21 @@ import org.example.catp.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
     // 학과 이름으로 찾기 (데이터 중복 방지용)
     Optional<Department> findByName(String name);
+
+    // 기본 학교 학과 (학교 코드 없음, 스냅샷 순서가 동점 순위를 정하므로 id 순)
+    List<Department> findAllBySchoolIsNullOrderByIdAsc();
+
+    boolean existsBySchoolIsNull();
+
+    // 학교별 학과
+    List<Department> findAllBySchoolOrderByIdAsc(String school);
+
+    boolean existsBySchool(String school);
 }
\ No newline at end of file
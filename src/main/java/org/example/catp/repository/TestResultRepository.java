@@ -1,14 +1,44 @@
 package org.example.catp.repository;
 
 import org.example.catp.entity.TestResult;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface TestResultRepository extends JpaRepository<TestResult, String> {
 
-    // "입력한 시간(cutoffDate)보다 이전에(Before) 생성된(CreatedAt) 데이터 삭제(delete)"
-    void deleteByCreatedAtBefore(LocalDateTime cutoffDate);
-}
\ No newline at end of file
+    /**
+     * 정리 대상 행의 키 (생성 시간, id)
+     */
+    interface ExpiredKey {
+        String getId();
+        LocalDateTime getCreatedAt();
+    }
+
+    // "기준 시간(cutoff)보다 이전에 생성된 행을, 직전 키(after) 다음부터 (생성 시간, id) 순으로 limit개" 조회 (created_at 인덱스 사용)
+    @Query("""
+            select t.id as id, t.createdAt as createdAt from TestResult t
+            where t.createdAt < :cutoff
+              and (t.createdAt > :afterCreatedAt or (t.createdAt = :afterCreatedAt and t.id > :afterId))
+            order by t.createdAt, t.id
+            """)
+    List<ExpiredKey> findExpiredKeys(@Param("cutoff") LocalDateTime cutoff,
+                                     @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                     @Param("afterId") String afterId,
+                                     Limit limit);
+
+    // 엔티티를 읽지 않고 id 목록으로 한 번에 삭제
+    @Modifying
+    @Query("delete from TestResult t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
+
+    long countByCreatedAtBefore(LocalDateTime cutoffDate);
+}
@@ -0,0 +1,104 @@
+package org.example.catp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.dto.BatchResultSummary;
+import org.example.catp.entity.TestResult;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.storage.TestResultCodec;
+import org.example.catp.service.storage.TestResultWriteBehind;
+import org.example.catp.util.IdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반 단위 일괄 제출
+ * 답변 묶음 전체를 한 번에 분석하고, 결과는 한 번의 배치 INSERT 로 저장한 뒤 id 와 요약만 돌려줍니다.
+ */
+@Slf4j
+@Service
+public class BatchResultService {
+
+    private final QuestionCatalog questionCatalog;
+    private final CareerService careerService;
+    private final TestResultCodec testResultCodec;
+    private final TestResultWriteBehind testResultWriteBehind;
+    private final IdGenerator idGenerator;
+    private final int maxBatchSize;
+    private final int streamThreshold;
+
+    public BatchResultService(
+            QuestionCatalog questionCatalog,
+            CareerService careerService,
+            TestResultCodec testResultCodec,
+            TestResultWriteBehind testResultWriteBehind,
+            IdGenerator idGenerator,
+            @Value("${catp.batch.max-size:1000}") int maxBatchSize,
+            @Value("${catp.batch.stream-threshold:100}") int streamThreshold) {
+        this.questionCatalog = questionCatalog;
+        this.careerService = careerService;
+        this.testResultCodec = testResultCodec;
+        this.testResultWriteBehind = testResultWriteBehind;
+        this.idGenerator = idGenerator;
+        this.maxBatchSize = maxBatchSize;
+        this.streamThreshold = streamThreshold;
+    }
+
+    /**
+     * 이 개수를 넘는 배치는 (클라이언트가 NDJSON 을 받을 수 있으면) NDJSON 으로 한 줄씩 응답합니다.
+     */
+    public boolean shouldStream(int batchSize) {
+        return batchSize > streamThreshold;
+    }
+
+    /**
+     * 답변 묶음을 검증, 분석, 저장하고 입력 순서대로 요약을 반환합니다.
+     *
+     * @param school 학교 코드 (없으면 기본 학교)
+     * @throws IllegalArgumentException 배치 크기나 답변 개수가 잘못된 경우
+     */
+    public List<BatchResultSummary> submit(String school, List<List<Integer>> answerSets) throws JsonProcessingException {
+        // 1. 검증 (한 건이라도 잘못되면 전체 거절)
+        validate(answerSets);
+
+        // 2. 분석 (스냅샷 한 번 조회 + 병렬 계산)
+        long start = System.nanoTime();
+        List<AnalysisResult> results = careerService.analyzeBatch(school, answerSets);
+
+        // 3. 저장 (한 번의 배치 INSERT)
+        List<TestResult> rows = new ArrayList<>(results.size());
+        List<BatchResultSummary> summaries = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            AnalysisResult result = results.get(i);
+            String resultId = idGenerator.generate();
+            rows.add(testResultCodec.encode(resultId, school, answerSets.get(i), result));
+            summaries.add(new BatchResultSummary(i, resultId, result.personality(), result.summary()));
+        }
+        testResultWriteBehind.insertAll(rows);
+
+        log.info("일괄 제출 {}건 처리 ({}ms)", rows.size(), (System.nanoTime() - start) / 1_000_000);
+        return summaries;
+    }
+
+    private void validate(List<List<Integer>> answerSets) {
+        if (answerSets == null || answerSets.isEmpty()) {
+            throw new IllegalArgumentException("답변 목록(answers)이 비어 있습니다.");
+        }
+        if (answerSets.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 제출할 수 있는 답변은 최대 " + maxBatchSize + "건입니다.");
+        }
+
+        int totalQuestions = questionCatalog.current().size();
+        for (int i = 0; i < answerSets.size(); i++) {
+            List<Integer> answers = answerSets.get(i);
+            if (answers == null || answers.size() != totalQuestions || answers.contains(null)) {
+                throw new IllegalArgumentException(
+                        i + "번째 답변 개수가 질문 개수(" + totalQuestions + "개)와 일치하지 않거나 빈 답변이 있습니다.");
+            }
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package org.example.catp.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.dto.DepartmentMatch;
+import org.example.catp.dto.Summary;
 import org.example.catp.entity.AptitudeType;
-import org.example.catp.entity.Department;
-import org.example.catp.entity.Question;
-import org.example.catp.repository.DepartmentRepository;
-import org.example.catp.repository.QuestionRepository;
+import org.example.catp.service.cache.AnalysisResultCache;
 import org.example.catp.service.calculator.ScoreCalculator;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.catalog.QuestionSnapshot;
+import org.example.catp.service.catalog.TagDictionary;
+import org.example.catp.service.metrics.PipelineMetrics;
+import org.example.catp.service.metrics.PipelineMetrics.Stage;
+import org.example.catp.service.profiling.AnalyzeTestEvent;
+import org.example.catp.service.profiling.RecommendEvent;
+import org.example.catp.service.strategy.Recommendation;
 import org.example.catp.service.strategy.RecommendationStrategy;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -22,102 +29,186 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CareerService {
 
-    private final QuestionRepository questionRepository;
-    private final DepartmentRepository departmentRepository;
+    private final QuestionCatalog questionCatalog;
+    private final DepartmentCatalog departmentCatalog;
     private final ScoreCalculator scoreCalculator;
     private final RecommendationStrategy recommendationStrategy;
-    private final ObjectMapper objectMapper;
+    private final AnalysisResultCache analysisResultCache;
+    private final PipelineMetrics pipelineMetrics;
 
     /** 최종 출력할 관심사 태그 최대 개수 */
     private static final int MAX_INTEREST_TAGS = 10;
 
-    // ========== 태그 우선순위 및 그룹화 ==========
-    
-    /** 대표 태그 (이 태그들이 우선 표시됨) */
-    private static final Set<String> PRIMARY_TAGS = Set.of(
-            // 분야별 대표 키워드
-            "IT", "AI", "코딩", "데이터", "디자인", "경영", "금융", "법", "의료", "교육",
-            "예술", "음악", "체육", "건축", "과학", "연구", "창업", "마케팅", "심리", "언어",
-            "게임", "영상", "웹툰", "요리", "관광", "봉사", "리더십", "창의", "분석", "소통"
-    );
-
-    /** 유사 태그 그룹 (같은 그룹에서 1개만 선택) */
-    private static final Map<String, List<String>> TAG_GROUPS = Map.ofEntries(
-            // IT/개발 계열
-            Map.entry("IT", List.of("IT", "코딩", "프로그래밍", "개발", "컴퓨터", "소프트웨어")),
-            Map.entry("AI", List.of("AI", "인공지능", "머신러닝")),
-            Map.entry("데이터", List.of("데이터", "빅데이터", "통계", "분석")),
-            
-            // 경영/경제 계열
-            Map.entry("경영", List.of("경영", "비즈니스", "관리", "CEO")),
-            Map.entry("금융", List.of("금융", "투자", "회계", "재테크")),
-            Map.entry("창업", List.of("창업", "스타트업", "사업")),
-            
-            // 디자인/예술 계열
-            Map.entry("디자인", List.of("디자인", "시각디자인", "산업디자인")),
-            Map.entry("예술", List.of("예술", "미술", "창작")),
-            Map.entry("음악", List.of("음악", "공연", "엔터테인먼트")),
-            
-            // 미디어/콘텐츠 계열
-            Map.entry("영상", List.of("영상", "영화", "방송", "미디어")),
-            Map.entry("게임", List.of("게임", "콘텐츠")),
-            Map.entry("웹툰", List.of("웹툰", "만화")),
-            
-            // 언어/글쓰기 계열
-            Map.entry("언어", List.of("언어", "외국어", "영어", "일본어", "중국어")),
-            Map.entry("글쓰기", List.of("글쓰기", "문학", "작가", "스토리")),
-            
-            // 과학/공학 계열
-            Map.entry("과학", List.of("과학", "연구", "실험")),
-            Map.entry("공학", List.of("공학", "기계", "전기", "전자", "기술")),
-            
-            // 의료/보건 계열
-            Map.entry("의료", List.of("의료", "간호", "건강", "보건")),
-            Map.entry("심리", List.of("심리", "상담", "치료")),
-            
-            // 사회/봉사 계열
-            Map.entry("봉사", List.of("봉사", "사회복지", "돌봄")),
-            Map.entry("교육", List.of("교육", "교직", "교사")),
-            
-            // 행정/법 계열
-            Map.entry("행정", List.of("행정", "공무원", "정책")),
-            Map.entry("법", List.of("법", "법률", "정의"))
-    );
+    /** 기존 태그 빈도 집계에 쓰던 HashMap 의 초기 테이블 크기 */
+    private static final int HASH_MAP_INITIAL_CAPACITY = 16;
 
     /**
      * 사용자 답변을 분석하여 적성 점수, 성향, 추천 학과 정보를 반환합니다.
      */
-    @Transactional(readOnly = true)
-    public Map<String, Object> analyzeTest(List<Integer> answers) {
-        // 1. 질문 데이터 조회
-        List<Question> questions = questionRepository.findAllByOrderByQuestionOrderAsc();
-        validateAnswers(questions.size(), answers.size());
+    public AnalysisResult analyzeTest(List<Integer> answers) {
+        return analyzeTest(null, answers);
+    }
 
-        // 2. 적성 점수 계산
-        List<Double> scores = scoreCalculator.calculate(questions, answers);
+    /**
+     * 학교의 학과 카탈로그 기준으로 분석합니다. (school 이 없으면 기본 학교)
+     */
+    public AnalysisResult analyzeTest(String school, List<Integer> answers) {
+        AnalyzeTestEvent event = new AnalyzeTestEvent();
+        event.begin();
+
+        // 질문/학과 데이터 조회 (메모리 스냅샷)
+        QuestionSnapshot questionSnapshot = pipelineMetrics.record(Stage.QUESTION_FETCH, questionCatalog::current);
+        validateAnswers(questionSnapshot.size(), answers.size());
+        AnalysisResult result = analyze(questionSnapshot, departmentCatalog.current(school), answers);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.school = school;
+            event.answerCount = answers.size();
+            event.questionVersion = questionSnapshot.version();
+            event.interestTagCount = result.interestTags().size();
+            event.personality = result.personality();
+            event.commit();
+        }
+        return result;
+    }
 
-        // 3. 관심사 태그 추출 (원본)
-        Map<String, Integer> rawTagCounts = extractRawInterestTags(questions, answers);
-        
-        // 4. 관심사 태그 필터링 (중복 제거 + 상위 N개)
-        List<String> filteredTags = filterAndPrioritizeTags(rawTagCounts);
+    /**
+     * 여러 학생의 답변을 한 번에 분석합니다. (반 단위 일괄 제출)
+     * 스냅샷은 배치 전체에서 한 번만 읽어 모든 결과가 같은 버전 기준으로 계산되고,
+     * 학생별 계산은 서로 독립적이므로 fork/join 공용 풀에서 코어 수만큼 나누어 처리합니다.
+     *
+     * @param school 학교 코드 (없으면 기본 학교)
+     * @return 입력 순서와 같은 순서의 분석 결과
+     */
+    public List<AnalysisResult> analyzeBatch(String school, List<List<Integer>> answerSets) {
+        QuestionSnapshot questionSnapshot = pipelineMetrics.record(Stage.QUESTION_FETCH, questionCatalog::current);
+        DepartmentSnapshot departmentSnapshot = departmentCatalog.current(school);
+        for (List<Integer> answers : answerSets) {
+            validateAnswers(questionSnapshot.size(), answers.size());
+        }
 
-        // 5. 성향 분석
+        return answerSets.parallelStream()
+                .map(answers -> analyze(questionSnapshot, departmentSnapshot, answers))
+                .toList();
+    }
+
+    /**
+     * 주어진 스냅샷으로 답변 하나를 분석합니다.
+     */
+    private AnalysisResult analyze(QuestionSnapshot questionSnapshot, DepartmentSnapshot departmentSnapshot,
+                                   List<Integer> answers) {
+        // 1. 답변 배열 변환
+        int[] answerArray = answers.stream().mapToInt(Integer::intValue).toArray();
+
+        // 2. 적성 점수 계산 (컴파일된 채점 계획 사용)
+        double[] scores = pipelineMetrics.record(Stage.SCORE,
+                () -> scoreCalculator.calculate(questionSnapshot.scoringPlan(), answerArray));
+
+        return analyzeWithScores(questionSnapshot, departmentSnapshot, scores, answerArray);
+    }
+
+    /**
+     * 이미 계산된 점수로 나머지 분석을 수행합니다. (답변을 나누어 받는 검사 세션의 최종 제출)
+     *
+     * @param questionSnapshot 답변을 받은 질문 스냅샷
+     * @param school 학교 코드 (없으면 기본 학교)
+     * @param scores 누적 계산된 최종 적성 점수
+     * @param answers 전체 답변 (관심사 태그 추출용)
+     */
+    public AnalysisResult analyzeWithScores(QuestionSnapshot questionSnapshot, String school, double[] scores, int[] answers) {
+        validateAnswers(questionSnapshot.size(), answers.length);
+        return analyzeWithScores(questionSnapshot, departmentCatalog.current(school), scores, answers);
+    }
+
+    /**
+     * 지금까지의 답변으로 추천 학과만 미리 계산합니다. (결과 캐시에 넣지 않음)
+     *
+     * @param school 학교 코드 (없으면 기본 학교)
+     * @param scores 응답한 문항 기준 임시 적성 점수
+     * @param answers 지금까지의 답변 (미응답 문항은 0)
+     */
+    public List<DepartmentMatch> previewTopDepartments(QuestionSnapshot questionSnapshot, String school,
+                                                       double[] scores, int[] answers) {
+        Set<String> tagSet = new HashSet<>(extractInterestTags(questionSnapshot, answers));
+        return recommendDepartments(scores, tagSet, departmentCatalog.current(school), true).getTopDepartments();
+    }
+
+    private AnalysisResult analyzeWithScores(QuestionSnapshot questionSnapshot, DepartmentSnapshot departmentSnapshot,
+                                             double[] scores, int[] answerArray) {
+        // 1. 관심사 태그 추출 + 필터링 (중복 제거 + 상위 N개)
+        List<String> filteredTags = extractInterestTags(questionSnapshot, answerArray);
+
+        // 2. 같은 점수/태그 조합의 결과가 캐시에 있으면 추천 계산 생략
+        AnalysisResultCache.Key cacheKey = AnalysisResultCache.key(scores, filteredTags,
+                questionSnapshot.tagDictionary(), questionSnapshot.version(), departmentSnapshot.version());
+
+        return analysisResultCache.get(cacheKey, () -> recommend(scores, filteredTags, departmentSnapshot));
+    }
+
+    /**
+     * 점수와 관심사 태그로 성향 분석, 학과 추천, 요약 생성을 수행합니다.
+     */
+    private AnalysisResult recommend(double[] scores, List<String> filteredTags, DepartmentSnapshot departmentSnapshot) {
+        // 1. 성향 분석
         String personality = analyzePersonality(scores);
 
-        // 6. 학과 추천
-        List<Department> allDepartments = departmentRepository.findAll();
+        // 2. 학과 추천
         Set<String> tagSet = new HashSet<>(filteredTags);
-        List<Map<String, Object>> recommendedDepartments = recommendationStrategy.recommend(scores, tagSet, allDepartments);
-
-        // 7. 결과 가공
-        Map<String, Object> result = buildResultMap(scores, filteredTags, personality, recommendedDepartments);
+        Recommendation recommendation = recommendDepartments(scores, tagSet, departmentSnapshot, false);
+
+        // 3. Summary 생성
+        Summary summary = pipelineMetrics.record(Stage.SUMMARY,
+                () -> generateSummary(scores, filteredTags, personality, recommendation.getTopDepartments()));
+
+        // 4. 결과 조립
+        return new AnalysisResult(
+                scores,
+                filteredTags, // 필터링된 태그
+                personality,
+                recommendation.getTopDepartments(),
+                recommendation.getWorstDepartments(),
+                recommendation.getSimilarDepartments(),
+                summary
+        );
+    }
 
-        // 8. Summary 생성
-        Map<String, String> summary = generateSummary(scores, filteredTags, personality, recommendedDepartments);
-        result.put("summary", summary);
+    /**
+     * 추천 전략 실행 (단계 지표 + JFR 이벤트 기록)
+     */
+    private Recommendation recommendDepartments(double[] scores, Set<String> tagSet, DepartmentSnapshot departmentSnapshot,
+                                                boolean preview) {
+        RecommendEvent event = new RecommendEvent();
+        event.begin();
+
+        Recommendation recommendation = pipelineMetrics.record(Stage.RECOMMEND,
+                () -> recommendationStrategy.recommend(scores, tagSet, departmentSnapshot));
+
+        event.end();
+        if (event.shouldCommit()) {
+            List<DepartmentMatch> top = recommendation.getTopDepartments();
+            event.strategy = recommendationStrategy.getClass().getSimpleName();
+            event.departmentCount = departmentSnapshot.size();
+            event.departmentVersion = departmentSnapshot.version();
+            event.tagCount = tagSet.size();
+            event.topScore = top.isEmpty() ? Double.NaN : top.get(0).matchPercentage();
+            event.preview = preview;
+            event.commit();
+        }
+        return recommendation;
+    }
 
-        return result;
+    /**
+     * 긍정 답변한 문항의 태그를 빈도순으로 모아 그룹별 대표 태그 최대 MAX_INTEREST_TAGS개를 반환합니다.
+     */
+    List<String> extractInterestTags(QuestionSnapshot questionSnapshot, int[] answers) {
+        // 1. 원본 태그 추출 (태그 id별 빈도)
+        RawTags rawTags = pipelineMetrics.record(Stage.TAG_EXTRACTION,
+                () -> extractRawInterestTags(questionSnapshot, answers));
+
+        // 2. 태그 필터링
+        return pipelineMetrics.record(Stage.TAG_FILTER,
+                () -> filterAndPrioritizeTags(questionSnapshot.tagDictionary(), rawTags));
     }
 
     // ========== 내부 헬퍼 메서드 ==========
@@ -129,84 +220,104 @@ public class CareerService {
     }
 
     /**
-     * 원본 태그와 빈도수 추출
+     * 원본 태그와 빈도수 추출 (태그 id 히스토그램 + 처음 등장한 순서)
+     * 동점 순서를 기존과 같게 유지하기 위해, 기존에 사용하던 HashMap 의 테이블 크기 변화도 함께 추적합니다.
      */
-    private Map<String, Integer> extractRawInterestTags(List<Question> questions, List<Integer> answers) {
-        Map<String, Integer> tagCounts = new HashMap<>();
+    private RawTags extractRawInterestTags(QuestionSnapshot questionSnapshot, int[] answers) {
+        int[] tagCounts = new int[questionSnapshot.tagDictionary().size()];
+        int[] firstSeen = new int[tagCounts.length];
+        int distinct = 0;
+        int capacity = HASH_MAP_INITIAL_CAPACITY;
         
-        for (int i = 0; i < questions.size(); i++) {
-            int answerValue = answers.get(i);
+        for (int i = 0; i < answers.length; i++) {
+            int answerValue = answers[i];
             
             // 4점 이상(긍정)이면 가중치 높게, 5점(매우 긍정)이면 더 높게
             if (answerValue >= 4) {
                 int weight = (answerValue == 5) ? 2 : 1;
                 
-                try {
-                    List<String> questionTags = objectMapper.readValue(
-                            questions.get(i).getTags(), 
-                            new TypeReference<>() {}
-                    );
-                    
-                    for (String tag : questionTags) {
-                        tagCounts.merge(tag, weight, Integer::sum);
+                for (int tagId : questionSnapshot.questionTagIds(i)) {
+                    // HashMap.merge 는 호출 시점에 크기가 임계값(용량의 3/4)을 넘었으면 먼저 테이블을 늘림
+                    if (distinct > capacity * 3 / 4) {
+                        capacity <<= 1;
+                    }
+                    if (tagCounts[tagId] == 0) {
+                        firstSeen[distinct++] = tagId;
                     }
-                } catch (Exception e) {
-                    log.warn("태그 파싱 실패 (질문 ID: {}): {}", questions.get(i).getId(), e.getMessage());
+                    tagCounts[tagId] += weight;
                 }
             }
         }
         
-        return tagCounts;
+        return new RawTags(tagCounts, firstSeen, distinct, capacity);
+    }
+
+    /**
+     * 태그 id별 빈도수, 처음 등장한 순서대로의 태그 id 목록, 기존 HashMap 기준 테이블 크기
+     */
+    private record RawTags(int[] counts, int[] firstSeen, int distinct, int capacity) {
     }
 
     /**
      * 태그 필터링 및 우선순위 정렬
      * 1. 유사 태그 그룹에서 대표 태그만 선택
      * 2. 빈도수 높은 순 정렬
-     * 3. 대표 태그 우선
+     * 3. 대표 태그 우선 (그래도 같으면 기존 HashMap 순회 순서)
      * 4. 최대 MAX_INTEREST_TAGS개만 반환
      */
-    private List<String> filterAndPrioritizeTags(Map<String, Integer> rawTagCounts) {
-        if (rawTagCounts.isEmpty()) {
+    private List<String> filterAndPrioritizeTags(TagDictionary dictionary, RawTags rawTags) {
+        int candidates = rawTags.distinct();
+        if (candidates == 0) {
             return Collections.emptyList();
         }
 
-        Set<String> selectedTags = new LinkedHashSet<>();
-        Set<String> usedGroups = new HashSet<>();
-
-        // 1. 빈도수 기준 정렬
-        List<Map.Entry<String, Integer>> sortedTags = rawTagCounts.entrySet().stream()
-                .sorted((a, b) -> {
-                    // 빈도수 높은 순
-                    int countCompare = b.getValue().compareTo(a.getValue());
-                    if (countCompare != 0) return countCompare;
-                    
-                    // 동점이면 대표 태그 우선
-                    boolean aIsPrimary = PRIMARY_TAGS.contains(a.getKey());
-                    boolean bIsPrimary = PRIMARY_TAGS.contains(b.getKey());
-                    return Boolean.compare(bIsPrimary, aIsPrimary);
-                })
-                .collect(Collectors.toList());
+        // 1. 동점 순서 결정: 기존에 빈도수를 모으던 HashMap 의 순회 순서를 재현
+        //    (버킷 번호 오름차순, 같은 버킷은 merge 가 앞에 끼워 넣으므로 나중에 들어온 태그 먼저)
+        int capacity = rawTags.capacity();
+        long[] hashOrder = new long[candidates];
+        for (int k = 0; k < candidates; k++) {
+            int bucket = dictionary.spreadHash(rawTags.firstSeen()[k]) & (capacity - 1);
+            hashOrder[k] = ((long) bucket << 32) | (Integer.MAX_VALUE - k);
+        }
+        Arrays.sort(hashOrder);
+        int[] ranked = new int[candidates];
+        for (int r = 0; r < candidates; r++) {
+            ranked[r] = rawTags.firstSeen()[Integer.MAX_VALUE - (int) hashOrder[r]];
+        }
+
+        // 2. 정렬 키 생성: [빈도수 | 대표 태그 여부 | 순회 순서 역순] 을 하나의 long으로 묶어 내림차순 정렬
+        int[] counts = rawTags.counts();
+        long[] sortKeys = new long[candidates];
+        for (int r = 0; r < candidates; r++) {
+            int id = ranked[r];
+            sortKeys[r] = ((long) counts[id] << 32)
+                    | (dictionary.isPrimary(id) ? 1L << 31 : 0L)
+                    | (Integer.MAX_VALUE - r);
+        }
+        Arrays.sort(sortKeys);
+
+        List<String> selectedTags = new ArrayList<>(MAX_INTEREST_TAGS);
+        boolean[] usedGroups = new boolean[counts.length];
 
-        // 2. 그룹별 대표 태그만 선택
-        for (Map.Entry<String, Integer> entry : sortedTags) {
-            String tag = entry.getKey();
+        // 3. 그룹별 대표 태그만 선택
+        for (int k = candidates - 1; k >= 0; k--) {
+            int tagId = ranked[Integer.MAX_VALUE - (int) (sortKeys[k] & Integer.MAX_VALUE)];
             
-            // 이 태그가 속한 그룹 찾기
-            String belongingGroup = findBelongingGroup(tag);
+            // 이 태그가 속한 그룹 찾기 (배열 조회)
+            int belongingGroup = dictionary.groupOf(tagId);
             
-            if (belongingGroup != null) {
+            if (belongingGroup != TagDictionary.NO_GROUP) {
                 // 이미 같은 그룹의 태그가 선택되었으면 스킵
-                if (usedGroups.contains(belongingGroup)) {
+                if (usedGroups[belongingGroup]) {
                     continue;
                 }
-                usedGroups.add(belongingGroup);
+                usedGroups[belongingGroup] = true;
                 
                 // 그룹의 대표 태그 사용 (그룹명이 대표 태그)
-                selectedTags.add(belongingGroup);
+                selectedTags.add(dictionary.name(belongingGroup));
             } else {
                 // 그룹에 속하지 않는 태그는 그대로 추가
-                selectedTags.add(tag);
+                selectedTags.add(dictionary.name(tagId));
             }
 
             if (selectedTags.size() >= MAX_INTEREST_TAGS) {
@@ -214,25 +325,13 @@ public class CareerService {
             }
         }
 
-        return new ArrayList<>(selectedTags);
+        return selectedTags;
     }
 
-    /**
-     * 태그가 속한 그룹 찾기
-     */
-    private String findBelongingGroup(String tag) {
-        for (Map.Entry<String, List<String>> group : TAG_GROUPS.entrySet()) {
-            if (group.getValue().contains(tag)) {
-                return group.getKey();
-            }
-        }
-        return null;
-    }
-
-    private String analyzePersonality(List<Double> scores) {
+    private String analyzePersonality(double[] scores) {
         int maxIndex = 0;
-        for (int i = 1; i < scores.size(); i++) {
-            if (scores.get(i) > scores.get(maxIndex)) {
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[maxIndex]) {
                 maxIndex = i;
             }
         }
@@ -244,53 +343,48 @@ public class CareerService {
     /**
      * 결과 요약 문구 생성
      */
-    private Map<String, String> generateSummary(
-            List<Double> scores,
+    private Summary generateSummary(
+            double[] scores,
             List<String> interestTags,
             String personality,
-            List<Map<String, Object>> recommendedDepartments
+            List<DepartmentMatch> topDepartments
     ) {
-        Map<String, String> summary = new HashMap<>();
-
         // 1. 성향 요약
-        summary.put("personality", personality + " 유형입니다.");
+        String personalityText = personality + " 유형입니다.";
 
         // 2. 강점 분석
         List<AptitudeType> topAptitudes = findTopAptitudes(scores, 3);
         String strengthText = topAptitudes.stream()
                 .map(AptitudeType::getDisplayName)
                 .collect(Collectors.joining(", "));
-        summary.put("strength", strengthText + " 분야에서 강점을 보입니다.");
 
         // 3. 관심사 요약 (필터링된 태그 사용)
+        String interestSummary = null;
         if (!interestTags.isEmpty()) {
             String interestText = String.join(", ", interestTags.subList(0, Math.min(5, interestTags.size())));
             if (interestTags.size() > 5) {
                 interestText += " 등";
             }
-            summary.put("interest", interestText + "에 관심이 있습니다.");
+            interestSummary = interestText + "에 관심이 있습니다.";
         }
 
         // 4. 1순위 학과 요약
-        if (!recommendedDepartments.isEmpty()) {
-            Map<String, Object> topDept = recommendedDepartments.get(0);
-            Department dept = (Department) topDept.get("department");
-            Double matchPercentage = (Double) topDept.get("match_percentage");
-            String reason = (String) topDept.get("reason");
-            
-            summary.put("top_department", String.format(
+        String topDepartmentSummary = null;
+        if (!topDepartments.isEmpty()) {
+            DepartmentMatch topDept = topDepartments.get(0);
+            topDepartmentSummary = String.format(
                     "%s이(가) %.1f%% 일치합니다. %s",
-                    dept.getName(), matchPercentage, reason
-            ));
+                    topDept.department().getName(), topDept.matchPercentage(), topDept.reason()
+            );
         }
 
-        return summary;
+        return new Summary(personalityText, strengthText + " 분야에서 강점을 보입니다.", interestSummary, topDepartmentSummary);
     }
 
-    private List<AptitudeType> findTopAptitudes(List<Double> scores, int n) {
+    private List<AptitudeType> findTopAptitudes(double[] scores, int n) {
         List<Map.Entry<Integer, Double>> indexed = new ArrayList<>();
-        for (int i = 0; i < scores.size(); i++) {
-            indexed.add(Map.entry(i, scores.get(i)));
+        for (int i = 0; i < scores.length; i++) {
+            indexed.add(Map.entry(i, scores[i]));
         }
         
         return indexed.stream()
@@ -299,45 +393,4 @@ public class CareerService {
                 .map(entry -> AptitudeType.fromIndex(entry.getKey()))
                 .collect(Collectors.toList());
     }
-
-    private Map<String, Object> buildResultMap(
-            List<Double> scores,
-            List<String> interestTags,
-            String personality,
-            List<Map<String, Object>> recommendedDepartments
-    ) {
-        // 상위 3개 (추천)
-        List<Map<String, Object>> top3 = recommendedDepartments.stream()
-                .limit(3)
-                .collect(Collectors.toList());
-
-        // 하위 3개 (비추천)
-        List<Map<String, Object>> worst3 = new ArrayList<>(
-                recommendedDepartments.subList(
-                        Math.max(0, recommendedDepartments.size() - 3),
-                        recommendedDepartments.size()
-                )
-        );
-        Collections.reverse(worst3);
-
-        // 관심사 기반 유사 학과
-        List<Map<String, Object>> similar = recommendedDepartments.stream()
-                .filter(d -> !top3.contains(d))
-                .filter(d -> {
-                    String reason = (String) d.get("reason");
-                    return reason != null && reason.contains("관심 분야");
-                })
-                .limit(3)
-                .collect(Collectors.toList());
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("scores", scores);
-        result.put("interest_tags", interestTags); // 필터링된 태그
-        result.put("personality", personality);
-        result.put("top_departments", top3);
-        result.put("worst_departments", worst3);
-        result.put("similar_departments", similar);
-
-        return result;
-    }
 }
@@ -1,38 +1,151 @@
 package org.example.catp.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.catp.repository.TestResultRepository;
+import org.example.catp.service.cache.ResultResponseCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
+/**
+ * 오래된 검사 결과 정리
+ * 한 트랜잭션으로 전부 지우면 잠금과 언두 로그가 커져 그동안 결과 저장이 밀리므로,
+ * created_at 인덱스를 (생성 시간, id) 순으로 따라가며 정해진 개수씩 나누어 지우고
+ * 묶음마다 커밋한 뒤 잠시 쉬어 다른 요청에 자리를 내줍니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DataCleanupService {
 
+    /** 키셋 탐색 시작점 (이보다 이전에 생성된 결과는 없음) */
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * 정리 실행 결과
+     *
+     * @param cutoff 삭제 기준 시간 (이전에 생성된 결과 삭제)
+     * @param deletedRows 삭제한 결과 수
+     * @param chunks 커밋한 묶음 수
+     * @param durationMillis 소요 시간
+     * @param remainingBacklog 실행 후에도 남은 삭제 대상 수 (시간 제한으로 중단된 경우 0보다 큼)
+     * @param finishedAt 실행 종료 시간
+     */
+    public record CleanupReport(LocalDateTime cutoff, long deletedRows, int chunks,
+                                long durationMillis, long remainingBacklog, LocalDateTime finishedAt) {
+    }
+
     private final TestResultRepository testResultRepository;
+    private final ResultResponseCache resultResponseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final Duration maxDuration;
+
+    private volatile CleanupReport lastReport;
+
+    public DataCleanupService(
+            TestResultRepository testResultRepository,
+            ResultResponseCache resultResponseCache,
+            TransactionTemplate transactionTemplate,
+            @Value("${catp.cleanup.retention-days:30}") int retentionDays,
+            @Value("${catp.cleanup.chunk-size:1000}") int chunkSize,
+            @Value("${catp.cleanup.chunk-pause:50ms}") Duration chunkPause,
+            @Value("${catp.cleanup.max-duration:30m}") Duration maxDuration) {
+        this.testResultRepository = testResultRepository;
+        this.resultResponseCache = resultResponseCache;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.maxDuration = maxDuration;
+    }
 
     // 매일 새벽 4시에 자동으로 실행 (초 분 시 일 월 요일)
-    @Scheduled(cron = "0 0 4 * * *")
-    @Transactional
+    @Scheduled(cron = "${catp.cleanup.cron:0 0 4 * * *}")
     public void deleteOldResults() {
-        // 기준 날짜를 '30일 전'으로 설정
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-
-        // 팁: 정확히 '지난 달' 같은 날짜로 하려면 .minusMonths(1)을 써도 됩니다.
-        // LocalDateTime cutoffDate = LocalDateTime.now().minusMonths(1);
+        // 기준 날짜를 '보관 기간(기본 30일) 전'으로 설정
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
 
-        log.info("데이터 정리 시작: {} 이전에 생성된(30일 지난) 데이터를 삭제합니다.", cutoffDate);
+        log.info("데이터 정리 시작: {} 이전에 생성된({}일 지난) 데이터를 {}건씩 삭제합니다.", cutoffDate, retentionDays, chunkSize);
 
         try {
-            testResultRepository.deleteByCreatedAtBefore(cutoffDate);
-            log.info("30일이 지난 오래된 데이터 삭제 완료.");
+            CleanupReport report = deleteBefore(cutoffDate);
+            lastReport = report;
+            log.info("오래된 데이터 삭제 완료: {}건 ({}묶음, {}ms), 남은 대상 {}건",
+                    report.deletedRows(), report.chunks(), report.durationMillis(), report.remainingBacklog());
         } catch (Exception e) {
             log.error("데이터 삭제 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 마지막 정리 실행 결과 (아직 실행 전이면 null)
+     */
+    public CleanupReport lastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 기준 시간 이전의 결과를 묶음 단위로 삭제
+     */
+    CleanupReport deleteBefore(LocalDateTime cutoff) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+
+        LocalDateTime afterCreatedAt = KEYSET_START;
+        String afterId = "";
+        long deleted = 0;
+        int chunks = 0;
+
+        try {
+            while (true) {
+                // 1. 직전 묶음의 마지막 키 다음부터 인덱스 순서대로 조회 + 삭제 (묶음마다 커밋)
+                List<TestResultRepository.ExpiredKey> keys = testResultRepository.findExpiredKeys(
+                        cutoff, afterCreatedAt, afterId, Limit.of(chunkSize));
+                if (keys.isEmpty()) {
+                    break;
+                }
+                List<String> ids = keys.stream().map(TestResultRepository.ExpiredKey::getId).toList();
+                Integer count = transactionTemplate.execute(status -> testResultRepository.deleteAllByIdIn(ids));
+                deleted += (count != null) ? count : 0;
+                chunks++;
+
+                // 2. 다음 묶음의 시작 키
+                TestResultRepository.ExpiredKey last = keys.get(keys.size() - 1);
+                afterCreatedAt = last.getCreatedAt();
+                afterId = last.getId();
+
+                // 3. 마지막 묶음이거나 시간 제한을 넘으면 중단 (남은 대상은 다음 실행에서 처리)
+                if (keys.size() < chunkSize) {
+                    break;
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    log.warn("데이터 정리 시간 제한({})을 넘어 중단합니다.", maxDuration);
+                    break;
+                }
+
+                // 4. 다른 요청의 DB 작업이 끼어들 수 있도록 잠시 대기
+                Thread.sleep(chunkPause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("데이터 정리가 중단되었습니다. ({}건 삭제 후)", deleted);
+        } finally {
+            // 삭제된 결과가 조회 캐시에서 계속 응답되지 않도록 비움
+            if (deleted > 0) {
+                resultResponseCache.invalidateAll();
+            }
+        }
+
+        long remaining = testResultRepository.countByCreatedAtBefore(cutoff);
+        return new CleanupReport(cutoff, deleted, chunks,
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis(), remaining, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.catp.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.service.catalog.CatalogChangedEvent;
+import org.example.catp.service.catalog.TagDictionary;
+import org.example.catp.util.CacheLoads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 분석 결과 메모이제이션 캐시
+ * 같은 반 학생들처럼 적성 점수와 관심사 태그가 같은 제출은 추천 계산을 건너뛰고
+ * 이전 결과를 그대로 사용합니다. 키에 카탈로그 버전이 포함되며,
+ * 카탈로그가 교체되면 전체를 비웁니다.
+ */
+@Slf4j
+@Component
+public class AnalysisResultCache {
+
+    /** 점수 1개를 담는 비트 수 (점수 × 10 을 0 ~ 63 범위로 저장) */
+    private static final int SCORE_BITS = 6;
+    private static final int MAX_PACKED_SCORE = (1 << SCORE_BITS) - 1;
+
+    /** 계산은 호출 스레드에서 잠금 밖에서 수행 (CacheLoads), 나머지 조작은 동기 뷰 사용 */
+    private final AsyncCache<Key, AnalysisResult> asyncCache;
+    private final Cache<Key, AnalysisResult> cache;
+
+    public AnalysisResultCache(
+            @Value("${catp.analysis-cache.maximum-size:10000}") long maximumSize,
+            @Value("${catp.analysis-cache.expire-after-write:30m}") Duration expireAfterWrite) {
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.cache = asyncCache.synchronous();
+    }
+
+    /**
+     * 캐시 키 (10개 점수를 6비트씩 묶은 값 + 태그 id 문자열 + 카탈로그 버전)
+     */
+    public record Key(long packedScores, String packedTags, long questionVersion, long departmentVersion) {
+    }
+
+    /**
+     * 캐시 키 생성 (점수가 압축 범위를 벗어나면 캐시하지 않도록 null 반환)
+     */
+    public static Key key(double[] scores, List<String> interestTags, TagDictionary dictionary,
+                          long questionVersion, long departmentVersion) {
+        if (scores.length * SCORE_BITS > Long.SIZE) {
+            return null;
+        }
+
+        long packedScores = 0L;
+        for (double score : scores) {
+            long scaled = Math.round(score * 10);
+            if (scaled < 0 || scaled > MAX_PACKED_SCORE) {
+                return null;
+            }
+            packedScores = (packedScores << SCORE_BITS) | scaled;
+        }
+
+        // 태그 순서도 결과(관심사 문구, 공통 태그 순서)에 영향을 주므로 순서대로 기록
+        char[] tags = new char[interestTags.size()];
+        for (int i = 0; i < tags.length; i++) {
+            int id = dictionary.id(interestTags.get(i));
+            if (id < 0 || id > Character.MAX_VALUE) {
+                return null;
+            }
+            tags[i] = (char) id;
+        }
+
+        return new Key(packedScores, new String(tags), questionVersion, departmentVersion);
+    }
+
+    /**
+     * 캐시된 결과 반환, 없으면 계산하여 저장 (같은 키의 동시 계산은 한 번만 수행)
+     */
+    public AnalysisResult get(Key key, Supplier<AnalysisResult> loader) {
+        if (key == null) {
+            return loader.get();
+        }
+        return CacheLoads.getOrLoad(asyncCache, key, k -> loader.get());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        cache.invalidateAll();
+        log.info("{} 카탈로그 v{} 교체로 분석 결과 캐시를 비웠습니다. (누적 {})", event.catalog(), event.version(), cache.stats());
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.catp.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.entity.TestResult;
+import org.example.catp.repository.TestResultRepository;
+import org.example.catp.service.catalog.CatalogChangedEvent;
+import org.example.catp.service.metrics.PipelineMetrics;
+import org.example.catp.service.metrics.PipelineMetrics.Stage;
+import org.example.catp.service.storage.DatabaseLimiter;
+import org.example.catp.service.storage.TestResultCodec;
+import org.example.catp.service.storage.TestResultWriteBehind;
+import org.example.catp.util.CacheLoads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 결과 조회 응답 캐시 (결과 id → 직렬화된 응답 본문 + ETag)
+ * 결과는 저장 후 바뀌지 않으므로 제출 시점과 첫 조회 시점에 한 번만 직렬화하고,
+ * 이후 조회는 캐시의 바이트를 그대로 돌려줍니다.
+ *
+ * 응답의 학과 정보는 학과 스냅샷으로 조립되므로 학과 카탈로그가 바뀌면 전체를 비웁니다.
+ */
+@Slf4j
+@Component
+public class ResultResponseCache {
+
+    /**
+     * 직렬화된 조회 응답
+     *
+     * @param body 응답 본문 (UTF-8 JSON)
+     * @param etag 본문 해시 기반의 강한 ETag (따옴표 포함)
+     */
+    public record CachedResponse(byte[] body, String etag) {
+
+        /**
+         * If-None-Match 헤더 값이 이 응답의 ETag 와 일치하는지 여부
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2); // If-None-Match 는 약한 비교
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** DB 조회는 호출 스레드에서 잠금 밖에서 수행 (CacheLoads), 나머지 조작은 동기 뷰 사용 */
+    private final AsyncCache<String, CachedResponse> asyncCache;
+    private final Cache<String, CachedResponse> cache;
+    private final TestResultRepository testResultRepository;
+    private final TestResultWriteBehind testResultWriteBehind;
+    private final TestResultCodec testResultCodec;
+    private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
+    private final DatabaseLimiter databaseLimiter;
+
+    public ResultResponseCache(
+            TestResultRepository testResultRepository,
+            TestResultWriteBehind testResultWriteBehind,
+            TestResultCodec testResultCodec,
+            ObjectMapper objectMapper,
+            PipelineMetrics pipelineMetrics,
+            DatabaseLimiter databaseLimiter,
+            @Value("${catp.result-cache.maximum-bytes:67108864}") long maximumBytes,
+            @Value("${catp.result-cache.expire-after-access:6h}") Duration expireAfterAccess) {
+        this.testResultRepository = testResultRepository;
+        this.testResultWriteBehind = testResultWriteBehind;
+        this.testResultCodec = testResultCodec;
+        this.objectMapper = objectMapper;
+        this.pipelineMetrics = pipelineMetrics;
+        this.databaseLimiter = databaseLimiter;
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String id, CachedResponse response) -> response.body().length)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .buildAsync();
+        this.cache = asyncCache.synchronous();
+    }
+
+    /**
+     * 조회 응답 반환 (캐시에 없으면 저장 대기열 → DB 순으로 읽어 직렬화 후 저장)
+     */
+    public Optional<CachedResponse> get(String id) {
+        return Optional.ofNullable(CacheLoads.getOrLoad(asyncCache, id, this::load));
+    }
+
+    /**
+     * 제출 직후 분석 결과로 조회 응답을 미리 만들어 둡니다.
+     */
+    public void put(TestResult result, AnalysisResult analysis) throws JsonProcessingException {
+        cache.put(result.getId(), serialize(testResultCodec.toResponse(result, analysis)));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.catalog() == CatalogChangedEvent.Type.DEPARTMENTS) {
+            cache.invalidateAll();
+            log.info("학과 카탈로그 v{} 교체로 결과 조회 캐시를 비웠습니다. (누적 {})", event.version(), cache.stats());
+        }
+    }
+
+    /**
+     * 캐시 미스 시 원본 조회 (없는 결과는 null 반환하여 캐시하지 않음)
+     */
+    private CachedResponse load(String id) {
+        Optional<TestResult> found = pipelineMetrics.record(Stage.RESULT_FETCH,
+                () -> testResultWriteBehind.findPending(id)
+                        .or(() -> databaseLimiter.call(() -> testResultRepository.findById(id))));
+
+        return found.map(result -> pipelineMetrics.record(Stage.RESULT_DECODE, () -> {
+                    try {
+                        return serialize(testResultCodec.toResponse(result));
+                    } catch (JsonProcessingException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }))
+                .orElse(null);
+    }
+
+    private CachedResponse serialize(Map<String, Object> response) throws JsonProcessingException {
+        byte[] body = objectMapper.writeValueAsBytes(response);
+        return new CachedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
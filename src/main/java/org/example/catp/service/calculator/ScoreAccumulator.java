@@ -0,0 +1,76 @@
+package org.example.catp.service.calculator;
+
+import org.example.catp.entity.AptitudeType;
+
+/**
+ * 답변을 한 문항씩 반영하는 적성별 누적 합
+ * 답변이 바뀌면 이전 답변의 기여분을 빼고 새 답변을 더하므로, 마지막에는 나눗셈과 반올림만 남습니다.
+ * 계산식은 StandardScoreCalculator 와 같으며, 문항 가중치가 정수이면 합산 순서와 관계없이 결과가 같습니다.
+ */
+public final class ScoreAccumulator {
+
+    private final ScoringPlan plan;
+
+    /** 적성별 가중 점수 합 */
+    private final double[] sums = new double[AptitudeType.values().length];
+
+    /** 적성별 응답한 문항의 가중치 합 */
+    private final double[] answeredWeights = new double[AptitudeType.values().length];
+
+    public ScoreAccumulator(ScoringPlan plan) {
+        this.plan = plan;
+    }
+
+    /**
+     * i번째 문항의 답변 반영
+     */
+    public void add(int i, int answer) {
+        apply(i, answer, 1);
+    }
+
+    /**
+     * i번째 문항의 이전 답변 제거
+     */
+    public void remove(int i, int answer) {
+        apply(i, answer, -1);
+    }
+
+    /**
+     * 모든 문항에 응답한 뒤의 최종 점수 (StandardScoreCalculator 결과와 같음)
+     */
+    public double[] scores() {
+        double[] weightTotals = plan.weightTotals();
+        double[] scores = new double[sums.length];
+        for (int a = 0; a < scores.length; a++) {
+            double avg = (weightTotals[a] == 0) ? 0 : (sums[a] / weightTotals[a]);
+            scores[a] = Math.round(avg * 10) / 10.0;
+        }
+        return scores;
+    }
+
+    /**
+     * 지금까지 응답한 문항만으로 계산한 임시 점수
+     *
+     * @param unanswered 응답한 문항이 없는 적성에 사용할 점수
+     */
+    public double[] provisionalScores(double unanswered) {
+        double[] scores = new double[sums.length];
+        for (int a = 0; a < scores.length; a++) {
+            scores[a] = (answeredWeights[a] == 0)
+                    ? unanswered
+                    : Math.round(sums[a] / answeredWeights[a] * 10) / 10.0;
+        }
+        return scores;
+    }
+
+    private void apply(int i, int answer, int sign) {
+        int aptitude = plan.aptitudeIndex()[i];
+        double weight = plan.weights()[i];
+
+        // 역채점 처리 (1<->5, 2<->4 ...) : 마스크가 1이면 6 - answer
+        int score = answer + plan.reverseMask()[i] * (6 - 2 * answer);
+
+        sums[aptitude] += sign * weight * score;
+        answeredWeights[aptitude] += sign * weight;
+    }
+}
@@ -13,4 +13,14 @@ public interface ScoreCalculator {
      * @return 계산된 10개 적성 점수 (1.0 ~ 5.0)
      */
     List<Double> calculate(List<Question> questions, List<Integer> answers);
-}
\ No newline at end of file
+
+    /**
+     * 미리 컴파일된 채점 계획으로 10가지 적성 점수를 계산합니다.
+     * 반환 순서는 AptitudeType 인덱스 순서와 일치합니다.
+     *
+     * @param plan 질문 세트에 대해 컴파일된 채점 계획
+     * @param answers 사용자가 선택한 답변 배열 (1~5, 질문 순서)
+     * @return 계산된 10개 적성 점수 (1.0 ~ 5.0)
+     */
+    double[] calculate(ScoringPlan plan, int[] answers);
+}
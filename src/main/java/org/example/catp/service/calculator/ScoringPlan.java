@@ -0,0 +1,96 @@
+package org.example.catp.service.calculator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.entity.AptitudeType;
+import org.example.catp.entity.Question;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 질문 세트 버전마다 한 번 컴파일하는 채점 계획
+ * 문항별 적성 인덱스, 역채점 마스크, 문항 가중치와 적성별 가중치 합을 미리 계산해 두어
+ * 채점 시 문자열 비교나 박싱 없이 배열 연산만 수행하도록 합니다.
+ */
+@Slf4j
+public final class ScoringPlan {
+
+    /** 문항별 적성 인덱스 */
+    private final int[] aptitudeIndex;
+
+    /** 문항별 역채점 여부 (역채점 1, 정채점 0) */
+    private final int[] reverseMask;
+
+    /** 문항별 가중치 (알 수 없는 적성 타입 문항은 0) */
+    private final double[] weights;
+
+    /** 적성별 가중치 합 (가중치가 모두 1이면 적성별 문항 수) */
+    private final double[] weightTotals;
+
+    private ScoringPlan(int[] aptitudeIndex, int[] reverseMask, double[] weights) {
+        this.aptitudeIndex = aptitudeIndex;
+        this.reverseMask = reverseMask;
+        this.weights = weights;
+        this.weightTotals = new double[AptitudeType.values().length];
+        for (int i = 0; i < aptitudeIndex.length; i++) {
+            weightTotals[aptitudeIndex[i]] += weights[i];
+        }
+    }
+
+    /**
+     * 모든 문항 가중치를 1로 하는 채점 계획 생성
+     */
+    public static ScoringPlan compile(List<Question> questions) {
+        double[] weights = new double[questions.size()];
+        Arrays.fill(weights, 1.0);
+        return compile(questions, weights);
+    }
+
+    /**
+     * 문항별 가중치를 적용한 채점 계획 생성
+     */
+    public static ScoringPlan compile(List<Question> questions, double[] itemWeights) {
+        if (itemWeights.length != questions.size()) {
+            throw new IllegalArgumentException("문항 가중치 개수(" + itemWeights.length + ")가 질문 개수(" + questions.size() + ")와 일치하지 않습니다.");
+        }
+
+        int[] aptitudeIndex = new int[questions.size()];
+        int[] reverseMask = new int[questions.size()];
+        double[] weights = itemWeights.clone();
+
+        for (int i = 0; i < questions.size(); i++) {
+            Question q = questions.get(i);
+            reverseMask[i] = q.isReverse() ? 1 : 0;
+            try {
+                aptitudeIndex[i] = AptitudeType.fromDisplayName(q.getAptitudeType()).getIndex();
+            } catch (IllegalArgumentException e) {
+                // 알 수 없는 적성 타입은 가중치 0으로 두어 채점 시 분기 없이 무시
+                log.warn("알 수 없는 적성 타입 발견: {}", q.getAptitudeType());
+                aptitudeIndex[i] = 0;
+                weights[i] = 0.0;
+            }
+        }
+
+        return new ScoringPlan(aptitudeIndex, reverseMask, weights);
+    }
+
+    public int size() {
+        return aptitudeIndex.length;
+    }
+
+    int[] aptitudeIndex() {
+        return aptitudeIndex;
+    }
+
+    int[] reverseMask() {
+        return reverseMask;
+    }
+
+    double[] weights() {
+        return weights;
+    }
+
+    double[] weightTotals() {
+        return weightTotals;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.catp.service.catalog;
+
+/**
+ * 질문 또는 학과 스냅샷이 새 버전으로 교체되었음을 알리는 이벤트
+ * 스냅샷을 기준으로 만든 캐시는 이 이벤트를 받으면 비워야 합니다.
+ *
+ * @param catalog 교체된 카탈로그 종류
+ * @param version 새 스냅샷 버전
+ */
+public record CatalogChangedEvent(Type catalog, long version) {
+
+    public enum Type {
+        QUESTIONS,
+        DEPARTMENTS
+    }
+}
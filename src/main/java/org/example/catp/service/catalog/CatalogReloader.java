@@ -0,0 +1,441 @@
+package org.example.catp.service.catalog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.DepartmentImportDto;
+import org.example.catp.dto.QuestionImportDto;
+import org.example.catp.entity.AptitudeType;
+import org.example.catp.entity.Department;
+import org.example.catp.entity.Question;
+import org.example.catp.repository.DepartmentRepository;
+import org.example.catp.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * 카탈로그 JSON 파일의 변경을 재시작 없이 반영합니다.
+ *
+ * 감시 폴더(catp.catalog.watch-dir)의 파일 이름으로 대상을 정합니다.
+ * questions.json 은 질문, departments.json 은 기본 학교 학과, 그 밖의 {학교 코드}.json 은 해당 학교 학과입니다.
+ * 파일이 바뀌면 (또는 관리자 요청 시) 전용 스레드에서 다음 순서로 처리합니다.
+ *   1. 파일을 읽고 검증한 뒤 시험 컴파일 (실패하면 DB와 스냅샷은 그대로 두고 종료)
+ *   2. DB에 한 트랜잭션으로 반영 (학과는 학교+이름, 질문은 순서 기준으로 갱신해 저장된 결과가 참조하는 id 유지)
+ *   3. 새 스냅샷을 컴파일해 참조만 원자적으로 교체
+ * 요청은 스냅샷 참조를 한 번 읽어 끝까지 사용하므로, 재적재 중에도 기다리지 않고 기존 버전으로 처리됩니다.
+ * 파일 삭제는 반영하지 않습니다.
+ */
+@Slf4j
+@Component
+public class CatalogReloader {
+
+    static final String QUESTIONS_FILE = "questions.json";
+    static final String DEPARTMENTS_FILE = "departments.json";
+
+    /** 질문 → 기본 학교 학과 → 학교별 학과 순으로 반영 */
+    private static final Comparator<Path> FILE_ORDER = Comparator
+            .comparingInt((Path file) -> rank(file.getFileName().toString()))
+            .thenComparing(file -> file.getFileName().toString());
+
+    /**
+     * 파일 하나의 반영 결과
+     *
+     * @param school  학교 코드 (기본 학교와 질문은 null)
+     * @param version 반영 후 스냅샷 버전 (변경이 없으면 기존 버전)
+     * @param error   실패 사유 (성공 시 null)
+     */
+    public record ReloadReport(String file, CatalogChangedEvent.Type catalog, String school, long version, int size,
+                               int added, int updated, int removed, long durationMillis, String error) {
+
+        static ReloadReport failed(String file, CatalogChangedEvent.Type catalog, String school, String error) {
+            return new ReloadReport(file, catalog, school, -1, 0, 0, 0, 0, 0, error);
+        }
+
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    private final QuestionRepository questionRepository;
+    private final DepartmentRepository departmentRepository;
+    private final QuestionCatalog questionCatalog;
+    private final DepartmentCatalog departmentCatalog;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Path watchDirectory;
+    private final Duration debounce;
+
+    /** 재적재 전용 스레드 (파일 감시와 관리자 요청의 재적재를 순서대로 하나씩 처리) */
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "catalog-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Thread watchThread;
+
+    public CatalogReloader(
+            QuestionRepository questionRepository,
+            DepartmentRepository departmentRepository,
+            QuestionCatalog questionCatalog,
+            DepartmentCatalog departmentCatalog,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            @Value("${catp.catalog.watch-dir:}") String watchDirectory,
+            @Value("${catp.catalog.watch-debounce:500ms}") Duration debounce) {
+        this.questionRepository = questionRepository;
+        this.departmentRepository = departmentRepository;
+        this.questionCatalog = questionCatalog;
+        this.departmentCatalog = departmentCatalog;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.watchDirectory = watchDirectory.isBlank() ? null : Path.of(watchDirectory).toAbsolutePath().normalize();
+        this.debounce = debounce;
+    }
+
+    /**
+     * 초기 데이터 적재(DataLoader)가 끝난 뒤 감시 폴더의 현재 파일을 한 번 반영하고 감시를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (watchDirectory == null) {
+            return;
+        }
+        if (!Files.isDirectory(watchDirectory)) {
+            log.warn("카탈로그 감시 폴더가 없어 파일 감시를 시작하지 않습니다: {}", watchDirectory);
+            return;
+        }
+
+        reloadAll();
+
+        Thread thread = new Thread(this::watch, "catalog-watch");
+        thread.setDaemon(true);
+        thread.start();
+        watchThread = thread;
+    }
+
+    /**
+     * 재적재를 요청합니다. (요청 스레드는 기다리지 않고, 결과는 완료 시 future 로 전달)
+     * 감시 폴더가 있으면 폴더의 모든 카탈로그 파일을 반영하고, 없으면 DB의 현재 데이터로 스냅샷만 다시 만듭니다.
+     */
+    public CompletableFuture<List<ReloadReport>> reloadAll() {
+        return CompletableFuture.supplyAsync(() -> {
+            if (watchDirectory == null) {
+                return reloadFromDatabase();
+            }
+            try {
+                return catalogFiles().stream().map(this::apply).toList();
+            } catch (IOException e) {
+                throw new CatalogValidationException("감시 폴더를 읽을 수 없습니다: " + watchDirectory, e);
+            }
+        }, reloadExecutor);
+    }
+
+    public Optional<Path> watchDirectory() {
+        return Optional.ofNullable(watchDirectory);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        Thread thread = watchThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        reloadExecutor.shutdownNow();
+    }
+
+    // --- 파일 감시 ---
+
+    private void watch() {
+        try (WatchService watchService = watchDirectory.getFileSystem().newWatchService()) {
+            watchDirectory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            log.info("카탈로그 파일 감시 시작: {} (debounce {})", watchDirectory, debounce);
+
+            Set<Path> changed = new TreeSet<>(FILE_ORDER);
+            while (true) {
+                // 변경이 모이는 중이면 debounce 동안 추가 변경이 없을 때 반영 (파일을 나누어 쓰는 편집기/복사 대응)
+                WatchKey key = changed.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    List<Path> files = List.copyOf(changed);
+                    changed.clear();
+                    reloadExecutor.execute(() -> files.forEach(this::apply));
+                    continue;
+                }
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        // 놓친 이벤트가 있으면 폴더 전체를 다시 반영 (변경 없는 파일은 DB/스냅샷 그대로)
+                        try {
+                            changed.addAll(catalogFiles());
+                        } catch (IOException e) {
+                            log.error("감시 폴더 목록 조회 실패: {}", watchDirectory, e);
+                        }
+                    } else if (isCatalogFile(event.context().toString())) {
+                        changed.add(watchDirectory.resolve((Path) event.context()));
+                    }
+                }
+                if (!key.reset()) {
+                    log.warn("감시 폴더에 접근할 수 없어 파일 감시를 중단합니다: {}", watchDirectory);
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("카탈로그 파일 감시 실패: {}", watchDirectory, e);
+        }
+    }
+
+    private List<Path> catalogFiles() throws IOException {
+        try (Stream<Path> files = Files.list(watchDirectory)) {
+            return files.filter(file -> isCatalogFile(file.getFileName().toString()))
+                    .filter(Files::isRegularFile)
+                    .sorted(FILE_ORDER)
+                    .toList();
+        }
+    }
+
+    private static boolean isCatalogFile(String filename) {
+        if (!filename.endsWith(".json") || filename.startsWith(".")) {
+            return false;
+        }
+        return rank(filename) < 2 || DepartmentCatalog.isSchoolCode(schoolOf(filename));
+    }
+
+    private static int rank(String filename) {
+        return switch (filename) {
+            case QUESTIONS_FILE -> 0;
+            case DEPARTMENTS_FILE -> 1;
+            default -> 2;
+        };
+    }
+
+    private static String schoolOf(String filename) {
+        return (rank(filename) < 2) ? null : filename.substring(0, filename.length() - ".json".length());
+    }
+
+    // --- 반영 ---
+
+    /**
+     * 파일 하나를 검증/반영하고 결과를 반환합니다. (실패해도 예외 없이 기존 스냅샷 유지)
+     */
+    private ReloadReport apply(Path file) {
+        long startedAt = System.nanoTime();
+        String filename = file.getFileName().toString();
+        String school = schoolOf(filename);
+        CatalogChangedEvent.Type catalog = QUESTIONS_FILE.equals(filename)
+                ? CatalogChangedEvent.Type.QUESTIONS
+                : CatalogChangedEvent.Type.DEPARTMENTS;
+        try {
+            ReloadReport report = (catalog == CatalogChangedEvent.Type.QUESTIONS)
+                    ? applyQuestions(file, startedAt)
+                    : applyDepartments(file, school, startedAt);
+            log.info("카탈로그 파일 반영: {} → v{} ({}개, 추가 {} / 변경 {} / 삭제 {}, {}ms)", filename, report.version(),
+                    report.size(), report.added(), report.updated(), report.removed(), report.durationMillis());
+            return report;
+        } catch (Exception e) {
+            log.error("카탈로그 파일 반영 실패, 기존 스냅샷을 유지합니다: {} ({})", filename, e.getMessage());
+            return ReloadReport.failed(filename, catalog, school, e.getMessage());
+        }
+    }
+
+    private ReloadReport applyQuestions(Path file, long startedAt) {
+        // 1. 파싱/검증
+        List<QuestionImportDto> dtos = read(file, new TypeReference<>() {});
+        if (dtos.isEmpty()) {
+            throw new CatalogValidationException("질문이 없습니다.");
+        }
+        Set<Integer> orders = new HashSet<>();
+        for (QuestionImportDto dto : dtos) {
+            if (dto.getQuestionOrder() == null || !orders.add(dto.getQuestionOrder())) {
+                throw new CatalogValidationException("질문 순서가 없거나 중복되었습니다: " + dto.getQuestionOrder());
+            }
+            if (dto.getQuestionText() == null || dto.getQuestionText().isBlank()) {
+                throw new CatalogValidationException("질문 내용이 없습니다: " + dto.getQuestionOrder() + "번");
+            }
+            try {
+                AptitudeType.fromDisplayName(dto.getAptitudeType());
+            } catch (IllegalArgumentException e) {
+                throw new CatalogValidationException(dto.getQuestionOrder() + "번 질문: " + e.getMessage());
+            }
+        }
+        List<Question> incoming = dtos.stream().map(dto -> dto.toEntity(objectMapper)).toList();
+        QuestionSnapshot.compile(incoming, 0, objectMapper);
+
+        // 2. DB 반영
+        Changes changes = transactionTemplate.execute(status -> upsertQuestions(incoming));
+
+        // 3. 스냅샷 교체 (변경이 없으면 캐시를 비우지 않도록 그대로 둠)
+        QuestionSnapshot snapshot = changes.any() ? questionCatalog.reload() : questionCatalog.current();
+        return changes.report(file, CatalogChangedEvent.Type.QUESTIONS, null, snapshot.version(), snapshot.size(), startedAt);
+    }
+
+    private ReloadReport applyDepartments(Path file, String school, long startedAt) {
+        // 1. 파싱/검증 (시험 컴파일에서 빠지는 학과가 있으면 거부)
+        List<DepartmentImportDto> dtos = read(file, new TypeReference<>() {});
+        if (dtos.isEmpty()) {
+            throw new CatalogValidationException("학과가 없습니다.");
+        }
+        Set<String> names = new HashSet<>();
+        for (DepartmentImportDto dto : dtos) {
+            if (dto.getName() == null || dto.getName().isBlank() || !names.add(dto.getName())) {
+                throw new CatalogValidationException("학과 이름이 없거나 중복되었습니다: " + dto.getName());
+            }
+            if (dto.getAptitudeScores() == null || dto.getAptitudeScores().size() != DepartmentSnapshot.DIMENSION
+                    || dto.getAptitudeScores().contains(null)) {
+                throw new CatalogValidationException(
+                        "적성 점수는 " + DepartmentSnapshot.DIMENSION + "개여야 합니다: " + dto.getName());
+            }
+            if (dto.getAptitudeDescription() == null) {
+                throw new CatalogValidationException("적성 설명이 없습니다: " + dto.getName());
+            }
+        }
+        List<Department> incoming = DepartmentImportDto.toEntities(dtos, objectMapper);
+        incoming.forEach(department -> department.setSchool(school));
+        DepartmentSnapshot trial = DepartmentSnapshot.compile(incoming, 0, objectMapper);
+        if (trial.size() != incoming.size()) {
+            throw new CatalogValidationException("컴파일할 수 없는 학과가 있습니다. (" + trial.size() + "/" + incoming.size() + ")");
+        }
+
+        // 2. DB 반영
+        Changes changes = transactionTemplate.execute(status -> upsertDepartments(school, incoming));
+        if (changes.removed > 0) {
+            log.warn("{} 에서 빠진 학과 {}개를 삭제했습니다. (이 학과를 추천받은 기존 결과에서는 해당 항목이 제외됨)",
+                    file.getFileName(), changes.removed);
+        }
+
+        // 3. 스냅샷 교체
+        DepartmentSnapshot snapshot = changes.any() ? departmentCatalog.reload(school) : departmentCatalog.current(school);
+        return changes.report(file, CatalogChangedEvent.Type.DEPARTMENTS, school, snapshot.version(), snapshot.size(), startedAt);
+    }
+
+    private <T> List<T> read(Path file, TypeReference<List<T>> type) {
+        try {
+            List<T> values = objectMapper.readValue(file.toFile(), type);
+            return (values != null) ? values : List.of();
+        } catch (IOException e) {
+            throw new CatalogValidationException("JSON 을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 질문 순서가 같은 행은 내용만 갱신하고, 파일에 없는 순서의 행은 삭제합니다.
+     */
+    private Changes upsertQuestions(List<Question> incoming) {
+        Map<Integer, Question> existing = new HashMap<>();
+        for (Question question : questionRepository.findAllByOrderByQuestionOrderAsc()) {
+            existing.put(question.getQuestionOrder(), question);
+        }
+
+        Changes changes = new Changes();
+        List<Question> changed = new ArrayList<>();
+        for (Question question : incoming) {
+            Question current = existing.remove(question.getQuestionOrder());
+            if (current == null) {
+                changed.add(question);
+                changes.added++;
+            } else if (!Objects.equals(current.getQuestionText(), question.getQuestionText())
+                    || !Objects.equals(current.getAptitudeType(), question.getAptitudeType())
+                    || current.isReverse() != question.isReverse()
+                    || !Objects.equals(current.getTags(), question.getTags())) {
+                current.setQuestionText(question.getQuestionText());
+                current.setAptitudeType(question.getAptitudeType());
+                current.setReverse(question.isReverse());
+                current.setTags(question.getTags());
+                changed.add(current);
+                changes.updated++;
+            }
+        }
+        questionRepository.saveAll(changed);
+        questionRepository.deleteAllInBatch(existing.values());
+        changes.removed = existing.size();
+        return changes;
+    }
+
+    /**
+     * 이름이 같은 학과는 id를 유지한 채 내용만 갱신하고 (새 학과는 뒤에 추가), 파일에 없는 학과는 삭제합니다.
+     */
+    private Changes upsertDepartments(String school, List<Department> incoming) {
+        List<Department> rows = (school == null)
+                ? departmentRepository.findAllBySchoolIsNullOrderByIdAsc()
+                : departmentRepository.findAllBySchoolOrderByIdAsc(school);
+        Map<String, Department> existing = new HashMap<>();
+        for (Department department : rows) {
+            existing.put(department.getName(), department);
+        }
+
+        Changes changes = new Changes();
+        List<Department> changed = new ArrayList<>();
+        for (Department department : incoming) {
+            Department current = existing.remove(department.getName());
+            if (current == null) {
+                changed.add(department);
+                changes.added++;
+            } else if (!Objects.equals(current.getAptitudeScores(), department.getAptitudeScores())
+                    || !Objects.equals(current.getDescription(), department.getDescription())
+                    || !Objects.equals(current.getUrl(), department.getUrl())
+                    || !Objects.equals(current.getTags(), department.getTags())
+                    || !Objects.equals(current.getCategory(), department.getCategory())) {
+                current.setAptitudeScores(department.getAptitudeScores());
+                current.setDescription(department.getDescription());
+                current.setUrl(department.getUrl());
+                current.setTags(department.getTags());
+                current.setCategory(department.getCategory());
+                changed.add(current);
+                changes.updated++;
+            }
+        }
+        departmentRepository.deleteAllInBatch(existing.values());
+        departmentRepository.saveAll(changed);
+        changes.removed = existing.size();
+        return changes;
+    }
+
+    /**
+     * DB의 현재 데이터로 질문/기본 학교 학과 스냅샷을 다시 만듭니다. (다른 학교는 다음 요청에서 다시 적재)
+     */
+    private List<ReloadReport> reloadFromDatabase() {
+        long startedAt = System.nanoTime();
+        QuestionSnapshot questions = questionCatalog.reload();
+        long questionsDone = System.nanoTime();
+        DepartmentSnapshot departments = departmentCatalog.reload();
+        return List.of(
+                new ReloadReport(null, CatalogChangedEvent.Type.QUESTIONS, null, questions.version(), questions.size(),
+                        0, 0, 0, (questionsDone - startedAt) / 1_000_000, null),
+                new ReloadReport(null, CatalogChangedEvent.Type.DEPARTMENTS, null, departments.version(), departments.size(),
+                        0, 0, 0, (System.nanoTime() - questionsDone) / 1_000_000, null));
+    }
+
+    private static final class Changes {
+        int added;
+        int updated;
+        int removed;
+
+        boolean any() {
+            return added + updated + removed > 0;
+        }
+
+        ReloadReport report(Path file, CatalogChangedEvent.Type catalog, String school, long version, int size, long startedAt) {
+            return new ReloadReport(file.getFileName().toString(), catalog, school, version, size,
+                    added, updated, removed, (System.nanoTime() - startedAt) / 1_000_000, null);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.catp.service.catalog;
+
+/**
+ * 새 카탈로그 파일을 읽거나 검증하지 못한 경우 (기존 스냅샷은 그대로 유지, HTTP 422 로 응답)
+ */
+public class CatalogValidationException extends RuntimeException {
+
+    public CatalogValidationException(String message) {
+        super(message);
+    }
+
+    public CatalogValidationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
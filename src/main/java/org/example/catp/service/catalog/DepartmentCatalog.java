@@ -0,0 +1,197 @@
+package org.example.catp.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.entity.Department;
+import org.example.catp.repository.DepartmentRepository;
+import org.example.catp.service.storage.DatabaseLimiter;
+import org.example.catp.util.CacheLoads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 사용 중인 학과 스냅샷을 보관합니다.
+ * 스냅샷은 불변이므로 요청 처리 중에는 잠금 없이 읽고, 재적재 시에는 참조만 원자적으로 교체합니다.
+ *
+ * 기본 학교(학교 코드 없음)의 스냅샷은 항상 메모리에 두고, 다른 학교의 스냅샷은 처음 요청될 때 DB에서 읽어
+ * 컴파일한 뒤 전체 학과 수 상한과 미사용 시간 기준으로 캐시에서 제거합니다.
+ * 같은 학교의 동시 첫 요청은 한 번만 적재하고 나머지는 그 결과를 기다립니다.
+ * 기본 학교의 적재/재적재는 하나씩 수행하므로 먼저 시작한 적재의 (더 오래된) 스냅샷이 나중에 교체되는 일이 없고,
+ * 학과 조회는 학교 적재와 마찬가지로 DB 동시 접근 상한(DatabaseLimiter)을 따릅니다.
+ */
+@Slf4j
+@Component
+public class DepartmentCatalog {
+
+    /** 학교 코드 형식 (영문, 숫자, '-', '_') */
+    private static final Pattern SCHOOL_CODE = Pattern.compile("[A-Za-z0-9_-]{1,50}");
+
+    private final DepartmentRepository departmentRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DatabaseLimiter databaseLimiter;
+
+    private final AtomicReference<DepartmentSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    /** 기본 학교 적재 잠금 (첫 적재를 한 번만 하고, 요청 경로의 첫 적재와 DataLoader/재적재가 겹치지 않도록) */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    /** 학교 적재(DB 조회)는 호출 스레드에서 잠금 밖에서 수행 (CacheLoads), 나머지 조작은 동기 뷰 사용 */
+    private final AsyncCache<String, DepartmentSnapshot> schoolLoads;
+    private final Cache<String, DepartmentSnapshot> schools;
+
+    public DepartmentCatalog(
+            DepartmentRepository departmentRepository,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            DatabaseLimiter databaseLimiter,
+            @Value("${catp.catalog.school-maximum-departments:200000}") long maximumDepartments,
+            @Value("${catp.catalog.school-expire-after-access:1h}") Duration expireAfterAccess) {
+        this.departmentRepository = departmentRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.databaseLimiter = databaseLimiter;
+        this.schoolLoads = Caffeine.newBuilder()
+                .maximumWeight(maximumDepartments)
+                .weigher((String school, DepartmentSnapshot snapshot) -> Math.max(1, snapshot.size()))
+                .expireAfterAccess(expireAfterAccess)
+                .removalListener((String school, DepartmentSnapshot snapshot, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        log.info("학교 {} 학과 스냅샷 v{}를 메모리에서 내렸습니다. ({})", school, snapshot.version(), cause);
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+        this.schools = schoolLoads.synchronous();
+    }
+
+    /**
+     * 현재 스냅샷 반환 (아직 적재 전이면 DB에서 읽어 컴파일)
+     */
+    public DepartmentSnapshot current() {
+        DepartmentSnapshot snapshot = current.get();
+        return (snapshot != null) ? snapshot : loadInitial();
+    }
+
+    /**
+     * 학교의 현재 스냅샷 반환 (학교 코드가 없으면 기본 학교)
+     *
+     * @throws IllegalArgumentException 학교 코드 형식이 잘못된 경우
+     * @throws UnknownSchoolException 학과가 등록되지 않은 학교인 경우
+     */
+    public DepartmentSnapshot current(String school) {
+        if (school == null || school.isBlank()) {
+            return current();
+        }
+        if (!isSchoolCode(school)) {
+            throw new IllegalArgumentException("학교 코드는 영문, 숫자, '-', '_' 50자 이내여야 합니다: " + school);
+        }
+
+        // 캐시에 없으면 적재 (같은 키의 동시 적재는 한 번만 수행, 학과가 없으면 캐시하지 않음)
+        DepartmentSnapshot snapshot = CacheLoads.getOrLoad(schoolLoads, school, this::load);
+        if (snapshot == null) {
+            throw new UnknownSchoolException(school);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 첫 적재는 한 번만 수행 (잠금을 기다린 요청은 먼저 적재한 스냅샷을 사용)
+     */
+    private DepartmentSnapshot loadInitial() {
+        reloadLock.lock();
+        try {
+            DepartmentSnapshot snapshot = current.get();
+            return (snapshot != null) ? snapshot : reload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 이미 적재된 스냅샷 (적재 전이면 empty, 지표 수집처럼 DB 조회를 일으키면 안 되는 곳에서 사용)
+     */
+    public Optional<DepartmentSnapshot> loaded() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * DB의 학과 데이터로 새 스냅샷을 만들어 교체합니다.
+     * 다른 학교의 스냅샷은 비워 두고 다음 요청에서 다시 적재합니다.
+     */
+    public DepartmentSnapshot reload() {
+        reloadLock.lock();
+        try {
+            List<Department> departments = databaseLimiter.call(departmentRepository::findAllBySchoolIsNullOrderByIdAsc);
+            DepartmentSnapshot snapshot = DepartmentSnapshot.compile(departments, versionSequence.incrementAndGet(), objectMapper);
+            current.set(snapshot);
+            schools.invalidateAll();
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.DEPARTMENTS, snapshot.version()));
+            log.info("학과 스냅샷 v{} 적재 완료 ({}개)", snapshot.version(), snapshot.size());
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * DB의 학교 학과 데이터로 새 스냅샷을 만들어 교체합니다. (학교 코드가 없으면 기본 학교)
+     * 교체 전에 시작한 요청은 이미 읽은 기존 스냅샷으로 끝까지 처리됩니다.
+     *
+     * @throws UnknownSchoolException 학과가 등록되지 않은 학교인 경우
+     */
+    public DepartmentSnapshot reload(String school) {
+        if (school == null || school.isBlank()) {
+            return reload();
+        }
+        DepartmentSnapshot snapshot = load(school);
+        if (snapshot == null) {
+            schools.invalidate(school);
+            throw new UnknownSchoolException(school);
+        }
+        schools.put(school, snapshot);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.DEPARTMENTS, snapshot.version()));
+        return snapshot;
+    }
+
+    /**
+     * 메모리에 있는 다른 학교 스냅샷 수
+     */
+    public long schoolCount() {
+        return schools.estimatedSize();
+    }
+
+    public CacheStats schoolStats() {
+        return schools.stats();
+    }
+
+    static boolean isSchoolCode(String school) {
+        return SCHOOL_CODE.matcher(school).matches();
+    }
+
+    private DepartmentSnapshot load(String school) {
+        long start = System.nanoTime();
+        List<Department> departments = databaseLimiter.call(() -> departmentRepository.findAllBySchoolOrderByIdAsc(school));
+        if (departments.isEmpty()) {
+            return null;
+        }
+
+        DepartmentSnapshot snapshot = DepartmentSnapshot.compile(departments, versionSequence.incrementAndGet(), objectMapper);
+        log.info("학교 {} 학과 스냅샷 v{} 적재 완료 ({}개, {}ms)",
+                school, snapshot.version(), snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+}
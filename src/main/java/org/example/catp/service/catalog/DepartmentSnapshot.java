@@ -0,0 +1,329 @@
+package org.example.catp.service.catalog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.entity.AptitudeType;
+import org.example.catp.entity.Department;
+
+import java.util.*;
+
+import static org.example.catp.service.strategy.WeightedDistanceStrategy.CATEGORY_WEIGHTS;
+import static org.example.catp.service.strategy.WeightedDistanceStrategy.CRITICAL_DEPT_THRESHOLD;
+import static org.example.catp.service.strategy.WeightedDistanceStrategy.IMPORTANT_WEIGHT;
+
+/**
+ * 학과 목록을 추천 계산용 배열 구조로 미리 컴파일한 불변 스냅샷
+ * JSON 파싱, 노름 계산, 계열 가중치 적용, 태그 비교를 요청마다 반복하지 않도록
+ * 로딩 시점에 한 번만 수행합니다. 배열은 읽기 전용으로만 사용해야 합니다.
+ */
+@Slf4j
+public final class DepartmentSnapshot {
+
+    /** 적성 벡터 차원 수 */
+    public static final int DIMENSION = AptitudeType.values().length;
+
+    private final long version;
+    private final List<Department> departments;
+    private final Map<Long, Integer> indexById;
+
+    /** 학과 적성 벡터 (학과 d의 i번째 적성 = vectors[d * DIMENSION + i]) */
+    private final double[] vectors;
+    private final double[] norms;
+
+    /** 자기 계열 가중치가 적용된 학과 벡터와 그 크기 */
+    private final double[] weightedVectors;
+    private final double[] weightedNorms;
+
+    /**
+     * 열 우선(column-major) 배치본: i번째 적성의 학과 d 값 = columns[i * size + d]
+     * 적성 하나에 대해 모든 학과 값이 연속으로 놓여 여러 학과의 내적을 한 번에 (SIMD로) 계산할 수 있습니다.
+     */
+    private final double[] vectorColumns;
+    private final double[] weightedVectorColumns;
+    private final double[] categoryWeightColumns;
+
+    /** 계열 id별 가중치 벡터 */
+    private final String[] categoryNames;
+    private final double[][] categoryWeights;
+    private final int[] categoryIds;
+
+    /** 과락 기준 이상을 요구하는 적성 인덱스 비트마스크 */
+    private final int[] criticalMasks;
+
+    /** 태그 사전 (태그 → id) 과 학과별 태그 비트셋 */
+    private final Map<String, Integer> tagIds;
+    private final int tagWords;
+    private final long[] tagBits;
+
+    private DepartmentSnapshot(long version, List<Department> departments, double[] vectors,
+                               String[] categoryNames, int[] categoryIds,
+                               Map<String, Integer> tagIds, List<List<String>> deptTags) {
+        int size = departments.size();
+        this.version = version;
+        this.departments = Collections.unmodifiableList(departments);
+        this.indexById = new HashMap<>();
+        for (int d = 0; d < size; d++) {
+            indexById.put(departments.get(d).getId(), d);
+        }
+        this.vectors = vectors;
+        this.categoryNames = categoryNames;
+        this.categoryIds = categoryIds;
+        this.tagIds = Collections.unmodifiableMap(tagIds);
+
+        this.categoryWeights = new double[categoryNames.length][DIMENSION];
+        for (int c = 0; c < categoryNames.length; c++) {
+            Arrays.fill(categoryWeights[c], 1.0);
+            for (AptitudeType type : CATEGORY_WEIGHTS.getOrDefault(categoryNames[c], Collections.emptyList())) {
+                categoryWeights[c][type.getIndex()] = IMPORTANT_WEIGHT;
+            }
+        }
+
+        this.norms = new double[size];
+        this.weightedVectors = new double[size * DIMENSION];
+        this.weightedNorms = new double[size];
+        this.criticalMasks = new int[size];
+        for (int d = 0; d < size; d++) {
+            double[] weights = categoryWeights[categoryIds[d]];
+            double magnitude = 0.0;
+            double weightedMagnitude = 0.0;
+            int mask = 0;
+            for (int i = 0; i < DIMENSION; i++) {
+                double value = vectors[d * DIMENSION + i];
+                double weighted = value * weights[i];
+                weightedVectors[d * DIMENSION + i] = weighted;
+                magnitude += value * value;
+                weightedMagnitude += weighted * weighted;
+                if (value >= CRITICAL_DEPT_THRESHOLD) {
+                    mask |= 1 << i;
+                }
+            }
+            norms[d] = Math.sqrt(magnitude);
+            weightedNorms[d] = Math.sqrt(weightedMagnitude);
+            criticalMasks[d] = mask;
+        }
+
+        this.vectorColumns = new double[size * DIMENSION];
+        this.weightedVectorColumns = new double[size * DIMENSION];
+        this.categoryWeightColumns = new double[size * DIMENSION];
+        for (int d = 0; d < size; d++) {
+            double[] weights = categoryWeights[categoryIds[d]];
+            for (int i = 0; i < DIMENSION; i++) {
+                vectorColumns[i * size + d] = vectors[d * DIMENSION + i];
+                weightedVectorColumns[i * size + d] = weightedVectors[d * DIMENSION + i];
+                categoryWeightColumns[i * size + d] = weights[i];
+            }
+        }
+
+        this.tagWords = (tagIds.size() + 63) >>> 6;
+        this.tagBits = new long[Math.max(1, size * tagWords)];
+        for (int d = 0; d < size; d++) {
+            for (String tag : deptTags.get(d)) {
+                int id = tagIds.get(tag);
+                tagBits[d * tagWords + (id >>> 6)] |= 1L << id;
+            }
+        }
+    }
+
+    /**
+     * DB에서 읽은 학과 엔티티를 스냅샷으로 컴파일합니다.
+     * 점수/태그 JSON이 올바르지 않은 학과는 기존과 같이 로그를 남기고 제외합니다.
+     */
+    public static DepartmentSnapshot compile(List<Department> source, long version, ObjectMapper objectMapper) {
+        List<Department> departments = new ArrayList<>(source.size());
+        List<List<String>> deptTags = new ArrayList<>(source.size());
+        double[] vectors = new double[source.size() * DIMENSION];
+        List<String> categoryNames = new ArrayList<>();
+        Map<String, Integer> categoryIndex = new HashMap<>();
+        int[] categoryIds = new int[source.size()];
+        Map<String, Integer> tagIds = new LinkedHashMap<>();
+
+        for (Department dept : source) {
+            try {
+                List<Integer> scores = objectMapper.readValue(dept.getAptitudeScores(), new TypeReference<>() {});
+                List<String> tags = objectMapper.readValue(dept.getTags(), new TypeReference<>() {});
+                if (scores.size() < DIMENSION) {
+                    throw new IllegalArgumentException("적성 점수 개수 부족: " + scores.size());
+                }
+                if (dept.getCategory() == null) {
+                    throw new IllegalArgumentException("계열 정보 없음");
+                }
+
+                int d = departments.size();
+                for (int i = 0; i < DIMENSION; i++) {
+                    vectors[d * DIMENSION + i] = scores.get(i);
+                }
+                categoryIds[d] = categoryIndex.computeIfAbsent(dept.getCategory(), name -> {
+                    categoryNames.add(name);
+                    return categoryNames.size() - 1;
+                });
+                for (String tag : tags) {
+                    tagIds.putIfAbsent(tag, tagIds.size());
+                }
+                departments.add(dept);
+                deptTags.add(tags);
+            } catch (Exception e) {
+                log.error("학과 매칭 데이터 컴파일 실패: {}", dept.getName(), e);
+            }
+        }
+
+        int size = departments.size();
+        return new DepartmentSnapshot(
+                version,
+                departments,
+                Arrays.copyOf(vectors, size * DIMENSION),
+                categoryNames.toArray(new String[0]),
+                Arrays.copyOf(categoryIds, size),
+                tagIds,
+                deptTags
+        );
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return departments.size();
+    }
+
+    public Department department(int d) {
+        return departments.get(d);
+    }
+
+    /**
+     * 학과 id에 해당하는 스냅샷 인덱스 (없으면 -1)
+     */
+    public int indexOf(Long departmentId) {
+        Integer d = indexById.get(departmentId);
+        return (d != null) ? d : -1;
+    }
+
+    public List<Department> departments() {
+        return departments;
+    }
+
+    public double[] vectors() {
+        return vectors;
+    }
+
+    public double[] norms() {
+        return norms;
+    }
+
+    public double[] weightedVectors() {
+        return weightedVectors;
+    }
+
+    public double[] weightedNorms() {
+        return weightedNorms;
+    }
+
+    /**
+     * 열 우선 학과 적성 벡터 (i번째 적성의 학과 d 값 = [i * size() + d])
+     */
+    public double[] vectorColumns() {
+        return vectorColumns;
+    }
+
+    /**
+     * 열 우선 계열 가중치 적용 학과 벡터
+     */
+    public double[] weightedVectorColumns() {
+        return weightedVectorColumns;
+    }
+
+    /**
+     * 열 우선 학과별 계열 가중치 (사용자 벡터에 곱할 값)
+     */
+    public double[] categoryWeightColumns() {
+        return categoryWeightColumns;
+    }
+
+    public int[] categoryIds() {
+        return categoryIds;
+    }
+
+    public int categoryCount() {
+        return categoryNames.length;
+    }
+
+    public String categoryName(int categoryId) {
+        return categoryNames[categoryId];
+    }
+
+    public double[] categoryWeights(int categoryId) {
+        return categoryWeights[categoryId];
+    }
+
+    public int[] criticalMasks() {
+        return criticalMasks;
+    }
+
+    /**
+     * 태그 집합을 이 스냅샷의 태그 비트셋으로 변환합니다. (사전에 없는 태그는 어떤 학과와도 일치하지 않으므로 무시)
+     */
+    public long[] tagMask(Collection<String> tags) {
+        long[] mask = new long[tagWords];
+        for (String tag : tags) {
+            Integer id = tagIds.get(tag);
+            if (id != null) {
+                mask[id >>> 6] |= 1L << id;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 학과 d와 태그 비트셋의 공통 태그 개수
+     */
+    public int matchingTagCount(int d, long[] mask) {
+        int count = 0;
+        int base = d * tagWords;
+        for (int w = 0; w < tagWords; w++) {
+            count += Long.bitCount(tagBits[base + w] & mask[w]);
+        }
+        return count;
+    }
+
+    /**
+     * 태그 비트셋 하나의 long 개수 (tagMask 와 같은 길이)
+     */
+    public int tagWords() {
+        return tagWords;
+    }
+
+    /**
+     * 학과 d의 태그 비트셋을 target 에 합칩니다. (학과 묶음의 태그 합집합 계산용)
+     */
+    public void orTags(int d, long[] target) {
+        int base = d * tagWords;
+        for (int w = 0; w < tagWords; w++) {
+            target[w] |= tagBits[base + w];
+        }
+    }
+
+    /**
+     * 학과 d가 해당 태그를 가지고 있는지 여부
+     */
+    public boolean hasTag(int d, String tag) {
+        Integer id = tagIds.get(tag);
+        return id != null && (tagBits[d * tagWords + (id >>> 6)] & (1L << id)) != 0;
+    }
+
+    /**
+     * 사용자 태그 중 학과 d가 가진 태그를 사용자 태그 순회 순서대로 최대 limit개 반환합니다.
+     */
+    public List<String> commonTags(int d, Collection<String> userTags, int limit) {
+        List<String> commonTags = new ArrayList<>(Math.min(limit, userTags.size()));
+        for (String tag : userTags) {
+            if (commonTags.size() >= limit) {
+                break;
+            }
+            if (hasTag(d, tag)) {
+                commonTags.add(tag);
+            }
+        }
+        return commonTags;
+    }
+}
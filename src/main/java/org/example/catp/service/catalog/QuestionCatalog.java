@@ -0,0 +1,73 @@
+package org.example.catp.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.repository.QuestionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 현재 사용 중인 질문 스냅샷을 보관합니다.
+ * 정상 상태의 제출/조회 요청은 questions 테이블에 접근하지 않고 이 스냅샷만 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionCatalog {
+
+    private final QuestionRepository questionRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<QuestionSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /** 첫 적재 잠금 (적재 전에 동시에 들어온 요청이 각자 스냅샷을 만들지 않도록) */
+    private final ReentrantLock initialLoad = new ReentrantLock();
+
+    /**
+     * 현재 스냅샷 반환 (아직 적재 전이면 DB에서 읽어 생성)
+     */
+    public QuestionSnapshot current() {
+        QuestionSnapshot snapshot = current.get();
+        return (snapshot != null) ? snapshot : loadInitial();
+    }
+
+    /**
+     * 이미 적재된 스냅샷 (적재 전이면 empty, 지표 수집처럼 DB 조회를 일으키면 안 되는 곳에서 사용)
+     */
+    public Optional<QuestionSnapshot> loaded() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * DB의 질문 데이터로 새 스냅샷을 만들어 교체합니다.
+     */
+    public QuestionSnapshot reload() {
+        QuestionSnapshot snapshot = QuestionSnapshot.compile(
+                questionRepository.findAllByOrderByQuestionOrderAsc(), versionSequence.incrementAndGet(), objectMapper);
+        current.set(snapshot);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Type.QUESTIONS, snapshot.version()));
+        log.info("질문 스냅샷 v{} 적재 완료 ({}개)", snapshot.version(), snapshot.size());
+        return snapshot;
+    }
+
+    /**
+     * 첫 적재는 한 번만 수행 (잠금을 기다린 요청은 먼저 적재한 스냅샷을 사용)
+     */
+    private QuestionSnapshot loadInitial() {
+        initialLoad.lock();
+        try {
+            QuestionSnapshot snapshot = current.get();
+            return (snapshot != null) ? snapshot : reload();
+        } finally {
+            initialLoad.unlock();
+        }
+    }
+}
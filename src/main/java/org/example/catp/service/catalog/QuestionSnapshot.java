@@ -0,0 +1,89 @@
+package org.example.catp.service.catalog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.entity.Question;
+import org.example.catp.service.calculator.ScoringPlan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 질문 순서대로 정렬된 불변 질문 목록과 그 버전
+ * 채점, 답변 개수 검증, 질문 조회 API가 모두 같은 스냅샷을 기준으로 동작합니다.
+ * 문항별 태그는 미리 파싱하여 태그 사전의 id 배열로 보관합니다.
+ */
+@Slf4j
+public final class QuestionSnapshot {
+
+    private final long version;
+    private final List<Question> questions;
+    private final ScoringPlan scoringPlan;
+    private final TagDictionary tagDictionary;
+
+    /** 문항별 태그 id 배열 */
+    private final int[][] questionTagIds;
+
+    private QuestionSnapshot(long version, List<Question> questions, List<List<String>> questionTags) {
+        this.version = version;
+        this.questions = Collections.unmodifiableList(questions);
+        this.scoringPlan = ScoringPlan.compile(questions);
+        this.tagDictionary = TagDictionary.compile(questionTags);
+
+        this.questionTagIds = new int[questionTags.size()][];
+        for (int i = 0; i < questionTags.size(); i++) {
+            questionTagIds[i] = questionTags.get(i).stream()
+                    .mapToInt(tagDictionary::id)
+                    .toArray();
+        }
+    }
+
+    /**
+     * 질문 순서대로 정렬된 엔티티 목록으로 스냅샷을 만듭니다.
+     * 태그 JSON 파싱에 실패한 문항은 태그 없이 처리합니다.
+     */
+    public static QuestionSnapshot compile(List<Question> ordered, long version, ObjectMapper objectMapper) {
+        List<List<String>> questionTags = new ArrayList<>(ordered.size());
+        for (Question question : ordered) {
+            try {
+                List<String> tags = (question.getTags() != null)
+                        ? objectMapper.readValue(question.getTags(), new TypeReference<List<String>>() {})
+                        : null;
+                questionTags.add((tags != null) ? tags : List.of());
+            } catch (Exception e) {
+                log.warn("태그 파싱 실패 (질문 ID: {}): {}", question.getId(), e.getMessage());
+                questionTags.add(List.of());
+            }
+        }
+        return new QuestionSnapshot(version, new ArrayList<>(ordered), questionTags);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return questions.size();
+    }
+
+    public List<Question> questions() {
+        return questions;
+    }
+
+    public ScoringPlan scoringPlan() {
+        return scoringPlan;
+    }
+
+    public TagDictionary tagDictionary() {
+        return tagDictionary;
+    }
+
+    /**
+     * i번째 문항의 태그 id 배열 (읽기 전용)
+     */
+    public int[] questionTagIds(int i) {
+        return questionTagIds[i];
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.catp.service.catalog;
+
+import java.util.*;
+
+/**
+ * 관심사 태그 사전
+ * 질문 태그와 유사 태그 그룹의 모든 태그에 정수 id를 부여하고,
+ * 태그 id → 그룹 대표 태그 id, 대표 태그 여부를 배열로 보관합니다.
+ * id는 질문 순서상 처음 등장한 순서대로 부여됩니다.
+ */
+public final class TagDictionary {
+
+    /** 그룹에 속하지 않는 태그의 그룹 값 */
+    public static final int NO_GROUP = -1;
+
+    /** 대표 태그 (이 태그들이 우선 표시됨) */
+    public static final Set<String> PRIMARY_TAGS = Set.of(
+            // 분야별 대표 키워드
+            "IT", "AI", "코딩", "데이터", "디자인", "경영", "금융", "법", "의료", "교육",
+            "예술", "음악", "체육", "건축", "과학", "연구", "창업", "마케팅", "심리", "언어",
+            "게임", "영상", "웹툰", "요리", "관광", "봉사", "리더십", "창의", "분석", "소통"
+    );
+
+    /** 유사 태그 그룹 (같은 그룹에서 1개만 선택) */
+    public static final Map<String, List<String>> TAG_GROUPS = Map.ofEntries(
+            // IT/개발 계열
+            Map.entry("IT", List.of("IT", "코딩", "프로그래밍", "개발", "컴퓨터", "소프트웨어")),
+            Map.entry("AI", List.of("AI", "인공지능", "머신러닝")),
+            Map.entry("데이터", List.of("데이터", "빅데이터", "통계", "분석")),
+
+            // 경영/경제 계열
+            Map.entry("경영", List.of("경영", "비즈니스", "관리", "CEO")),
+            Map.entry("금융", List.of("금융", "투자", "회계", "재테크")),
+            Map.entry("창업", List.of("창업", "스타트업", "사업")),
+
+            // 디자인/예술 계열
+            Map.entry("디자인", List.of("디자인", "시각디자인", "산업디자인")),
+            Map.entry("예술", List.of("예술", "미술", "창작")),
+            Map.entry("음악", List.of("음악", "공연", "엔터테인먼트")),
+
+            // 미디어/콘텐츠 계열
+            Map.entry("영상", List.of("영상", "영화", "방송", "미디어")),
+            Map.entry("게임", List.of("게임", "콘텐츠")),
+            Map.entry("웹툰", List.of("웹툰", "만화")),
+
+            // 언어/글쓰기 계열
+            Map.entry("언어", List.of("언어", "외국어", "영어", "일본어", "중국어")),
+            Map.entry("글쓰기", List.of("글쓰기", "문학", "작가", "스토리")),
+
+            // 과학/공학 계열
+            Map.entry("과학", List.of("과학", "연구", "실험")),
+            Map.entry("공학", List.of("공학", "기계", "전기", "전자", "기술")),
+
+            // 의료/보건 계열
+            Map.entry("의료", List.of("의료", "간호", "건강", "보건")),
+            Map.entry("심리", List.of("심리", "상담", "치료")),
+
+            // 사회/봉사 계열
+            Map.entry("봉사", List.of("봉사", "사회복지", "돌봄")),
+            Map.entry("교육", List.of("교육", "교직", "교사")),
+
+            // 행정/법 계열
+            Map.entry("행정", List.of("행정", "공무원", "정책")),
+            Map.entry("법", List.of("법", "법률", "정의"))
+    );
+
+    private final String[] names;
+    private final Map<String, Integer> ids;
+    private final int[] groupOf;
+    private final boolean[] primary;
+    private final int[] spreadHashes;
+
+    private TagDictionary(List<String> names) {
+        this.names = names.toArray(new String[0]);
+        this.ids = new HashMap<>();
+        this.spreadHashes = new int[this.names.length];
+        for (int id = 0; id < this.names.length; id++) {
+            ids.put(this.names[id], id);
+            int h = this.names[id].hashCode();
+            spreadHashes[id] = h ^ (h >>> 16);
+        }
+
+        this.groupOf = new int[this.names.length];
+        Arrays.fill(groupOf, NO_GROUP);
+        for (Map.Entry<String, List<String>> group : TAG_GROUPS.entrySet()) {
+            int groupId = ids.get(group.getKey());
+            for (String member : group.getValue()) {
+                groupOf[ids.get(member)] = groupId;
+            }
+        }
+
+        this.primary = new boolean[this.names.length];
+        for (String tag : PRIMARY_TAGS) {
+            Integer id = ids.get(tag);
+            if (id != null) {
+                primary[id] = true;
+            }
+        }
+    }
+
+    /**
+     * 질문 순서대로 나열된 문항별 태그 목록으로 사전을 만듭니다.
+     * 그룹 태그 중 질문에 등장하지 않은 태그는 뒤쪽 id를 받습니다.
+     */
+    public static TagDictionary compile(List<List<String>> questionTags) {
+        Set<String> names = new LinkedHashSet<>();
+        questionTags.forEach(names::addAll);
+        TAG_GROUPS.forEach((group, members) -> {
+            names.add(group);
+            names.addAll(members);
+        });
+        return new TagDictionary(new ArrayList<>(names));
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    /**
+     * 태그 id 반환 (사전에 없으면 -1)
+     */
+    public int id(String tag) {
+        Integer id = ids.get(tag);
+        return (id != null) ? id : -1;
+    }
+
+    /**
+     * 태그가 속한 그룹의 대표 태그 id (그룹이 없으면 NO_GROUP)
+     */
+    public int groupOf(int id) {
+        return groupOf[id];
+    }
+
+    public boolean isPrimary(int id) {
+        return primary[id];
+    }
+
+    /**
+     * HashMap 과 같은 방식으로 섞은 태그 해시 (HashMap 순회 순서 재현용)
+     */
+    public int spreadHash(int id) {
+        return spreadHashes[id];
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.catp.service.catalog;
+
+/**
+ * 학과가 등록되지 않은 학교 코드로 카탈로그를 요청한 경우 (HTTP 404 로 응답)
+ */
+public class UnknownSchoolException extends RuntimeException {
+
+    public UnknownSchoolException(String school) {
+        super("등록되지 않은 학교입니다: " + school);
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.catp.service.metrics;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.catp.loader.DataLoader;
+import org.example.catp.service.DataCleanupService;
+import org.example.catp.service.DataCleanupService.CleanupReport;
+import org.example.catp.service.cache.AnalysisResultCache;
+import org.example.catp.service.cache.ResultResponseCache;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.catalog.QuestionSnapshot;
+import org.example.catp.service.session.TestSessionService;
+import org.example.catp.service.storage.DatabaseLimiter;
+import org.example.catp.service.storage.TestResultWriteBehind;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 각 컴포넌트가 이미 집계하는 통계(stats(), size(), lastReport() 등)를 Micrometer 지표로 노출합니다.
+ * 값은 수집(scrape) 시점에 읽으므로 요청 처리 경로에는 비용이 없습니다.
+ *
+ * 캐시 지표는 Micrometer 기본 캐시 지표와 같은 이름(cache.gets{result=hit|miss}, cache.evictions, cache.size)을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatpMeterBinder implements MeterBinder {
+
+    private final AnalysisResultCache analysisResultCache;
+    private final ResultResponseCache resultResponseCache;
+    private final TestResultWriteBehind testResultWriteBehind;
+    private final QuestionCatalog questionCatalog;
+    private final DepartmentCatalog departmentCatalog;
+    private final TestSessionService testSessionService;
+    private final DataCleanupService dataCleanupService;
+    private final DataLoader dataLoader;
+    private final DatabaseLimiter databaseLimiter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 1. 캐시 (적중/미스/제거, 크기)
+        bindCache(registry, "analysis-result", analysisResultCache::stats, AnalysisResultCache::size, analysisResultCache);
+        bindCache(registry, "result-response", resultResponseCache::stats, ResultResponseCache::size, resultResponseCache);
+        bindCache(registry, "school-catalog", departmentCatalog::schoolStats, DepartmentCatalog::schoolCount, departmentCatalog);
+
+        // 2. 결과 저장 대기열
+        Gauge.builder("catp.results.queue.depth", testResultWriteBehind, w -> w.stats().queueDepth())
+                .description("저장 대기열에 쌓인 결과 수")
+                .register(registry);
+        Gauge.builder("catp.results.pending", testResultWriteBehind, w -> w.stats().pending())
+                .description("아직 DB에 기록되지 않은 결과 수 (저장 중인 배치 포함)")
+                .register(registry);
+        Gauge.builder("catp.results.spooled", testResultWriteBehind, w -> w.stats().spooled())
+                .description("보관 파일에서 다시 저장을 기다리는 결과 수")
+                .register(registry);
+        FunctionCounter.builder("catp.results.flushed", testResultWriteBehind, w -> w.stats().flushedRows())
+                .description("DB에 기록한 결과 수")
+                .register(registry);
+        FunctionCounter.builder("catp.results.flushes", testResultWriteBehind, w -> w.stats().flushCount())
+                .description("배치 INSERT 횟수")
+                .register(registry);
+        FunctionCounter.builder("catp.results.overflow", testResultWriteBehind, w -> w.stats().syncFallbacks())
+                .description("대기열이 가득 차 처리한 결과 수")
+                .tag("policy", "sync")
+                .register(registry);
+        FunctionCounter.builder("catp.results.overflow", testResultWriteBehind, w -> w.stats().rejected())
+                .description("대기열이 가득 차 처리한 결과 수")
+                .tag("policy", "reject")
+                .register(registry);
+        FunctionCounter.builder("catp.results.failed", testResultWriteBehind, w -> w.stats().failedRows())
+                .description("기록에 실패하여 버려진 결과 수")
+                .register(registry);
+
+        // 3. 카탈로그 크기 (적재 전이면 NaN)
+        Gauge.builder("catp.catalog.questions", questionCatalog,
+                        catalog -> catalog.loaded().map(QuestionSnapshot::size).map(Integer::doubleValue).orElse(Double.NaN))
+                .description("현재 질문 스냅샷의 문항 수")
+                .register(registry);
+        Gauge.builder("catp.catalog.departments", departmentCatalog,
+                        catalog -> catalog.loaded().map(DepartmentSnapshot::size).map(Integer::doubleValue).orElse(Double.NaN))
+                .description("기본 학교 학과 스냅샷의 학과 수")
+                .register(registry);
+        Gauge.builder("catp.catalog.schools.loaded", departmentCatalog, DepartmentCatalog::schoolCount)
+                .description("메모리에 있는 다른 학교 학과 스냅샷 수")
+                .register(registry);
+        TimeGauge.builder("catp.catalog.startup", dataLoader, TimeUnit.MILLISECONDS, DataLoader::startupMillis)
+                .description("시작 시 카탈로그 적재 소요 시간")
+                .register(registry);
+
+        // 4. 검사 세션, 오래된 결과 정리
+        Gauge.builder("catp.sessions.active", testSessionService, TestSessionService::size)
+                .description("진행 중인 검사 세션 수")
+                .register(registry);
+        Gauge.builder("catp.cleanup.last.deleted", dataCleanupService, cleanupValue(CleanupReport::deletedRows))
+                .description("마지막 정리에서 삭제한 결과 수")
+                .register(registry);
+        Gauge.builder("catp.cleanup.last.backlog", dataCleanupService, cleanupValue(CleanupReport::remainingBacklog))
+                .description("마지막 정리 후 남은 삭제 대상 수")
+                .register(registry);
+        TimeGauge.builder("catp.cleanup.last.duration", dataCleanupService, TimeUnit.MILLISECONDS,
+                        cleanupValue(CleanupReport::durationMillis))
+                .description("마지막 정리 소요 시간")
+                .register(registry);
+
+        // 5. 요청 스레드의 DB 동시 접근 상한
+        Gauge.builder("catp.db.active", databaseLimiter, DatabaseLimiter::active)
+                .description("지금 DB 작업 중인 요청 수")
+                .register(registry);
+        Gauge.builder("catp.db.waiting", databaseLimiter, DatabaseLimiter::waiting)
+                .description("DB 차례를 기다리는 요청 수")
+                .register(registry);
+        FunctionCounter.builder("catp.db.rejected", databaseLimiter, DatabaseLimiter::rejected)
+                .description("대기 시간 초과로 거절한 요청 수")
+                .register(registry);
+    }
+
+    private static <T> void bindCache(MeterRegistry registry, String name, Supplier<CacheStats> stats,
+                                      ToDoubleFunction<T> size, T cache) {
+        FunctionCounter.builder("cache.gets", cache, c -> stats.get().hitCount())
+                .tag("cache", name)
+                .tag("result", "hit")
+                .description("캐시 적중 수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> stats.get().missCount())
+                .tag("cache", name)
+                .tag("result", "miss")
+                .description("캐시 미스 수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> stats.get().evictionCount())
+                .tag("cache", name)
+                .description("용량/만료로 제거된 항목 수")
+                .register(registry);
+        Gauge.builder("cache.size", cache, size)
+                .tag("cache", name)
+                .description("캐시 항목 수 (추정)")
+                .register(registry);
+    }
+
+    /**
+     * 마지막 정리 결과의 값 (아직 실행 전이면 NaN)
+     */
+    private static ToDoubleFunction<DataCleanupService> cleanupValue(ToDoubleFunction<CleanupReport> value) {
+        return service -> {
+            CleanupReport report = service.lastReport();
+            return (report != null) ? value.applyAsDouble(report) : Double.NaN;
+        };
+    }
+}
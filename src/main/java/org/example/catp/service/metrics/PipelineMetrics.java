@@ -0,0 +1,113 @@
+package org.example.catp.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 분석/저장/조회 파이프라인의 단계별 소요 시간 (catp.pipeline.stage{stage=...}, Prometheus 백분위 히스토그램)
+ * 시험 당일처럼 요청이 몰릴 때 느린 구간이 DB(result_insert, result_fetch)인지
+ * 계산(score, recommend 등)인지 구분할 수 있도록 단계마다 따로 기록합니다.
+ * 단계에서 예외가 나면 catp.pipeline.errors{stage, exception} 을 올리고 그대로 다시 던집니다.
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String STAGE_TIMER = "catp.pipeline.stage";
+    public static final String ERROR_COUNTER = "catp.pipeline.errors";
+
+    /** 기록 단계 (태그 값은 Prometheus 라벨로 그대로 노출) */
+    public enum Stage {
+        /** 질문 스냅샷 조회 */
+        QUESTION_FETCH("question_fetch"),
+        /** 적성 점수 계산 (ScoreCalculator) */
+        SCORE("score"),
+        /** 긍정 답변 문항의 관심사 태그 빈도 집계 */
+        TAG_EXTRACTION("tag_extraction"),
+        /** 태그 그룹 대표 선택 + 우선순위 정렬 */
+        TAG_FILTER("tag_filter"),
+        /** 학과 추천 (RecommendationStrategy) */
+        RECOMMEND("recommend"),
+        /** 결과 요약 문구 생성 */
+        SUMMARY("summary"),
+        /** 제출 결과 저장 요청 (대기열 등록, 대기열이 가득 차면 직접 저장 포함) */
+        RESULT_SAVE("result_save"),
+        /** 결과 배치 INSERT (저장 스레드, 일괄 제출) */
+        RESULT_INSERT("result_insert"),
+        /** 결과 조회 캐시 미스 시 저장 대기열/DB 조회 */
+        RESULT_FETCH("result_fetch"),
+        /** 조회한 결과를 응답으로 복원 + 직렬화 */
+        RESULT_DECODE("result_decode");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Timer[] timers;
+
+    public PipelineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.timers = new Timer[Stage.values().length];
+        for (Stage stage : Stage.values()) {
+            // 단계 대부분이 마이크로초 단위이므로 히스토그램 범위를 기본값(1ms~)보다 낮게 잡음
+            timers[stage.ordinal()] = Timer.builder(STAGE_TIMER)
+                    .description("분석 파이프라인 단계별 소요 시간")
+                    .tag("stage", stage.tag())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 단계 실행 시간 기록 (예외도 소요 시간에 포함하고 오류 수를 올린 뒤 다시 던짐)
+     */
+    public <T> T record(Stage stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } catch (RuntimeException | Error e) {
+            error(stage, e);
+            throw e;
+        } finally {
+            timers[stage.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 결과가 없는 단계 실행 시간 기록
+     */
+    public void run(Stage stage, Runnable work) {
+        record(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public Timer timer(Stage stage) {
+        return timers[stage.ordinal()];
+    }
+
+    private void error(Stage stage, Throwable e) {
+        Counter.builder(ERROR_COUNTER)
+                .description("분석 파이프라인 단계별 오류 수")
+                .tag("stage", stage.tag())
+                .tag("exception", e.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.catp.service.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * 검사 제출 한 건의 분석 (CareerService.analyzeTest, 질문 스냅샷 조회부터 결과 조립까지)
+ * 같은 스레드의 GC 일시 정지, 잠금 대기 이벤트와 시간대로 맞춰 보면 느린 제출의 원인을 구분할 수 있습니다.
+ */
+@Name("catp.AnalyzeTest")
+@Label("검사 분석")
+@Category({"CATP", "분석"})
+@Description("검사 제출 한 건의 분석 (질문 스냅샷 조회 ~ 결과 조립)")
+@StackTrace(false)
+public class AnalyzeTestEvent extends Event {
+
+    @Label("학교 코드")
+    public String school;
+
+    @Label("답변 수")
+    public int answerCount;
+
+    @Label("질문 스냅샷 버전")
+    public long questionVersion;
+
+    @Label("관심사 태그 수")
+    public int interestTagCount;
+
+    @Label("성향")
+    public String personality;
+}
@@ -0,0 +1,25 @@
+package org.example.catp.service.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * 시작 시 카탈로그 적재 단계 하나 (DataLoader, 단계 구분은 DataLoader.LoadStep 과 같음)
+ * 시작부터 녹화하려면 JVM 을 -XX:StartFlightRecording 으로 시작해야 합니다.
+ */
+@Name("catp.CatalogLoad")
+@Label("카탈로그 적재")
+@Category({"CATP", "카탈로그"})
+@Description("시작 시 질문/학과 카탈로그 적재 단계")
+@StackTrace(false)
+public class CatalogLoadEvent extends Event {
+
+    @Label("카탈로그")
+    public String catalog;
+
+    @Label("원본")
+    @Description("bundle, json, snapshot")
+    public String source;
+
+    @Label("행 수")
+    public int rows;
+}
@@ -0,0 +1,211 @@
+package org.example.catp.service.profiling;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 운영 중 JDK Flight Recorder 녹화 시작/덤프/중지 (관리자 API 용)
+ * 프로파일러를 붙이지 않고도 느린 제출 시점의 GC 일시 정지, 잠금 대기와 CATP 이벤트(검사 분석, 학과 추천,
+ * 점수 계산, 결과 저장, 카탈로그 적재)를 한 파일에 모아 JDK Mission Control 이나 `jfr print` 로 볼 수 있습니다.
+ *
+ * 녹화는 한 번에 하나만 진행하며, 덤프 파일은 catp.jfr.dump-dir 아래 catp-{시각}.jfr 로 남습니다.
+ */
+@Slf4j
+@Component
+public class FlightRecordingService {
+
+    /** CATP 이벤트 (녹화 설정 파일과 관계없이 항상 켬) */
+    static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+            AnalyzeTestEvent.class,
+            RecommendEvent.class,
+            ScoreCalculationEvent.class,
+            ResultPersistEvent.class,
+            CatalogLoadEvent.class
+    );
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * 진행 중인 녹화 상태
+     *
+     * @param settings 녹화 설정 이름 (default: 상시 녹화용 저부하, profile: 메서드 샘플링 등 상세)
+     * @param maxAge 디스크에 보관하는 최대 기간 (이보다 오래된 구간은 버림)
+     * @param maxSizeBytes 디스크에 보관하는 최대 크기
+     */
+    public record RecordingStatus(long id, String name, RecordingState state, String settings,
+                                  Instant startedAt, Duration maxAge, long maxSizeBytes) {
+    }
+
+    /**
+     * 덤프 결과
+     *
+     * @param file 덤프 파일 경로
+     * @param bytes 파일 크기
+     */
+    public record DumpReport(String file, long bytes, Instant dumpedAt) {
+    }
+
+    private final Path dumpDirectory;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+
+    /** 덤프는 파일 I/O 라 synchronized 대신 락 사용 (가상 스레드가 캐리어에 고정되지 않도록) */
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private String settings;
+
+    public FlightRecordingService(
+            @Value("${catp.jfr.dump-dir:./recordings}") Path dumpDirectory,
+            @Value("${catp.jfr.max-age:30m}") Duration maxAge,
+            @Value("${catp.jfr.max-size:256MB}") DataSize maxSize) {
+        this.dumpDirectory = dumpDirectory;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 녹화 시작
+     *
+     * @param settingsName JDK 녹화 설정 이름 (default, profile)
+     * @throws IllegalStateException 이미 녹화 중인 경우
+     * @throws IllegalArgumentException 설정 이름이 없는 경우
+     */
+    public RecordingStatus start(String settingsName) throws IOException {
+        lock.lock();
+        try {
+            if (recording != null) {
+                throw new IllegalStateException("이미 녹화 중입니다. (" + recording.getName() + ")");
+            }
+
+            Configuration configuration;
+            try {
+                configuration = Configuration.getConfiguration(settingsName);
+            } catch (IOException | ParseException e) {
+                throw new IllegalArgumentException("녹화 설정을 찾을 수 없습니다: " + settingsName + " (default, profile)", e);
+            }
+
+            Recording started = new Recording(configuration);
+            started.setName("catp-" + LocalDateTime.now().format(FILE_TIME));
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSize.toBytes());
+            for (Class<? extends Event> type : EVENT_TYPES) {
+                started.enable(type).withoutStackTrace();
+            }
+            started.start();
+
+            recording = started;
+            settings = settingsName;
+            log.info("JFR 녹화 시작: {} (설정 {}, 최대 {} / {})", started.getName(), settingsName, maxAge, maxSize);
+            return toStatus(started);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 녹화는 계속하면서 지금까지의 내용을 파일로 저장
+     *
+     * @throws IllegalStateException 녹화 중이 아닌 경우
+     */
+    public DumpReport dump() throws IOException {
+        lock.lock();
+        try {
+            return dumpTo(running());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 녹화를 멈추고 내용을 파일로 저장
+     *
+     * @throws IllegalStateException 녹화 중이 아닌 경우
+     */
+    public DumpReport stop() throws IOException {
+        lock.lock();
+        try {
+            Recording stopped = running();
+            try {
+                stopped.stop();
+                return dumpTo(stopped);
+            } finally {
+                stopped.close();
+                recording = null;
+                settings = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<RecordingStatus> status() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(recording).map(this::toStatus);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 녹화 중이면 남은 내용을 파일로 남김
+     */
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return;
+            }
+            try {
+                DumpReport report = stop();
+                log.info("종료 전 JFR 녹화 저장: {}", report);
+            } catch (IOException | RuntimeException e) {
+                log.warn("종료 전 JFR 녹화 저장 실패: {}", e.getMessage());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Recording running() {
+        if (recording == null) {
+            throw new IllegalStateException("진행 중인 녹화가 없습니다.");
+        }
+        return recording;
+    }
+
+    private DumpReport dumpTo(Recording source) throws IOException {
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve("catp-" + LocalDateTime.now().format(FILE_TIME) + ".jfr").toAbsolutePath();
+        source.dump(file);
+        DumpReport report = new DumpReport(file.toString(), Files.size(file), Instant.now());
+        log.info("JFR 녹화 덤프: {} ({} bytes)", report.file(), report.bytes());
+        return report;
+    }
+
+    private RecordingStatus toStatus(Recording source) {
+        return new RecordingStatus(source.getId(), source.getName(), source.getState(), settings,
+                source.getStartTime(), source.getMaxAge(), source.getMaxSize());
+    }
+}
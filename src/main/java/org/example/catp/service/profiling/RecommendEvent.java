@@ -0,0 +1,34 @@
+package org.example.catp.service.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * 학과 추천 계산 한 번 (RecommendationStrategy.recommend, 분석 결과 캐시 미스이거나 세션 미리보기일 때만 발생)
+ */
+@Name("catp.Recommend")
+@Label("학과 추천")
+@Category({"CATP", "분석"})
+@Description("추천 전략의 학과 점수 계산과 상위/하위/유사 학과 선택")
+@StackTrace(false)
+public class RecommendEvent extends Event {
+
+    @Label("추천 전략")
+    public String strategy;
+
+    @Label("학과 수")
+    public int departmentCount;
+
+    @Label("학과 스냅샷 버전")
+    public long departmentVersion;
+
+    @Label("관심사 태그 수")
+    public int tagCount;
+
+    @Label("1순위 일치율")
+    @Description("1순위 추천 학과의 일치율 (%), 추천 학과가 없으면 NaN")
+    public double topScore;
+
+    @Label("미리보기")
+    @Description("검사 세션 중간 미리보기 계산 여부")
+    public boolean preview;
+}
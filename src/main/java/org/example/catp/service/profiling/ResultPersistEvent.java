@@ -0,0 +1,20 @@
+package org.example.catp.service.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * 결과 배치 INSERT 한 번 (저장 스레드 배치, 대기열 포화 시 직접 저장, 반 단위 일괄 제출)
+ */
+@Name("catp.ResultPersist")
+@Label("결과 저장")
+@Category({"CATP", "저장"})
+@Description("검사 결과 JDBC 배치 INSERT (트랜잭션 한 번)")
+@StackTrace(false)
+public class ResultPersistEvent extends Event {
+
+    @Label("결과 수")
+    public int rows;
+
+    @Label("성공")
+    public boolean succeeded;
+}
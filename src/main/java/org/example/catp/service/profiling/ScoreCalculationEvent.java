@@ -0,0 +1,17 @@
+package org.example.catp.service.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * 적성 점수 계산 한 번 (StandardScoreCalculator.calculate)
+ */
+@Name("catp.ScoreCalculation")
+@Label("적성 점수 계산")
+@Category({"CATP", "분석"})
+@Description("채점 계획으로 답변을 적성별 점수로 합산")
+@StackTrace(false)
+public class ScoreCalculationEvent extends Event {
+
+    @Label("문항 수")
+    public int questionCount;
+}
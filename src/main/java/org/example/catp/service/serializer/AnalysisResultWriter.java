@@ -0,0 +1,41 @@
+package org.example.catp.service.serializer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.catp.dto.AnalysisResult;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 결과를 제출 응답 본문으로 한 번에 직렬화합니다.
+ * 타입이 고정된 ObjectWriter 를 재사용하므로 요청마다 직렬화기를 찾거나 Map 으로 옮겨 담지 않습니다.
+ *
+ * 필드 구성은 AnalysisResult, DepartmentMatch, Summary, Department 의 Jackson 설정을 그대로 따르므로
+ * 조회 응답(GET /api/results/{id})의 학과 항목과 항상 같은 형태로 나옵니다.
+ */
+@Component
+public class AnalysisResultWriter {
+
+    private final ObjectWriter writer;
+
+    public AnalysisResultWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(SubmitResponse.class);
+    }
+
+    public SerializedResult write(String id, AnalysisResult result) throws JsonProcessingException {
+        return new SerializedResult(writer.writeValueAsBytes(new SubmitResponse(id, result)));
+    }
+
+    /**
+     * 제출 응답 (결과 ID 뒤에 분석 결과 필드를 펼쳐 씀)
+     */
+    @JsonPropertyOrder({"id", "result"})
+    private record SubmitResponse(
+            @JsonProperty("id") String id,
+            @JsonUnwrapped AnalysisResult result
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.catp.service.serializer;
+
+/**
+ * 한 번 직렬화된 분석 결과 응답 본문
+ */
+public final class SerializedResult {
+
+    private final byte[] body;
+
+    SerializedResult(byte[] body) {
+        this.body = body;
+    }
+
+    /**
+     * HTTP 응답 본문 (UTF-8 JSON)
+     */
+    public byte[] body() {
+        return body;
+    }
+}
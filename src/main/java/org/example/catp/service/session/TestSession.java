@@ -0,0 +1,145 @@
+package org.example.catp.service.session;
+
+import org.example.catp.service.calculator.ScoreAccumulator;
+import org.example.catp.service.catalog.QuestionSnapshot;
+
+import java.util.List;
+
+/**
+ * 답변을 나누어 받는 검사 세션
+ * 답변은 문항당 1바이트(0 = 미응답)로, 점수는 적성별 누적 합으로만 보관합니다.
+ * 세션 시작 시점의 질문 스냅샷을 끝까지 사용하므로 중간에 질문이 바뀌어도 채점 기준이 섞이지 않습니다.
+ */
+public final class TestSession {
+
+    /** 미응답 문항 값 */
+    private static final byte UNANSWERED = 0;
+
+    private final String id;
+    private final String school;
+    private final QuestionSnapshot questions;
+    private final byte[] answers;
+    private final ScoreAccumulator accumulator;
+    private int answered;
+    /** 제출 처리(채점, 저장) 중: 답변 변경과 중복 제출을 막되, 실패하면 다시 열림 */
+    private boolean submitting;
+    private boolean submitted;
+
+    TestSession(String id, String school, QuestionSnapshot questions) {
+        this.id = id;
+        this.school = school;
+        this.questions = questions;
+        this.answers = new byte[questions.size()];
+        this.accumulator = new ScoreAccumulator(questions.scoringPlan());
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * 추천 기준 학교 코드 (null 이면 기본 학교)
+     */
+    public String school() {
+        return school;
+    }
+
+    public QuestionSnapshot questions() {
+        return questions;
+    }
+
+    public int total() {
+        return answers.length;
+    }
+
+    public synchronized int answered() {
+        return answered;
+    }
+
+    /**
+     * from번째 문항부터 차례로 답변을 반영합니다. (이미 응답한 문항은 새 답변으로 교체)
+     *
+     * @throws IllegalArgumentException 문항 범위나 답변 값(1 ~ 5)이 잘못된 경우
+     * @throws IllegalStateException 이미 제출되었거나 제출 처리 중인 세션인 경우
+     */
+    public synchronized void answer(int from, List<Integer> page) {
+        checkOpen();
+        if (from < 0 || from + page.size() > answers.length) {
+            throw new IllegalArgumentException("문항 범위(" + from + " ~ " + (from + page.size() - 1)
+                    + ")가 질문 개수(" + answers.length + "개)를 벗어났습니다.");
+        }
+        for (Integer value : page) {
+            if (value == null || value < 1 || value > 5) {
+                throw new IllegalArgumentException("답변은 1 ~ 5 사이여야 합니다: " + value);
+            }
+        }
+
+        for (int k = 0; k < page.size(); k++) {
+            int i = from + k;
+            if (answers[i] == UNANSWERED) {
+                answered++;
+            } else {
+                accumulator.remove(i, answers[i]);
+            }
+            answers[i] = page.get(k).byteValue();
+            accumulator.add(i, answers[i]);
+        }
+    }
+
+    /**
+     * 지금까지의 답변 (미응답 문항은 0)
+     */
+    public synchronized int[] answerArray() {
+        int[] copy = new int[answers.length];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = answers[i];
+        }
+        return copy;
+    }
+
+    /**
+     * 응답한 문항만으로 계산한 임시 점수 (응답한 문항이 없는 적성은 중간값)
+     */
+    public synchronized double[] provisionalScores() {
+        return accumulator.provisionalScores(3.0);
+    }
+
+    /**
+     * 최종 제출 시작 (결과가 저장되면 finishSubmit, 실패하면 abortSubmit 으로 끝내야 함)
+     *
+     * @return 최종 적성 점수
+     * @throws IllegalStateException 응답하지 않은 문항이 있거나, 이미 제출되었거나 제출 처리 중인 경우
+     */
+    synchronized double[] beginSubmit() {
+        checkOpen();
+        if (answered < answers.length) {
+            throw new IllegalStateException("응답하지 않은 문항이 " + (answers.length - answered) + "개 있습니다.");
+        }
+        submitting = true;
+        return accumulator.scores();
+    }
+
+    /**
+     * 결과 저장 완료: 더 이상 답변이나 제출을 받지 않음
+     */
+    synchronized void finishSubmit() {
+        submitting = false;
+        submitted = true;
+    }
+
+    /**
+     * 채점이나 저장 실패: 답변을 그대로 둔 채 다시 제출할 수 있게 함
+     */
+    synchronized void abortSubmit() {
+        submitting = false;
+    }
+
+    private void checkOpen() {
+        if (submitted) {
+            throw new IllegalStateException("이미 제출된 검사입니다.");
+        }
+        if (submitting) {
+            throw new IllegalStateException("제출 처리 중인 검사입니다.");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.catp.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.dto.DepartmentMatch;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.catalog.UnknownSchoolException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 검사 세션 관리
+ * 답변을 받을 때마다 점수를 누적해 두어, 최종 제출 시에는 추천 계산만 수행합니다.
+ * 세션은 메모리에만 보관하며 마지막 사용 후 TTL 이 지나면 사라집니다.
+ */
+@Slf4j
+@Service
+public class TestSessionService {
+
+    /**
+     * 최종 제출 결과
+     *
+     * @param answers 전체 답변 (결과 저장용)
+     * @param result 분석 결과
+     */
+    public record Completed(List<Integer> answers, AnalysisResult result) {
+    }
+
+    /**
+     * 최종 제출 결과 저장 (성공해야 세션이 닫힘)
+     */
+    public interface ResultSaver<T> {
+        T save(Completed completed) throws Exception;
+    }
+
+    private final QuestionCatalog questionCatalog;
+    private final DepartmentCatalog departmentCatalog;
+    private final CareerService careerService;
+    private final Cache<String, TestSession> sessions;
+    private final Duration ttl;
+
+    public TestSessionService(
+            QuestionCatalog questionCatalog,
+            DepartmentCatalog departmentCatalog,
+            CareerService careerService,
+            @Value("${catp.session.ttl:2h}") Duration ttl,
+            @Value("${catp.session.maximum-size:100000}") long maximumSize) {
+        this.questionCatalog = questionCatalog;
+        this.departmentCatalog = departmentCatalog;
+        this.careerService = careerService;
+        this.ttl = ttl;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    /**
+     * 새 세션 시작
+     *
+     * @param school 추천 기준 학교 코드 (없으면 기본 학교)
+     * @throws UnknownSchoolException 학과가 등록되지 않은 학교인 경우
+     */
+    public TestSession create(String school) {
+        // 학교 카탈로그를 미리 적재해 두어 잘못된 학교는 시작 시점에 거절
+        departmentCatalog.current(school);
+        TestSession session = new TestSession(UUID.randomUUID().toString(), school, questionCatalog.current());
+        sessions.put(session.id(), session);
+        return session;
+    }
+
+    public Optional<TestSession> find(String sessionId) {
+        return Optional.ofNullable(sessions.getIfPresent(sessionId));
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    /**
+     * 지금까지의 답변 기준 추천 학과 (임시 결과)
+     */
+    public List<DepartmentMatch> preview(TestSession session) {
+        return careerService.previewTopDepartments(session.questions(), session.school(),
+                session.provisionalScores(), session.answerArray());
+    }
+
+    /**
+     * 최종 제출: 누적된 점수로 추천만 계산하고, 결과가 저장되면 세션을 닫습니다.
+     * 채점이나 저장이 실패하면(대기열 포화, DB 혼잡, 삭제된 학교 등) 세션을 그대로 두어 같은 세션으로 다시 제출할 수 있습니다.
+     *
+     * @param saver 분석 결과 저장 (반환값을 그대로 돌려줌)
+     * @throws IllegalStateException 응답하지 않은 문항이 있거나, 이미 제출되었거나 제출 처리 중인 경우
+     */
+    public <T> T complete(TestSession session, ResultSaver<T> saver) throws Exception {
+        double[] scores = session.beginSubmit();
+        boolean saved = false;
+        try {
+            int[] answers = session.answerArray();
+            AnalysisResult result = careerService.analyzeWithScores(session.questions(), session.school(), scores, answers);
+            T response = saver.save(new Completed(Arrays.stream(answers).boxed().toList(), result));
+            saved = true;
+            return response;
+        } finally {
+            if (saved) {
+                session.finishSubmit();
+                sessions.invalidate(session.id());
+            } else {
+                session.abortSubmit();
+            }
+        }
+    }
+
+    public long size() {
+        return sessions.estimatedSize();
+    }
+}
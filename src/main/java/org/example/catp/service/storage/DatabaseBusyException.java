@@ -0,0 +1,11 @@
+package org.example.catp.service.storage;
+
+/**
+ * DB 동시 요청 상한에 걸려 제한 시간 안에 차례가 오지 않았을 때 발생 (HTTP 503 으로 응답)
+ */
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
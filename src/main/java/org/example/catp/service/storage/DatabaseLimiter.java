@@ -0,0 +1,95 @@
+package org.example.catp.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 요청 스레드의 DB 동시 접근 상한 (세마포어)
+ * 가상 스레드 모드에서는 요청마다 스레드가 만들어져 Tomcat 스레드 풀이 더 이상 동시 요청 수를 제한하지 않으므로,
+ * 커넥션 풀보다 많은 요청이 한꺼번에 풀 대기열에 쌓이지 않도록 여기서 먼저 줄을 세웁니다.
+ * 세마포어 대기는 가상 스레드를 캐리어 스레드에서 내려놓으므로 기다리는 동안 플랫폼 스레드를 점유하지 않습니다.
+ *
+ * 제한 시간 안에 차례가 오지 않으면 DatabaseBusyException 을 던집니다. (공정 순서, 먼저 기다린 요청 먼저)
+ */
+@Slf4j
+@Component
+public class DatabaseLimiter {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+    private final LongAdder rejected = new LongAdder();
+
+    public DatabaseLimiter(
+            @Value("${catp.db.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+            @Value("${catp.db.acquire-timeout:5s}") Duration acquireTimeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("catp.db.max-concurrency 는 1 이상이어야 합니다: " + maxConcurrency);
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * 차례가 오면 DB 작업 실행
+     *
+     * @throws DatabaseBusyException 제한 시간 안에 차례가 오지 않은 경우
+     */
+    public <T> T call(Supplier<T> work) {
+        acquire();
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /** 지금 DB 작업 중인 요청 수 */
+    public int active() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /** 차례를 기다리는 요청 수 (추정) */
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    /** 제한 시간 초과로 거절한 누적 요청 수 */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("DB 대기 중 요청이 중단되었습니다.");
+        }
+        if (!acquired) {
+            rejected.increment();
+            log.debug("DB 동시 요청 상한({}) 대기 시간 초과, 대기 {}건", maxConcurrency, permits.getQueueLength());
+            throw new DatabaseBusyException("요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.catp.service.storage;
+
+/**
+ * 결과 저장 대기열이 가득 차 결과를 받을 수 없을 때 발생 (HTTP 503 으로 응답)
+ */
+public class ResultQueueFullException extends RuntimeException {
+
+    public ResultQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,261 @@
+package org.example.catp.service.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.dto.DepartmentMatch;
+import org.example.catp.entity.TestResult;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.example.catp.service.strategy.MatchReason;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static org.example.catp.service.catalog.DepartmentSnapshot.DIMENSION;
+import static org.example.catp.service.strategy.WeightedDistanceStrategy.MAX_COMMON_TAGS;
+
+/**
+ * 검사 결과 행의 압축 저장 형식
+ * 학과 정보 전체 대신 학과 id, 일치율, 사유 코드만 저장하고,
+ * 조회 시 메모리의 학과 스냅샷으로 응답을 다시 조립합니다.
+ *
+ * 컬럼별 형식 (기존 JSON 행은 '['로 시작하므로 그대로 읽을 수 있음)
+ * - userAnswers: "문항수:" + 답변을 3비트씩 묶은 Base64URL
+ * - userScores: 점수 × 10 을 Base64URL 문자 1개씩 (점수 10개 = 10글자)
+ * - 학과 목록: "학과id,일치율×10,사유코드,파라미터1,파라미터2" 를 ';'로 연결
+ * - interestTags: 기존과 같은 JSON 배열
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestResultCodec {
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    /** 답변 1개를 담는 비트 수 (0 ~ 7) */
+    private static final int ANSWER_BITS = 3;
+    private static final int MAX_PACKED_ANSWER = (1 << ANSWER_BITS) - 1;
+
+    private static final String ENTRY_SEPARATOR = ";";
+    private static final String FIELD_SEPARATOR = ",";
+
+    private final DepartmentCatalog departmentCatalog;
+    private final ObjectMapper objectMapper;
+
+    // ========== 저장 ==========
+
+    /**
+     * 분석 결과를 압축 형식의 엔티티로 변환합니다.
+     *
+     * @param school 추천 기준 학교 코드 (null 이면 기본 학교, 조회 시 같은 학교 스냅샷으로 복원)
+     */
+    public TestResult encode(String id, String school, List<Integer> answers, AnalysisResult result) throws JsonProcessingException {
+        TestResult testResult = new TestResult();
+        testResult.setId(id);
+        testResult.setSchool(school);
+        testResult.setPersonalityType(result.personality());
+        testResult.setUserAnswers(encodeAnswers(answers));
+        testResult.setUserScores(encodeScores(result.scores()));
+        testResult.setInterestTags(objectMapper.writeValueAsString(result.interestTags()));
+        testResult.setTopDepartments(encodeMatches(result.topDepartments()));
+        testResult.setWorstDepartments(encodeMatches(result.worstDepartments()));
+        testResult.setSimilarDepartments(encodeMatches(result.similarDepartments()));
+        return testResult;
+    }
+
+    /**
+     * 답변을 3비트씩 묶어 저장 (범위를 벗어난 답변이 있으면 기존 JSON 형식 사용)
+     */
+    String encodeAnswers(List<Integer> answers) throws JsonProcessingException {
+        for (Integer answer : answers) {
+            if (answer == null || answer < 0 || answer > MAX_PACKED_ANSWER) {
+                return objectMapper.writeValueAsString(answers);
+            }
+        }
+
+        char[] packed = new char[(answers.size() * ANSWER_BITS + 5) / 6];
+        for (int i = 0; i < answers.size(); i++) {
+            int bit = i * ANSWER_BITS;
+            // 6비트 문자 하나에 답변 2개가 정확히 들어감
+            packed[bit / 6] |= (char) (answers.get(i) << (3 - bit % 6));
+        }
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = ALPHABET[packed[i]];
+        }
+        return answers.size() + ":" + new String(packed);
+    }
+
+    /**
+     * 점수 × 10 을 문자 1개씩 저장 (범위를 벗어난 점수가 있으면 기존 JSON 형식 사용)
+     */
+    String encodeScores(double[] scores) throws JsonProcessingException {
+        char[] packed = new char[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            long scaled = Math.round(scores[i] * 10);
+            if (scaled < 0 || scaled >= ALPHABET.length) {
+                return objectMapper.writeValueAsString(scores);
+            }
+            packed[i] = ALPHABET[(int) scaled];
+        }
+        return new String(packed);
+    }
+
+    String encodeMatches(List<DepartmentMatch> matches) {
+        StringJoiner joiner = new StringJoiner(ENTRY_SEPARATOR);
+        for (DepartmentMatch match : matches) {
+            MatchReason reason = match.matchReason();
+            joiner.add(match.department().getId() + FIELD_SEPARATOR
+                    + Math.round(match.matchPercentage() * 10) + FIELD_SEPARATOR
+                    + reason.code().symbol() + FIELD_SEPARATOR
+                    + reason.first() + FIELD_SEPARATOR
+                    + reason.second());
+        }
+        return joiner.toString();
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 저장된 행으로 조회 응답을 조립합니다. (압축 형식과 기존 JSON 형식 모두 지원)
+     */
+    public Map<String, Object> toResponse(TestResult result) throws JsonProcessingException {
+        double[] scores = decodeScores(result.getUserScores());
+        List<String> interestTags = objectMapper.readValue(result.getInterestTags(), new TypeReference<>() {});
+
+        // 공통 태그는 추천 시와 같은 순회 순서로 계산
+        Set<String> tagSet = new HashSet<>(interestTags);
+        DepartmentSnapshot catalog = departmentCatalog.current(result.getSchool());
+        List<?> topDepartments = decodeMatches(result.getTopDepartments(), scores, tagSet, catalog);
+        List<?> worstDepartments = decodeMatches(result.getWorstDepartments(), scores, tagSet, catalog);
+
+        // similar_departments null 체크
+        List<?> similarDepartments = (result.getSimilarDepartments() != null)
+                ? decodeMatches(result.getSimilarDepartments(), scores, tagSet, catalog)
+                : List.of();
+
+        return buildResponse(result, scores, interestTags, topDepartments, worstDepartments, similarDepartments);
+    }
+
+    /**
+     * 방금 분석한 결과로 조회 응답을 조립합니다. (저장 형식을 다시 해석하지 않음)
+     */
+    public Map<String, Object> toResponse(TestResult result, AnalysisResult analysis) {
+        return buildResponse(result, analysis.scores(), analysis.interestTags(),
+                analysis.topDepartments(), analysis.worstDepartments(), analysis.similarDepartments());
+    }
+
+    private Map<String, Object> buildResponse(TestResult result, double[] scores, List<String> interestTags,
+                                              List<?> topDepartments, List<?> worstDepartments, List<?> similarDepartments) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", result.getId());
+        response.put("personality", result.getPersonalityType());
+        response.put("created_at", result.getCreatedAt());
+        response.put("scores", scores);
+        response.put("interest_tags", interestTags);
+        response.put("top_departments", topDepartments);
+        response.put("worst_departments", worstDepartments);
+        response.put("similar_departments", similarDepartments);
+
+        Map<String, String> summary = new HashMap<>();
+        summary.put("personality", result.getPersonalityType() + " 학생입니다.");
+        response.put("summary", summary);
+
+        return response;
+    }
+
+    /**
+     * 저장된 답변 복원
+     */
+    public List<Integer> decodeAnswers(String value) throws JsonProcessingException {
+        if (isLegacyJson(value)) {
+            return objectMapper.readValue(value, new TypeReference<>() {});
+        }
+
+        int separator = value.indexOf(':');
+        int size = Integer.parseInt(value.substring(0, separator));
+        String packed = value.substring(separator + 1);
+        List<Integer> answers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int bit = i * ANSWER_BITS;
+            int sextet = indexOf(packed.charAt(bit / 6));
+            answers.add((sextet >>> (3 - bit % 6)) & MAX_PACKED_ANSWER);
+        }
+        return answers;
+    }
+
+    double[] decodeScores(String value) throws JsonProcessingException {
+        if (isLegacyJson(value)) {
+            return objectMapper.readValue(value, double[].class);
+        }
+
+        double[] scores = new double[value.length()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = indexOf(value.charAt(i)) / 10.0;
+        }
+        return scores;
+    }
+
+    /**
+     * 저장된 학과 목록 복원
+     * 기존 JSON 행은 저장된 내용 그대로, 압축 행은 현재 학과 스냅샷으로 다시 조립합니다.
+     */
+    private List<?> decodeMatches(String value, double[] scores, Set<String> userTags, DepartmentSnapshot catalog)
+            throws JsonProcessingException {
+        if (isLegacyJson(value)) {
+            return objectMapper.readValue(value, new TypeReference<List<Map<String, Object>>>() {});
+        }
+        if (value.isEmpty()) {
+            return List.of();
+        }
+
+        String[] entries = value.split(ENTRY_SEPARATOR);
+        List<DepartmentMatch> matches = new ArrayList<>(entries.length);
+        for (String entry : entries) {
+            String[] fields = entry.split(FIELD_SEPARATOR);
+            long departmentId = Long.parseLong(fields[0]);
+            int d = catalog.indexOf(departmentId);
+            if (d < 0) {
+                log.warn("저장된 결과의 학과(id={})가 현재 학과 목록에 없어 제외합니다.", departmentId);
+                continue;
+            }
+
+            MatchReason reason = new MatchReason(
+                    MatchReason.Code.fromSymbol(fields[2].charAt(0)),
+                    Integer.parseInt(fields[3]),
+                    Integer.parseInt(fields[4])
+            );
+            String mismatchReason = (reason.code() == MatchReason.Code.CRITICAL_FAIL)
+                    ? reason.describeMismatch(catalog.vectors()[d * DIMENSION + reason.first()], scores[reason.first()] * 2)
+                    : null;
+            List<String> commonTags = catalog.commonTags(d, userTags, MAX_COMMON_TAGS);
+
+            matches.add(new DepartmentMatch(
+                    catalog.department(d),
+                    Long.parseLong(fields[1]) / 10.0,
+                    reason.describe(catalog.categoryName(catalog.categoryIds()[d])),
+                    mismatchReason,
+                    commonTags.isEmpty() ? null : commonTags,
+                    reason
+            ));
+        }
+        return matches;
+    }
+
+    private static boolean isLegacyJson(String value) {
+        return value != null && value.startsWith("[");
+    }
+
+    private static int indexOf(char c) {
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        if (c >= 'a' && c <= 'z') return c - 'a' + 26;
+        if (c >= '0' && c <= '9') return c - '0' + 52;
+        if (c == '-') return 62;
+        if (c == '_') return 63;
+        throw new IllegalArgumentException("잘못된 압축 문자: " + c);
+    }
+}
@@ -0,0 +1,553 @@
+package org.example.catp.service.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.entity.TestResult;
+import org.example.catp.service.metrics.PipelineMetrics;
+import org.example.catp.service.profiling.ResultPersistEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검사 결과 비동기 저장 (write-behind)
+ * 요청 스레드는 결과를 큐에 넣고 바로 응답하며, 전용 저장 스레드가 큐를 모아
+ * JDBC 배치 INSERT 한 번(트랜잭션 한 번)으로 기록합니다.
+ * 아직 기록되지 않은 결과는 대기 맵에서 조회할 수 있습니다.
+ *
+ * 큐가 가득 차면 설정에 따라 요청 스레드에서 직접 저장하거나(SYNC),
+ * ResultQueueFullException 을 던져 503 으로 응답하게 합니다(REJECT).
+ * DB 오류로 기록하지 못한 결과는 보관 파일에 남기고 주기적으로(그리고 다음 시작 시) 다시 저장하며,
+ * 기록될 때까지 대기 맵에 남겨 두어 조회할 수 있게 합니다.
+ * 이미 저장된 ID와 겹치면 저장된 행을 읽어 비교합니다. 같은 결과면(보관 파일 재저장 등으로 다시 들어온 경우) 저장된 것으로 보고,
+ * 다른 결과면 응답한 ID를 바꾸지 않고 실패로 집계한 뒤 결과 내용을 오류 로그로 남깁니다.
+ * (요청 스레드에서 직접 저장하는 경우에는 예외가 그대로 전달되어 요청이 실패합니다.)
+ */
+@Slf4j
+@Component
+public class TestResultWriteBehind {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO test_results
+                (id, user_answers, user_scores, interest_tags, personality_type,
+                 top_departments, worst_departments, similar_departments, school, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT user_answers, user_scores, interest_tags, personality_type,
+                   top_departments, worst_departments, similar_departments, school, created_at
+            FROM test_results WHERE id = ?
+            """;
+
+    /** 큐가 가득 찼을 때의 처리 방식 */
+    public enum OverflowPolicy {
+        SYNC,
+        REJECT
+    }
+
+    /**
+     * 저장 파이프라인 통계
+     *
+     * @param queueDepth 현재 큐에 쌓인 결과 수
+     * @param pending 아직 기록되지 않은 결과 수 (저장 중인 배치, 보관 파일의 결과 포함)
+     * @param spooled 보관 파일에서 다시 저장을 기다리는 결과 수
+     * @param flushedRows 누적 기록 건수
+     * @param flushCount 누적 배치 횟수
+     * @param lastFlushMillis 마지막 배치 소요 시간
+     * @param maxFlushMillis 최대 배치 소요 시간
+     * @param syncFallbacks 큐가 가득 차 요청 스레드에서 직접 저장한 횟수
+     * @param rejected 큐가 가득 차 거절한 횟수
+     * @param failedRows 기록에 실패하여 버려진 결과 수 (같은 ID로 다른 결과가 이미 저장되어 있던 경우 포함)
+     */
+    public record Stats(int queueDepth, int pending, int spooled, long flushedRows, long flushCount,
+                        long lastFlushMillis, long maxFlushMillis,
+                        long syncFallbacks, long rejected, long failedRows) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
+    private final DatabaseLimiter databaseLimiter;
+    private final Path spoolFile;
+    /** 재저장 중인 결과 (보관 파일에서 옮겨 온 것) */
+    private final Path retryingFile;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+
+    private final BlockingQueue<TestResult> queue;
+    private final Map<String, TestResult> pending = new ConcurrentHashMap<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder syncFallbacks = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+    private final AtomicInteger spooledRows = new AtomicInteger();
+    /** 보관 파일 잠금 (저장 스레드의 추가와 재저장 작업의 파일 옮기기/다시 추가가 겹치지 않도록, DB 작업 중에는 잡지 않음) */
+    private final ReentrantLock spoolLock = new ReentrantLock();
+    /** 재저장 작업이 동시에 둘 이상 돌지 않도록 */
+    private final ReentrantLock retryLock = new ReentrantLock();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+
+    public TestResultWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            PipelineMetrics pipelineMetrics,
+            DatabaseLimiter databaseLimiter,
+            @Value("${catp.write-behind.spool-file:./catp_pending_results.jsonl}") Path spoolFile,
+            @Value("${catp.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${catp.write-behind.batch-size:200}") int batchSize,
+            @Value("${catp.write-behind.flush-interval:200ms}") Duration flushInterval,
+            @Value("${catp.write-behind.overflow-policy:SYNC}") OverflowPolicy overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.pipelineMetrics = pipelineMetrics;
+        this.databaseLimiter = databaseLimiter;
+        this.spoolFile = spoolFile;
+        this.retryingFile = spoolFile.resolveSibling(spoolFile.getFileName() + ".retrying");
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.writer = new Thread(this::drainLoop, "result-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 결과 저장 요청 (큐에 넣고 바로 반환)
+     *
+     * @throws ResultQueueFullException 큐가 가득 찼고 REJECT 정책인 경우
+     */
+    public void submit(TestResult result) {
+        if (result.getCreatedAt() == null) {
+            // DB 컬럼 정밀도(마이크로초)에 맞춰 기록 전후 조회 값이 같도록 함
+            result.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        }
+
+        pending.put(result.getId(), result);
+        if (running && queue.offer(result)) {
+            return;
+        }
+
+        // 큐가 가득 참 (또는 종료 중)
+        if (overflowPolicy == OverflowPolicy.REJECT && running) {
+            pending.remove(result.getId());
+            rejected.increment();
+            throw new ResultQueueFullException("결과 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        syncFallbacks.increment();
+        try {
+            // 요청 스레드에서 직접 기록하므로 DB 동시 접근 상한을 따름 (기록 스레드는 하나뿐이라 제외)
+            databaseLimiter.run(() -> insertBatch(List.of(result)));
+        } finally {
+            pending.remove(result.getId());
+        }
+    }
+
+    /**
+     * 여러 결과를 대기열을 거치지 않고 한 번의 배치 INSERT 로 바로 기록합니다. (반 단위 일괄 제출용)
+     * 반환 시점에는 모두 커밋되어 있으며, 실패하면 한 건도 기록되지 않습니다.
+     */
+    public void insertAll(List<TestResult> results) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (TestResult result : results) {
+            if (result.getCreatedAt() == null) {
+                result.setCreatedAt(now);
+            }
+        }
+
+        long start = System.nanoTime();
+        databaseLimiter.run(() -> insertBatch(results));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        flushCount.increment();
+        lastFlushMillis.set(elapsedMillis);
+        maxFlushMillis.accumulateAndGet(elapsedMillis, Math::max);
+        log.debug("일괄 제출 결과 {}건 저장 ({}ms)", results.size(), elapsedMillis);
+    }
+
+    /**
+     * 아직 DB에 기록되지 않은 결과 조회
+     */
+    public Optional<TestResult> findPending(String id) {
+        return Optional.ofNullable(pending.get(id));
+    }
+
+    public Stats stats() {
+        return new Stats(
+                queue.size(),
+                pending.size(),
+                spooledRows.get(),
+                flushedRows.sum(),
+                flushCount.sum(),
+                lastFlushMillis.get(),
+                maxFlushMillis.get(),
+                syncFallbacks.sum(),
+                rejected.sum(),
+                failedRows.sum()
+        );
+    }
+
+    /**
+     * 종료 시 남은 결과를 모두 기록
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 저장 중 인터럽트는 H2 파일 채널을 닫을 수 있으므로 플래그로만 종료를 알림
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        log.info("결과 저장 스레드 종료: {}", stats());
+    }
+
+    // ========== 저장 스레드 ==========
+
+    private void drainLoop() {
+        List<TestResult> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("결과 저장 스레드가 인터럽트되었습니다. 남은 결과를 기록하고 종료합니다.");
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 결과가 들어올 때까지 (최대 flush 간격만큼) 기다린 뒤, 배치 크기가 찰 때까지 최대 flush 간격만큼 더 모읍니다.
+     */
+    private void collectBatch(List<TestResult> batch) throws InterruptedException {
+        if (!running) {
+            queue.drainTo(batch, batchSize);
+            return;
+        }
+        TestResult first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            TestResult next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<TestResult> batch) {
+        long start = System.nanoTime();
+        List<TestResult> retryLater = insertOrCollectRetries(batch);
+        // 보관 파일로 넘긴 결과는 기록될 때까지 대기 맵에 남겨 조회할 수 있게 함
+        spool(retryLater);
+        for (TestResult result : batch) {
+            if (!retryLater.contains(result)) {
+                pending.remove(result.getId());
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        flushCount.increment();
+        lastFlushMillis.set(elapsedMillis);
+        maxFlushMillis.accumulateAndGet(elapsedMillis, Math::max);
+        log.debug("결과 {}건 저장 ({}ms, 대기열 {}건)", batch.size(), elapsedMillis, queue.size());
+    }
+
+    /**
+     * 배치 저장, 배치 전체가 실패하면 한 건씩 다시 시도
+     *
+     * @return 일시적인 오류로 기록하지 못해 나중에 다시 시도할 결과 (다시 시도해도 실패하는 행은 제외하고 failedRows 로 집계)
+     */
+    private List<TestResult> insertOrCollectRetries(List<TestResult> batch) {
+        try {
+            insertBatch(batch);
+            return List.of();
+        } catch (Exception e) {
+            log.error("결과 배치 저장 실패 ({}건), 개별 저장으로 재시도합니다.", batch.size(), e);
+        }
+
+        List<TestResult> retryLater = new ArrayList<>();
+        for (TestResult result : batch) {
+            try {
+                insertBatch(List.of(result));
+            } catch (DuplicateKeyException duplicate) {
+                checkAlreadyStored(result, duplicate, retryLater);
+            } catch (DataIntegrityViolationException invalid) {
+                // 다시 시도해도 실패하는 행
+                failedRows.increment();
+                log.error("결과 저장 실패 (id: {})", result.getId(), invalid);
+            } catch (Exception single) {
+                retryLater.add(result);
+            }
+        }
+        return retryLater;
+    }
+
+    /**
+     * ID가 이미 저장된 경우: 저장된 행이 같은 결과면 저장된 것으로 보고, 다른 결과면 실패로 집계합니다.
+     * 응답으로 나간 ID는 사용자가 들고 있으므로 새 ID로 바꿔 저장하지 않습니다.
+     */
+    private void checkAlreadyStored(TestResult result, DuplicateKeyException duplicate, List<TestResult> retryLater) {
+        List<TestResult> stored;
+        try {
+            stored = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+                TestResult row = new TestResult();
+                row.setId(result.getId());
+                row.setUserAnswers(rs.getString("user_answers"));
+                row.setUserScores(rs.getString("user_scores"));
+                row.setInterestTags(rs.getString("interest_tags"));
+                row.setPersonalityType(rs.getString("personality_type"));
+                row.setTopDepartments(rs.getString("top_departments"));
+                row.setWorstDepartments(rs.getString("worst_departments"));
+                row.setSimilarDepartments(rs.getString("similar_departments"));
+                row.setSchool(rs.getString("school"));
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                row.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+                return row;
+            }, result.getId());
+        } catch (Exception e) {
+            // 확인하지 못했으면 나중에 다시 시도
+            retryLater.add(result);
+            return;
+        }
+
+        if (!stored.isEmpty() && stored.get(0).equals(result)) {
+            log.info("결과가 이미 저장되어 있습니다. (id: {})", result.getId());
+            return;
+        }
+        failedRows.increment();
+        log.error("결과 ID {} 로 다른 결과가 이미 저장되어 있어 이 결과를 저장하지 못했습니다. 결과: {}",
+                result.getId(), toJson(result), duplicate);
+    }
+
+    private String toJson(TestResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (IOException e) {
+            return result.toString();
+        }
+    }
+
+    // ========== 보관 파일 ==========
+
+    /**
+     * DB에 기록하지 못한 결과를 보관 파일에 추가합니다.
+     * 종료 시 H2 가 자체 종료 훅으로 먼저 닫히면 마지막 배치가 실패하므로, 응답이 나간 결과를 잃지 않도록 보관합니다.
+     */
+    private void spool(List<TestResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        spoolLock.lock();
+        try {
+            writeSpool(spoolFile, results, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spooledRows.addAndGet(results.size());
+            log.warn("DB에 기록하지 못한 결과 {}건을 {} 에 보관했습니다. (주기적으로 다시 저장)", results.size(), spoolFile);
+        } catch (IOException e) {
+            failedRows.add(results.size());
+            log.error("결과 {}건 보관 실패", results.size(), e);
+        } finally {
+            spoolLock.unlock();
+        }
+    }
+
+    /**
+     * 시작 시 보관 파일(재저장 중이던 파일 포함)에 남은 결과를 조회할 수 있게 대기 맵에 올린 뒤 바로 다시 저장합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replaySpool() throws IOException {
+        spoolLock.lock();
+        try {
+            List<TestResult> spooled = new ArrayList<>();
+            for (Path file : List.of(retryingFile, spoolFile)) {
+                if (Files.exists(file)) {
+                    spooled.addAll(readSpool(file));
+                }
+            }
+            if (spooled.isEmpty()) {
+                return;
+            }
+            for (TestResult result : spooled) {
+                pending.putIfAbsent(result.getId(), result);
+            }
+            spooledRows.set(spooled.size());
+            log.info("보관 파일의 결과 {}건을 다시 저장합니다.", spooled.size());
+        } finally {
+            spoolLock.unlock();
+        }
+        retrySpool();
+    }
+
+    /**
+     * 보관 파일의 결과를 다시 저장 (재시작을 기다리지 않도록 주기적으로 실행)
+     * DB가 느릴 때에도 저장 스레드의 보관 파일 추가가 막히지 않도록, 잠금 안에서는 보관 파일을 재저장용 파일로 옮기기만 하고
+     * 저장은 잠금 밖에서 한 뒤, 이번에도 기록하지 못한 결과만 보관 파일에 다시 추가합니다.
+     * 재저장 도중 종료되면 재저장용 파일이 남아 다음 실행에서 다시 저장합니다. (이미 저장된 결과는 중복으로 걸러짐)
+     */
+    @Scheduled(fixedDelayString = "${catp.write-behind.spool-retry-ms:30000}")
+    public void retrySpool() throws IOException {
+        if (!retryLock.tryLock()) {
+            // 시작 시 재저장과 주기 실행이 겹친 경우
+            return;
+        }
+        try {
+            List<TestResult> spooled = claimSpool();
+            if (spooled.isEmpty()) {
+                return;
+            }
+
+            List<TestResult> remaining = new ArrayList<>();
+            for (int from = 0; from < spooled.size(); from += batchSize) {
+                List<TestResult> chunk = spooled.subList(from, Math.min(spooled.size(), from + batchSize));
+                List<TestResult> retryLater = insertOrCollectRetries(chunk);
+                remaining.addAll(retryLater);
+                for (TestResult result : chunk) {
+                    if (!retryLater.contains(result)) {
+                        pending.remove(result.getId());
+                    }
+                }
+            }
+
+            spoolLock.lock();
+            try {
+                if (!remaining.isEmpty()) {
+                    writeSpool(spoolFile, remaining, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+                Files.delete(retryingFile);
+                spooledRows.addAndGet(remaining.size() - spooled.size());
+            } finally {
+                spoolLock.unlock();
+            }
+            log.info("보관 파일의 결과 {}건 중 {}건을 저장했습니다. (남은 결과 {}건)",
+                    spooled.size(), spooled.size() - remaining.size(), remaining.size());
+        } finally {
+            retryLock.unlock();
+        }
+    }
+
+    /**
+     * 보관 파일을 재저장용 파일로 옮기고 그 내용을 반환합니다. (이전 재저장이 남긴 파일이 있으면 뒤에 이어 붙임)
+     */
+    private List<TestResult> claimSpool() throws IOException {
+        spoolLock.lock();
+        try {
+            if (Files.exists(spoolFile)) {
+                if (Files.exists(retryingFile)) {
+                    writeSpool(retryingFile, readSpool(spoolFile), StandardOpenOption.APPEND);
+                    Files.delete(spoolFile);
+                } else {
+                    Files.move(spoolFile, retryingFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            return Files.exists(retryingFile) ? readSpool(retryingFile) : List.of();
+        } finally {
+            spoolLock.unlock();
+        }
+    }
+
+    private List<TestResult> readSpool(Path file) throws IOException {
+        List<TestResult> results = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                results.add(objectMapper.readValue(line, TestResult.class));
+            }
+        }
+        return results;
+    }
+
+    private void writeSpool(Path file, List<TestResult> results, StandardOpenOption... options) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, options)) {
+            for (TestResult result : results) {
+                writer.write(objectMapper.writeValueAsString(result));
+                writer.newLine();
+            }
+        }
+    }
+
+    private void insertBatch(List<TestResult> results) {
+        ResultPersistEvent event = new ResultPersistEvent();
+        event.begin();
+        try {
+            insertRows(results);
+            event.succeeded = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.rows = results.size();
+                event.commit();
+            }
+        }
+    }
+
+    private void insertRows(List<TestResult> results) {
+        pipelineMetrics.run(PipelineMetrics.Stage.RESULT_INSERT, () -> transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, results, results.size(), (ps, result) -> {
+                    ps.setString(1, result.getId());
+                    ps.setString(2, result.getUserAnswers());
+                    ps.setString(3, result.getUserScores());
+                    ps.setString(4, result.getInterestTags());
+                    ps.setString(5, result.getPersonalityType());
+                    ps.setString(6, result.getTopDepartments());
+                    ps.setString(7, result.getWorstDepartments());
+                    ps.setString(8, result.getSimilarDepartments());
+                    ps.setString(9, result.getSchool());
+                    ps.setTimestamp(10, Timestamp.valueOf(result.getCreatedAt()));
+                })));
+        flushedRows.add(results.size());
+    }
+}
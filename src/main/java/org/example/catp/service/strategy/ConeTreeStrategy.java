@@ -0,0 +1,237 @@
+package org.example.catp.service.strategy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 콘 트리 색인으로 1단계 후보를 고르는 추천 전략 (catp.recommendation.strategy=cone-tree)
+ * 점수 계산과 2단계 결과 생성은 WeightedDistanceStrategy 와 같고, 후보 선택만 전체 스캔 대신
+ * 점수 상한(추천/유사)과 하한(비추천)이 큰/작은 노드부터 방문하는 분기 한정 탐색으로 바꿉니다.
+ * 현재 후보의 경계 점수보다 범위가 나쁜 노드는 방문하지 않으며, 동점은 학과 순서로 정해지므로
+ * 경계와 같은 범위의 노드는 방문합니다. 따라서 결과는 전체 스캔과 항상 같습니다.
+ *
+ * 색인은 학과 스냅샷(학교별)마다 첫 요청에서 한 번 만들고, 스냅샷이 교체되거나 메모리에서 내려가면 함께 사라집니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catp.recommendation.strategy", havingValue = "cone-tree")
+public class ConeTreeStrategy extends WeightedDistanceStrategy {
+
+    /** 이보다 학과가 적으면 전체 스캔이 더 빠르므로 색인을 쓰지 않음 */
+    static final int MIN_INDEXED_SIZE = 256;
+
+    /** 점수 범위의 반올림 오차 여유 (점수는 0.1 단위로 반올림되므로 충분히 작음) */
+    private static final double SCORE_SLACK = 1e-4;
+
+    /** 스냅샷별 색인 (스냅샷 객체 기준 약한 참조 키) */
+    private final Cache<DepartmentSnapshot, DepartmentConeTree> indexes = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public ConeTreeStrategy() {
+        super();
+    }
+
+    @Autowired
+    public ConeTreeStrategy(@Value("${catp.similarity-kernel:auto}") String kernel) {
+        super(kernel);
+    }
+
+    @Override
+    void selectCandidates(UserProfile user, DepartmentSnapshot catalog,
+                          TopKSelector top, TopKSelector worst, TopKSelector similar) {
+        // 작은 카탈로그이거나 사용자 벡터의 방향이 없으면 전체 스캔
+        if (catalog.size() < MIN_INDEXED_SIZE || user.norm == 0) {
+            super.selectCandidates(user, catalog, top, worst, similar);
+            return;
+        }
+
+        DepartmentConeTree tree = indexFor(catalog);
+        DepartmentConeTree.Bounds bounds = new DepartmentConeTree.Bounds(user, catalog);
+
+        // 1. 색인에 없는 학과는 직접 계산
+        for (int d : tree.unindexed()) {
+            offer(user, catalog, d, top, worst, similar);
+        }
+
+        // 2. 추천/유사 후보: 상한이 큰 노드부터 방문, 상한이 두 경계 모두에 못 미치면 나머지도 모두 제외
+        Frontier highest = new Frontier(true);
+        for (int c = 0; c < tree.categoryCount(); c++) {
+            if (tree.root(c) != null) {
+                highest.push(tree.root(c), c, bounds.upper(tree.root(c), c));
+            }
+        }
+        while (!highest.isEmpty()) {
+            double bound = highest.peekBound();
+            int category = highest.peekCategory();
+            DepartmentConeTree.Node node = highest.pop();
+            boolean forTop = mayRankHigher(top, bound);
+            if (!forTop && !mayRankHigher(similar, bound)) {
+                break;
+            }
+            if (!forTop && !bounds.maySatisfySimilar(node)) {
+                continue;
+            }
+
+            if (node.isLeaf()) {
+                // 학과별 과락/태그로 범위를 좁혀 후보가 될 수 없는 학과는 내적 계산 생략
+                double cosine = bounds.maxCosine(node);
+                double weightedCosine = bounds.maxWeightedCosine(node, category);
+                for (int d : node.members) {
+                    double upper = bounds.bound(cosine, weightedCosine, d);
+                    if (mayRankHigher(top, upper) || mayRankHigher(similar, upper)) {
+                        offer(user, catalog, d, top, null, similar);
+                    }
+                }
+            } else {
+                highest.push(node.left, category, bounds.upper(node.left, category));
+                highest.push(node.right, category, bounds.upper(node.right, category));
+            }
+        }
+
+        // 3. 비추천 후보: 하한이 작은 노드부터 방문
+        Frontier lowest = new Frontier(false);
+        for (int c = 0; c < tree.categoryCount(); c++) {
+            if (tree.root(c) != null) {
+                lowest.push(tree.root(c), c, bounds.lower(tree.root(c), c));
+            }
+        }
+        while (!lowest.isEmpty()) {
+            double bound = lowest.peekBound();
+            int category = lowest.peekCategory();
+            DepartmentConeTree.Node node = lowest.pop();
+            if (!mayRankLower(worst, bound)) {
+                break;
+            }
+
+            if (node.isLeaf()) {
+                double cosine = bounds.minCosine(node);
+                double weightedCosine = bounds.minWeightedCosine(node, category);
+                for (int d : node.members) {
+                    if (mayRankLower(worst, bounds.bound(cosine, weightedCosine, d))) {
+                        offer(user, catalog, d, null, worst, null);
+                    }
+                }
+            } else {
+                lowest.push(node.left, category, bounds.lower(node.left, category));
+                lowest.push(node.right, category, bounds.lower(node.right, category));
+            }
+        }
+    }
+
+    /**
+     * 스냅샷의 색인 (없으면 생성)
+     */
+    DepartmentConeTree indexFor(DepartmentSnapshot catalog) {
+        return indexes.get(catalog, snapshot -> {
+            long startedAt = System.nanoTime();
+            DepartmentConeTree tree = DepartmentConeTree.build(snapshot);
+            log.info("학과 v{} 콘 트리 색인 생성: {}개 학과 ({}ms)",
+                    snapshot.version(), snapshot.size(), (System.nanoTime() - startedAt) / 1_000_000);
+            return tree;
+        });
+    }
+
+    /**
+     * 상한이 upper 인 노드의 학과가 후보에 들어갈 수 있는지 여부 (경계와 같으면 학과 순서에 따라 들어갈 수 있음)
+     */
+    private static boolean mayRankHigher(TopKSelector selector, double upper) {
+        return !selector.isFull() || roundScore(upper + SCORE_SLACK) >= selector.threshold();
+    }
+
+    private static boolean mayRankLower(TopKSelector selector, double lower) {
+        return !selector.isFull() || roundScore(lower - SCORE_SLACK) <= selector.threshold();
+    }
+
+    /**
+     * 방문 대기 중인 노드의 이진 힙 (범위가 가장 좋은 노드가 루트, 노드마다 객체를 만들지 않도록 배열로 보관)
+     */
+    private static final class Frontier {
+        private final boolean highest;
+        private DepartmentConeTree.Node[] nodes = new DepartmentConeTree.Node[64];
+        private int[] categories = new int[64];
+        private double[] bounds = new double[64];
+        private int size;
+
+        Frontier(boolean highest) {
+            this.highest = highest;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        double peekBound() {
+            return bounds[0];
+        }
+
+        int peekCategory() {
+            return categories[0];
+        }
+
+        void push(DepartmentConeTree.Node node, int category, double bound) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                categories = Arrays.copyOf(categories, size * 2);
+                bounds = Arrays.copyOf(bounds, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(bound, bounds[parent])) {
+                    break;
+                }
+                set(i, nodes[parent], categories[parent], bounds[parent]);
+                i = parent;
+            }
+            set(i, node, category, bound);
+        }
+
+        DepartmentConeTree.Node pop() {
+            DepartmentConeTree.Node result = nodes[0];
+            int last = --size;
+            DepartmentConeTree.Node node = nodes[last];
+            int category = categories[last];
+            double bound = bounds[last];
+            nodes[last] = null;
+
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && better(bounds[child + 1], bounds[child])) {
+                    child++;
+                }
+                if (!better(bounds[child], bound)) {
+                    break;
+                }
+                set(i, nodes[child], categories[child], bounds[child]);
+                i = child;
+            }
+            if (size > 0) {
+                set(i, node, category, bound);
+            }
+            return result;
+        }
+
+        private boolean better(double a, double b) {
+            return highest ? a > b : a < b;
+        }
+
+        private void set(int i, DepartmentConeTree.Node node, int category, double bound) {
+            nodes[i] = node;
+            categories[i] = category;
+            bounds[i] = bound;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package org.example.catp.service.strategy;
+
+import org.example.catp.service.catalog.DepartmentSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.example.catp.service.catalog.DepartmentSnapshot.DIMENSION;
+
+/**
+ * 학과 스냅샷의 콘 트리 색인 (계열별 트리 1개)
+ * 각 노드는 소속 학과들의 방향(단위 벡터)을 감싸는 원뿔(중심 방향 + 최대 각도)을
+ * 기본 벡터와 계열 가중치 벡터에 대해 하나씩 가지고, 태그 합집합과 과락 요구 마스크의 AND/OR 를 함께 저장합니다.
+ * 사용자 벡터와 원뿔 중심 사이의 각도로 노드 안 모든 학과의 유사도 범위를 구할 수 있어
+ * 점수의 상한/하한으로 후보가 될 수 없는 노드를 통째로 건너뜁니다.
+ *
+ * 가중 유사도는 계열마다 사용자 벡터가 다르므로 트리를 계열별로 나누어 만듭니다.
+ */
+final class DepartmentConeTree {
+
+    /** 잎 노드의 최대 학과 수 */
+    static final int LEAF_SIZE = 32;
+
+    /** 각도 계산의 반올림 오차 여유 (라디안) */
+    private static final double ANGLE_SLACK = 1e-7;
+
+    /** 유사도 범위 계산의 반올림 오차 여유 */
+    private static final double COSINE_SLACK = 1e-9;
+
+    /**
+     * 트리 노드 (잎이면 members, 아니면 left/right 사용)
+     */
+    static final class Node {
+        final Cone cone;
+        final Cone weightedCone;
+        /** 소속 학과 태그의 합집합 / 교집합 */
+        final long[] tagUnion;
+        final long[] tagIntersection;
+        /** 소속 학과 과락 요구 마스크의 AND / OR */
+        final int criticalAnd;
+        final int criticalOr;
+        final Node left;
+        final Node right;
+        final int[] members;
+
+        private Node(Cone cone, Cone weightedCone, long[] tagUnion, long[] tagIntersection,
+                     int criticalAnd, int criticalOr, Node left, Node right, int[] members) {
+            this.cone = cone;
+            this.weightedCone = weightedCone;
+            this.tagUnion = tagUnion;
+            this.tagIntersection = tagIntersection;
+            this.criticalAnd = criticalAnd;
+            this.criticalOr = criticalOr;
+            this.left = left;
+            this.right = right;
+            this.members = members;
+        }
+
+        boolean isLeaf() {
+            return members != null;
+        }
+    }
+
+    private final DepartmentSnapshot catalog;
+    private final Node[] roots;
+    private final int[] unindexed;
+
+    /** 학과별 단위 벡터 (행 우선, [d * DIMENSION + i]) */
+    private final double[] units;
+    private final double[] weightedUnits;
+
+    private DepartmentConeTree(DepartmentSnapshot catalog) {
+        this.catalog = catalog;
+        this.units = normalize(catalog.vectors(), catalog.norms(), catalog.size());
+        this.weightedUnits = normalize(catalog.weightedVectors(), catalog.weightedNorms(), catalog.size());
+
+        // 1. 계열별로 나누기 (크기가 0인 벡터는 방향이 없으므로 색인하지 않고 항상 직접 계산)
+        List<List<Integer>> byCategory = new ArrayList<>();
+        for (int c = 0; c < catalog.categoryCount(); c++) {
+            byCategory.add(new ArrayList<>());
+        }
+        List<Integer> skipped = new ArrayList<>();
+        for (int d = 0; d < catalog.size(); d++) {
+            if (catalog.norms()[d] == 0 || catalog.weightedNorms()[d] == 0) {
+                skipped.add(d);
+            } else {
+                byCategory.get(catalog.categoryIds()[d]).add(d);
+            }
+        }
+
+        // 2. 계열별 트리 생성
+        this.roots = new Node[catalog.categoryCount()];
+        for (int c = 0; c < roots.length; c++) {
+            List<Integer> members = byCategory.get(c);
+            if (!members.isEmpty()) {
+                roots[c] = build(members.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+        this.unindexed = skipped.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 스냅샷으로 색인 생성
+     */
+    static DepartmentConeTree build(DepartmentSnapshot catalog) {
+        return new DepartmentConeTree(catalog);
+    }
+
+    DepartmentSnapshot catalog() {
+        return catalog;
+    }
+
+    /**
+     * 계열별 루트 (학과가 없는 계열은 null)
+     */
+    Node root(int category) {
+        return roots[category];
+    }
+
+    int categoryCount() {
+        return roots.length;
+    }
+
+    /**
+     * 색인에 넣지 않은 학과 (벡터 크기 0)
+     */
+    int[] unindexed() {
+        return unindexed;
+    }
+
+    // ========== 생성 ==========
+
+    private Node build(int[] members) {
+        // 1. 원뿔 (기본/가중 벡터)
+        Cone cone = Cone.enclosing(units, members);
+        Cone weightedCone = Cone.enclosing(weightedUnits, members);
+
+        // 2. 태그 합집합/교집합, 과락 요구 마스크
+        long[] tagUnion = new long[catalog.tagWords()];
+        long[] tagIntersection = null;
+        int criticalAnd = -1;
+        int criticalOr = 0;
+        for (int d : members) {
+            long[] tags = new long[catalog.tagWords()];
+            catalog.orTags(d, tags);
+            for (int w = 0; w < tags.length; w++) {
+                tagUnion[w] |= tags[w];
+            }
+            if (tagIntersection == null) {
+                tagIntersection = tags;
+            } else {
+                for (int w = 0; w < tags.length; w++) {
+                    tagIntersection[w] &= tags[w];
+                }
+            }
+            criticalAnd &= catalog.criticalMasks()[d];
+            criticalOr |= catalog.criticalMasks()[d];
+        }
+
+        if (members.length <= LEAF_SIZE) {
+            return new Node(cone, weightedCone, tagUnion, tagIntersection, criticalAnd, criticalOr, null, null, members);
+        }
+
+        // 3. 서로 먼 두 학과를 기준으로 가까운 쪽에 배정하여 분할
+        int[][] halves = split(members);
+        return new Node(cone, weightedCone, tagUnion, tagIntersection, criticalAnd, criticalOr,
+                build(halves[0]), build(halves[1]), null);
+    }
+
+    private int[][] split(int[] members) {
+        int first = members[0];
+        for (int d : members) {
+            if (similarity(d, members[0]) < similarity(first, members[0])) {
+                first = d;
+            }
+        }
+        int second = first;
+        for (int d : members) {
+            if (similarity(d, first) < similarity(second, first)) {
+                second = d;
+            }
+        }
+
+        int[] left = new int[members.length];
+        int[] right = new int[members.length];
+        int leftSize = 0;
+        int rightSize = 0;
+        for (int d : members) {
+            if (similarity(d, first) >= similarity(d, second)) {
+                left[leftSize++] = d;
+            } else {
+                right[rightSize++] = d;
+            }
+        }
+
+        // 모든 학과의 방향이 같으면 순서대로 반씩 나눔
+        if (leftSize == 0 || rightSize == 0) {
+            int half = members.length / 2;
+            return new int[][]{
+                    Arrays.copyOfRange(members, 0, half),
+                    Arrays.copyOfRange(members, half, members.length)
+            };
+        }
+        return new int[][]{
+                Arrays.copyOf(left, leftSize),
+                Arrays.copyOf(right, rightSize)
+        };
+    }
+
+    /**
+     * 두 학과 방향의 유사도 (기본 + 가중 단위 벡터 내적의 합)
+     */
+    private double similarity(int a, int b) {
+        double sum = 0;
+        for (int i = 0; i < DIMENSION; i++) {
+            sum += units[a * DIMENSION + i] * units[b * DIMENSION + i]
+                    + weightedUnits[a * DIMENSION + i] * weightedUnits[b * DIMENSION + i];
+        }
+        return sum;
+    }
+
+    private static double[] normalize(double[] vectors, double[] norms, int size) {
+        double[] result = new double[size * DIMENSION];
+        for (int d = 0; d < size; d++) {
+            if (norms[d] == 0) {
+                continue;
+            }
+            for (int i = 0; i < DIMENSION; i++) {
+                result[d * DIMENSION + i] = vectors[d * DIMENSION + i] / norms[d];
+            }
+        }
+        return result;
+    }
+
+    // ========== 탐색 범위 ==========
+
+    /**
+     * 단위 벡터 묶음을 감싸는 원뿔 (중심 방향 + 반지름 각도의 cos/sin)
+     */
+    static final class Cone {
+        final double[] center;
+        final double cosRadius;
+        final double sinRadius;
+
+        private Cone(double[] center, double radius) {
+            this.center = center;
+            this.cosRadius = Math.cos(radius);
+            this.sinRadius = Math.sin(radius);
+        }
+
+        static Cone enclosing(double[] unitVectors, int[] members) {
+            double[] center = new double[DIMENSION];
+            for (int d : members) {
+                for (int i = 0; i < DIMENSION; i++) {
+                    center[i] += unitVectors[d * DIMENSION + i];
+                }
+            }
+            double norm = 0;
+            for (double v : center) {
+                norm += v * v;
+            }
+            norm = Math.sqrt(norm);
+            for (int i = 0; i < DIMENSION; i++) {
+                // 방향이 서로 상쇄되는 경우 첫 학과 방향을 중심으로 사용 (반지름이 커질 뿐 범위는 여전히 유효)
+                center[i] = (norm == 0) ? unitVectors[members[0] * DIMENSION + i] : center[i] / norm;
+            }
+
+            double radius = 0;
+            for (int d : members) {
+                double dot = 0;
+                for (int i = 0; i < DIMENSION; i++) {
+                    dot += center[i] * unitVectors[d * DIMENSION + i];
+                }
+                radius = Math.max(radius, Math.acos(Math.max(-1.0, Math.min(1.0, dot))));
+            }
+            return new Cone(center, Math.min(Math.PI, radius + ANGLE_SLACK));
+        }
+
+        /**
+         * 단위 벡터 u와 원뿔 안 벡터의 cos 최댓값: cos(max(0, α - θ))
+         */
+        double maxCosine(double[] u) {
+            double cos = cosineTo(u);
+            if (cos >= cosRadius) {
+                return 1.0;
+            }
+            return cos * cosRadius + Math.sqrt(Math.max(0, 1 - cos * cos)) * sinRadius;
+        }
+
+        /**
+         * 단위 벡터 u와 원뿔 안 벡터의 cos 최솟값: cos(min(π, α + θ))
+         */
+        double minCosine(double[] u) {
+            double cos = cosineTo(u);
+            if (cos <= -cosRadius) {
+                return -1.0;
+            }
+            return cos * cosRadius - Math.sqrt(Math.max(0, 1 - cos * cos)) * sinRadius;
+        }
+
+        private double cosineTo(double[] u) {
+            double dot = 0;
+            for (int i = 0; i < DIMENSION; i++) {
+                dot += u[i] * center[i];
+            }
+            return Math.max(-1.0, Math.min(1.0, dot));
+        }
+    }
+
+
+    /**
+     * 사용자 한 명에 대한 노드별 점수 범위 계산기
+     * 유사도 범위는 사용자 방향과 원뿔 중심의 각도 α, 원뿔 반지름 θ로 cos(α - θ) ~ cos(α + θ) 이며,
+     * 삼각함수 호출 없이 cos α 와 미리 구한 cos θ, sin θ 로 계산합니다.
+     */
+    static final class Bounds {
+        private final double[] unit;
+        private final double[][] weightedUnits;
+        private final WeightedDistanceStrategy.UserProfile user;
+        private final DepartmentSnapshot catalog;
+
+        Bounds(WeightedDistanceStrategy.UserProfile user, DepartmentSnapshot catalog) {
+            this.user = user;
+            this.catalog = catalog;
+            this.unit = scale(user.vector, user.norm);
+            this.weightedUnits = new double[user.weightedVectors.length][];
+            for (int c = 0; c < weightedUnits.length; c++) {
+                weightedUnits[c] = scale(user.weightedVectors[c], user.weightedNorms[c]);
+            }
+        }
+
+        /**
+         * 노드 안 학과 점수의 상한 (모든 학과가 과락일 때만 감점, 태그는 합집합 기준)
+         */
+        double upper(Node node, int category) {
+            return WeightedDistanceStrategy.calculateScore(maxCosine(node), maxWeightedCosine(node, category),
+                    (node.criticalAnd & user.weakMask) != 0, matchingTagCount(node.tagUnion));
+        }
+
+        /**
+         * 노드 안 학과 점수의 하한 (한 학과라도 과락이면 감점, 태그는 교집합 기준)
+         */
+        double lower(Node node, int category) {
+            return WeightedDistanceStrategy.calculateScore(minCosine(node), minWeightedCosine(node, category),
+                    (node.criticalOr & user.weakMask) != 0, matchingTagCount(node.tagIntersection));
+        }
+
+        /**
+         * 잎 노드 학과 d의 점수 범위 (유사도는 잎의 범위, 과락과 태그는 학과 값 그대로)
+         * 내적 계산 없이 점수 후보가 될 수 없는 학과를 거르는 데 사용합니다.
+         */
+        double bound(double cosine, double weightedCosine, int d) {
+            return WeightedDistanceStrategy.calculateScore(cosine, weightedCosine,
+                    (catalog.criticalMasks()[d] & user.weakMask) != 0, catalog.matchingTagCount(d, user.tagMask));
+        }
+
+        double maxCosine(Node node) {
+            return node.cone.maxCosine(unit) + COSINE_SLACK;
+        }
+
+        double maxWeightedCosine(Node node, int category) {
+            return node.weightedCone.maxCosine(weightedUnits[category]) + COSINE_SLACK;
+        }
+
+        double minCosine(Node node) {
+            return node.cone.minCosine(unit) - COSINE_SLACK;
+        }
+
+        double minWeightedCosine(Node node, int category) {
+            return node.weightedCone.minCosine(weightedUnits[category]) - COSINE_SLACK;
+        }
+
+        /**
+         * 노드 안에 유사 학과 조건(과락 없음 + 공통 태그 2개 이상)을 만족하는 학과가 있을 수 있는지 여부
+         */
+        boolean maySatisfySimilar(Node node) {
+            return (node.criticalAnd & user.weakMask) == 0 && matchingTagCount(node.tagUnion) >= 2;
+        }
+
+        private int matchingTagCount(long[] tags) {
+            int count = 0;
+            for (int w = 0; w < tags.length; w++) {
+                count += Long.bitCount(tags[w] & user.tagMask[w]);
+            }
+            return count;
+        }
+
+        private static double[] scale(double[] vector, double norm) {
+            double[] result = new double[DIMENSION];
+            for (int i = 0; i < DIMENSION; i++) {
+                result[i] = vector[i] / norm;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.catp.service.strategy;
+
+import org.example.catp.entity.AptitudeType;
+
+import java.util.Arrays;
+
+/**
+ * 추천 사유 코드와 그 파라미터
+ * 사유 문장은 코드, 적성 인덱스, 학과 계열만으로 다시 만들 수 있으므로
+ * 결과 저장 시에는 문장 대신 이 값만 기록합니다.
+ *
+ * @param code 사유 종류
+ * @param first 첫 번째 파라미터 (강점 역량 또는 과락 역량 인덱스, 없으면 -1)
+ * @param second 두 번째 파라미터 (두 번째 강점 역량 인덱스, 없으면 -1)
+ */
+public record MatchReason(Code code, int first, int second) {
+
+    public enum Code {
+        CRITICAL_FAIL('C'),
+        PERFECT_MATCH('P'),
+        INTEREST_AND_STRENGTHS('I'),
+        STRENGTHS('S'),
+        INTEREST_AND_CATEGORY('T'),
+        PARTIAL_INTEREST('O'),
+        CATEGORY_EXCELLENT('E'),
+        CATEGORY_GOOD('G'),
+        CATEGORY_FAIR('F');
+
+        private final char symbol;
+
+        Code(char symbol) {
+            this.symbol = symbol;
+        }
+
+        public char symbol() {
+            return symbol;
+        }
+
+        public static Code fromSymbol(char symbol) {
+            return Arrays.stream(values())
+                    .filter(code -> code.symbol == symbol)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("알 수 없는 추천 사유 코드: " + symbol));
+        }
+    }
+
+    public static MatchReason of(Code code) {
+        return new MatchReason(code, -1, -1);
+    }
+
+    /**
+     * 추천 사유 문장 생성
+     */
+    public String describe(String category) {
+        return switch (code) {
+            case CRITICAL_FAIL -> category + " 계열이지만, 일부 핵심 역량 보완이 필요합니다.";
+            case PERFECT_MATCH -> "관심 분야와 적성이 모두 뛰어나게 일치합니다!";
+            case INTEREST_AND_STRENGTHS -> "관심 분야가 잘 맞고, " + strengths() + " 역량이 뛰어납니다.";
+            case STRENGTHS -> strengths() + " 등 핵심 역량을 갖추고 있습니다.";
+            case INTEREST_AND_CATEGORY -> "관심 분야가 잘 맞고, " + category + " 적성이 우수합니다.";
+            case PARTIAL_INTEREST -> "관심사가 일부 일치하며 적성이 부합합니다.";
+            case CATEGORY_EXCELLENT -> category + " 계열로서 적성이 매우 잘 맞습니다.";
+            case CATEGORY_GOOD -> category + " 계열로서 전반적인 적성 유형이 잘 맞습니다.";
+            case CATEGORY_FAIR -> category + " 계열과 적성이 어느 정도 부합합니다.";
+        };
+    }
+
+    /**
+     * 과락 사유 문장 생성 (과락이 아니면 null)
+     *
+     * @param required 학과 요구 점수
+     * @param owned 사용자 점수 (10점 만점 환산)
+     */
+    public String describeMismatch(double required, double owned) {
+        if (code != Code.CRITICAL_FAIL) {
+            return null;
+        }
+        return String.format(
+                "%s 역량이 부족합니다 (요구: %.0f점, 보유: %.1f점)",
+                AptitudeType.fromIndex(first).getDisplayName(), required, owned
+        );
+    }
+
+    private String strengths() {
+        return AptitudeType.fromIndex(first).getDisplayName() + ", " + AptitudeType.fromIndex(second).getDisplayName();
+    }
+}
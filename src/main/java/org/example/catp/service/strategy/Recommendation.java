@@ -0,0 +1,24 @@
+package org.example.catp.service.strategy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.catp.dto.DepartmentMatch;
+
+import java.util.List;
+
+/**
+ * 추천 결과 (실제로 응답에 포함되는 학과만 담음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class Recommendation {
+
+    /** 추천 학과 (점수 높은 순) */
+    private final List<DepartmentMatch> topDepartments;
+
+    /** 비추천 학과 (점수 낮은 순) */
+    private final List<DepartmentMatch> worstDepartments;
+
+    /** 관심사 기반 유사 학과 (추천 학과 제외, 점수 높은 순) */
+    private final List<DepartmentMatch> similarDepartments;
+}
@@ -0,0 +1,46 @@
+package org.example.catp.service.strategy;
+
+import org.example.catp.service.catalog.DepartmentSnapshot;
+
+import static org.example.catp.service.catalog.DepartmentSnapshot.DIMENSION;
+
+/**
+ * 스칼라 커널 (Vector API 를 쓸 수 없을 때)
+ * 적성 하나씩 전체 학과 열을 훑는 순서라 JIT 의 자동 벡터화 대상이 됩니다.
+ */
+final class ScalarSimilarityKernel implements SimilarityKernel {
+
+    @Override
+    public void dotProducts(double[] user, DepartmentSnapshot catalog, double[] dots, double[] weightedDots) {
+        dotProducts(user, catalog, dots, weightedDots, 0, catalog.size());
+    }
+
+    /**
+     * [from, to) 범위의 학과만 계산 (벡터 커널의 나머지 처리용)
+     */
+    static void dotProducts(double[] user, DepartmentSnapshot catalog, double[] dots, double[] weightedDots,
+                            int from, int to) {
+        int size = catalog.size();
+        double[] vectors = catalog.vectorColumns();
+        double[] weights = catalog.categoryWeightColumns();
+        double[] weightedVectors = catalog.weightedVectorColumns();
+
+        for (int d = from; d < to; d++) {
+            dots[d] = 0.0;
+            weightedDots[d] = 0.0;
+        }
+        for (int i = 0; i < DIMENSION; i++) {
+            double u = user[i];
+            int column = i * size;
+            for (int d = from; d < to; d++) {
+                dots[d] += u * vectors[column + d];
+                weightedDots[d] += (u * weights[column + d]) * weightedVectors[column + d];
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.catp.service.strategy;
+
+import org.example.catp.service.catalog.DepartmentSnapshot;
+
+/**
+ * 사용자 벡터와 모든 학과 벡터의 내적을 한 번에 계산하는 커널
+ * 학과별로 적성 인덱스 순서대로 곱하고 더하므로, 구현과 관계없이 학과 하나씩 계산한 값과 비트 단위로 같습니다.
+ */
+interface SimilarityKernel {
+
+    /**
+     * @param user 사용자 적성 벡터 (10점 만점 환산)
+     * @param catalog 학과 스냅샷 (열 우선 배치본 사용)
+     * @param dots 학과별 기본 내적 (출력, 길이 catalog.size())
+     * @param weightedDots 학과별 계열 가중치 적용 내적 (출력, 길이 catalog.size())
+     */
+    void dotProducts(double[] user, DepartmentSnapshot catalog, double[] dots, double[] weightedDots);
+
+    String name();
+}
@@ -0,0 +1,47 @@
+package org.example.catp.service.strategy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실행 환경에 맞는 내적 커널 선택
+ * Vector API 는 인큐베이터 모듈이라 JVM 을 --add-modules jdk.incubator.vector 로 시작했을 때만 사용할 수 있으며,
+ * 그렇지 않으면 벡터 커널 클래스를 아예 로드하지 않고 스칼라 커널을 사용합니다.
+ */
+@Slf4j
+final class SimilarityKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private SimilarityKernels() {
+    }
+
+    /**
+     * @param preference auto (가능하면 벡터), vector, scalar
+     */
+    static SimilarityKernel select(String preference) {
+        SimilarityKernel kernel = "scalar".equalsIgnoreCase(preference) ? new ScalarSimilarityKernel() : tryVector();
+        if (kernel == null) {
+            if ("vector".equalsIgnoreCase(preference)) {
+                log.warn("Vector API 를 사용할 수 없어 스칼라 커널을 사용합니다. (JVM 옵션: --add-modules {})", VECTOR_MODULE);
+            }
+            kernel = new ScalarSimilarityKernel();
+        }
+        log.info("학과 유사도 커널: {}", kernel.name());
+        return kernel;
+    }
+
+    private static SimilarityKernel tryVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            if (!VectorSimilarityKernel.isSupported()) {
+                return null;
+            }
+            return new VectorSimilarityKernel();
+        } catch (LinkageError e) {
+            log.warn("Vector API 커널 로드 실패: {}", e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.catp.service.strategy;
+
+/**
+ * 점수 기준 상위 K개 학과 인덱스를 고르는 고정 크기 힙
+ * 전체 정렬 없이 O(n log K)로 선택하며, 선택 중에는 객체를 할당하지 않습니다.
+ *
+ * 동점일 때는 기존 안정 정렬 결과와 같도록 순서를 정합니다.
+ * - 높은 점수 선택: 점수 내림차순, 동점이면 인덱스 오름차순
+ * - 낮은 점수 선택: 점수 오름차순, 동점이면 인덱스 내림차순
+ */
+final class TopKSelector {
+
+    private final boolean highest;
+    private final int[] indices;
+    private final double[] scores;
+    private int size;
+
+    private TopKSelector(int k, boolean highest) {
+        this.highest = highest;
+        this.indices = new int[k];
+        this.scores = new double[k];
+    }
+
+    static TopKSelector highest(int k) {
+        return new TopKSelector(k, true);
+    }
+
+    static TopKSelector lowest(int k) {
+        return new TopKSelector(k, false);
+    }
+
+    /**
+     * (a 점수, a 인덱스)가 (b 점수, b 인덱스)보다 앞 순위인지 여부
+     */
+    private boolean ranksBefore(double scoreA, int indexA, double scoreB, int indexB) {
+        if (scoreA != scoreB) {
+            return highest ? scoreA > scoreB : scoreA < scoreB;
+        }
+        return highest ? indexA < indexB : indexA > indexB;
+    }
+
+    /**
+     * 힙 루트는 현재 선택된 것 중 가장 뒤 순위입니다.
+     */
+    private boolean worse(int a, int b) {
+        return ranksBefore(scores[b], indices[b], scores[a], indices[a]);
+    }
+
+    void offer(int index, double score) {
+        if (indices.length == 0) {
+            return;
+        }
+        if (size < indices.length) {
+            indices[size] = index;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (ranksBefore(score, index, scores[0], indices[0])) {
+            indices[0] = index;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 현재 가장 뒤 순위 점수 (K개가 채워지기 전에는 의미 없음)
+     */
+    double threshold() {
+        return scores[0];
+    }
+
+    boolean isFull() {
+        return size == indices.length;
+    }
+
+    /**
+     * 선택된 인덱스를 순위 순서대로 반환합니다.
+     */
+    int[] sortedIndices() {
+        int[] heapIndices = indices.clone();
+        double[] heapScores = scores.clone();
+        int[] result = new int[size];
+        // K가 작으므로 단순 선택 정렬
+        boolean[] taken = new boolean[size];
+        for (int r = 0; r < size; r++) {
+            int best = -1;
+            for (int i = 0; i < size; i++) {
+                if (!taken[i] && (best < 0 || ranksBefore(heapScores[i], heapIndices[i], heapScores[best], heapIndices[best]))) {
+                    best = i;
+                }
+            }
+            taken[best] = true;
+            result[r] = heapIndices[best];
+        }
+        return result;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(i, parent)) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            int right = left + 1;
+            int worst = i;
+            if (left < size && worse(left, worst)) {
+                worst = left;
+            }
+            if (right < size && worse(right, worst)) {
+                worst = right;
+            }
+            if (worst == i) {
+                return;
+            }
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int index = indices[a];
+        indices[a] = indices[b];
+        indices[b] = index;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
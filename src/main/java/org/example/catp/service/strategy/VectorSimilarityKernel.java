@@ -0,0 +1,55 @@
+package org.example.catp.service.strategy;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+
+import static org.example.catp.service.catalog.DepartmentSnapshot.DIMENSION;
+
+/**
+ * JDK Vector API 커널 (jdk.incubator.vector 모듈이 있을 때만 SimilarityKernels 가 로드)
+ * 레인마다 학과 하나를 맡아 적성 순서대로 곱셈 후 덧셈(FMA 미사용)하므로 스칼라 계산과 결과가 같습니다.
+ */
+final class VectorSimilarityKernel implements SimilarityKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * 한 번에 2개 이상의 double 을 처리할 수 있는 CPU 인지 여부
+     */
+    static boolean isSupported() {
+        return SPECIES.length() >= 2;
+    }
+
+    @Override
+    public void dotProducts(double[] user, DepartmentSnapshot catalog, double[] dots, double[] weightedDots) {
+        int size = catalog.size();
+        double[] vectors = catalog.vectorColumns();
+        double[] weights = catalog.categoryWeightColumns();
+        double[] weightedVectors = catalog.weightedVectorColumns();
+
+        int bound = SPECIES.loopBound(size);
+        int d = 0;
+        for (; d < bound; d += SPECIES.length()) {
+            DoubleVector dot = DoubleVector.zero(SPECIES);
+            DoubleVector weightedDot = DoubleVector.zero(SPECIES);
+            for (int i = 0; i < DIMENSION; i++) {
+                int offset = i * size + d;
+                DoubleVector u = DoubleVector.broadcast(SPECIES, user[i]);
+                dot = dot.add(u.mul(DoubleVector.fromArray(SPECIES, vectors, offset)));
+                weightedDot = weightedDot.add(u.mul(DoubleVector.fromArray(SPECIES, weights, offset))
+                        .mul(DoubleVector.fromArray(SPECIES, weightedVectors, offset)));
+            }
+            dot.intoArray(dots, d);
+            weightedDot.intoArray(weightedDots, d);
+        }
+
+        // 레인 수로 나누어 떨어지지 않는 나머지 학과
+        ScalarSimilarityKernel.dotProducts(user, catalog, dots, weightedDots, d, size);
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + SPECIES.length() + " lanes)";
+    }
+}
@@ -1,25 +1,24 @@
 package org.example.catp.service.strategy;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.catp.dto.DepartmentMatch;
 import org.example.catp.entity.AptitudeType;
-import org.example.catp.entity.Department;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static org.example.catp.entity.AptitudeType.*;
+import static org.example.catp.service.catalog.DepartmentSnapshot.DIMENSION;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catp.recommendation.strategy", havingValue = "linear", matchIfMissing = true)
 public class WeightedDistanceStrategy implements RecommendationStrategy {
 
-    private final ObjectMapper objectMapper;
-
     // ========== 상수 정의 ==========
     
     /** 적성 점수 배점 (100점 만점 중) */
@@ -32,14 +31,17 @@ public class WeightedDistanceStrategy implements RecommendationStrategy {
     private static final double TAG_BONUS_PER_MATCH = 10.0;
     
     /** 과락 기준: 학과 요구 점수 */
-    private static final int CRITICAL_DEPT_THRESHOLD = 8;
+    public static final int CRITICAL_DEPT_THRESHOLD = 8;
     
     /** 과락 기준: 사용자 점수 (10점 만점 환산) */
     private static final double CRITICAL_USER_THRESHOLD = 5.0;
 
+    /** 계열별 중요 역량 가중치 */
+    public static final double IMPORTANT_WEIGHT = 1.5;
+
     // ========== 계열별 중요 역량 ==========
     
-    private static final Map<String, List<AptitudeType>> CATEGORY_WEIGHTS = Map.ofEntries(
+    public static final Map<String, List<AptitudeType>> CATEGORY_WEIGHTS = Map.ofEntries(
             Map.entry("이공계", List.of(LOGIC, INQUIRY, PROBLEM_SOLVING)),
             Map.entry("인문계", List.of(LANGUAGE, SOCIAL, INQUIRY)),
             Map.entry("경상계", List.of(LOGIC, LEADERSHIP, SYSTEMATIC)),
@@ -53,113 +55,199 @@ public class WeightedDistanceStrategy implements RecommendationStrategy {
             Map.entry("기타", List.of(LOGIC, SOCIAL, PROBLEM_SOLVING))
     );
 
+    /** 추천/비추천/유사 학과 각각의 개수 */
+    private static final int RESULT_SIZE = 3;
+
+    /** 공통 태그 최대 표시 개수 */
+    public static final int MAX_COMMON_TAGS = 5;
+
+    /** 전체 학과 내적 계산 커널 */
+    private final SimilarityKernel kernel;
+
+    public WeightedDistanceStrategy() {
+        this(SimilarityKernels.select("auto"));
+    }
+
+    @Autowired
+    public WeightedDistanceStrategy(@Value("${catp.similarity-kernel:auto}") String kernel) {
+        this(SimilarityKernels.select(kernel));
+    }
+
+    WeightedDistanceStrategy(SimilarityKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    /**
+     * 2단계로 추천합니다.
+     * 1단계: 모든 학과의 내적을 커널로 한 번에 구한 뒤 점수만 계산하여 고정 크기 힙으로 상위/하위/유사 후보를 선택 (사유 문자열 생성 없음)
+     * 2단계: 실제로 반환되는 학과에 대해서만 추천 사유, 과락 사유, 공통 태그를 생성
+     */
     @Override
-    public List<Map<String, Object>> recommend(List<Double> userScores, Set<String> userTags, List<Department> departments) {
-        List<Map<String, Object>> results = new ArrayList<>();
-
-        for (Department dept : departments) {
-            try {
-                List<Integer> deptScores = objectMapper.readValue(dept.getAptitudeScores(), new TypeReference<>() {});
-                List<String> deptTags = objectMapper.readValue(dept.getTags(), new TypeReference<>() {});
-
-                MatchResult matchResult = calculateMatchScore(userScores, deptScores, dept.getCategory(), userTags, deptTags);
-
-                Map<String, Object> map = new HashMap<>();
-                map.put("department", dept);
-                map.put("match_percentage", Math.round(matchResult.score * 10) / 10.0);
-                map.put("reason", matchResult.reason);
-                
-                if (matchResult.hasCriticalFail) {
-                    map.put("mismatch_reason", matchResult.criticalFailReason);
-                }
+    public Recommendation recommend(double[] userScores, Set<String> userTags, DepartmentSnapshot catalog) {
+        UserProfile user = new UserProfile(userScores, userTags, catalog);
 
-                if (matchResult.matchingTagCount > 0) {
-                    map.put("common_tags", userTags.stream()
-                            .filter(deptTags::contains)
-                            .limit(5) // 공통 태그도 최대 5개만
-                            .collect(Collectors.toList()));
-                }
+        TopKSelector top = TopKSelector.highest(RESULT_SIZE);
+        TopKSelector worst = TopKSelector.lowest(RESULT_SIZE);
+        // 유사 학과는 추천 학과와 겹칠 수 있으므로 두 배수만큼 후보 확보
+        TopKSelector similar = TopKSelector.highest(RESULT_SIZE * 2);
+
+        // 1단계: 점수 계산 및 후보 선택
+        selectCandidates(user, catalog, top, worst, similar);
 
-                results.add(map);
+        // 2단계: 선택된 학과에 대해서만 상세 결과 생성
+        Map<Integer, DepartmentMatch> explained = new HashMap<>();
+        List<DepartmentMatch> topDepartments = explain(top.sortedIndices(), RESULT_SIZE, null, user, userTags, catalog, explained);
+        List<DepartmentMatch> worstDepartments = explain(worst.sortedIndices(), RESULT_SIZE, null, user, userTags, catalog, explained);
+        List<DepartmentMatch> similarDepartments = explain(similar.sortedIndices(), RESULT_SIZE, top.sortedIndices(), user, userTags, catalog, explained);
 
-            } catch (Exception e) {
-                log.error("학과 매칭 계산 실패: {}", dept.getName(), e);
+        return new Recommendation(topDepartments, worstDepartments, similarDepartments);
+    }
+
+    /**
+     * 1단계: 모든 학과를 훑어 상위/하위/유사 후보 선택 (색인을 쓰는 하위 클래스에서 대체)
+     */
+    void selectCandidates(UserProfile user, DepartmentSnapshot catalog,
+                          TopKSelector top, TopKSelector worst, TopKSelector similar) {
+        double[] dots = new double[catalog.size()];
+        double[] weightedDots = new double[catalog.size()];
+        kernel.dotProducts(user.vector, catalog, dots, weightedDots);
+
+        int[] criticalMasks = catalog.criticalMasks();
+        int[] categoryIds = catalog.categoryIds();
+        double[] norms = catalog.norms();
+        double[] weightedNorms = catalog.weightedNorms();
+        for (int d = 0; d < catalog.size(); d++) {
+            int criticalMask = criticalMasks[d] & user.weakMask;
+            int matchingTagCount = catalog.matchingTagCount(d, user.tagMask);
+            double cosineSimilarity = cosine(dots[d], user.norm, norms[d]);
+            double weightedSimilarity = cosine(weightedDots[d], user.weightedNorms[categoryIds[d]], weightedNorms[d]);
+            double score = roundScore(calculateScore(cosineSimilarity, weightedSimilarity, criticalMask != 0, matchingTagCount));
+
+            top.offer(d, score);
+            worst.offer(d, score);
+
+            // "관심 분야"가 일치하는 사유가 붙는 학과 (과락 없음 + 공통 태그 2개 이상)
+            if (criticalMask == 0 && matchingTagCount >= 2) {
+                similar.offer(d, score);
             }
         }
-
-        results.sort((a, b) -> Double.compare(
-                (Double) b.get("match_percentage"), 
-                (Double) a.get("match_percentage")
-        ));
-        
-        return results;
     }
 
     /**
-     * Cosine Similarity 기반 매칭 점수 계산
+     * 학과 하나의 1단계 점수와 후보 등록 (selectCandidates 와 같은 값, 학과별 계산)
      */
-    private MatchResult calculateMatchScore(
-            List<Double> userScores, 
-            List<Integer> deptScores, 
-            String category,
-            Set<String> userTags, 
-            List<String> deptTags
-    ) {
-        // 1. 사용자 점수를 10점 만점으로 환산
-        double[] userVector = new double[10];
-        double[] deptVector = new double[10];
-        
-        for (int i = 0; i < 10; i++) {
-            userVector[i] = userScores.get(i) * 2; // 5점 → 10점 만점
-            deptVector[i] = deptScores.get(i);
+    final void offer(UserProfile user, DepartmentSnapshot catalog, int d,
+                     TopKSelector top, TopKSelector worst, TopKSelector similar) {
+        int criticalMask = catalog.criticalMasks()[d] & user.weakMask;
+        int matchingTagCount = catalog.matchingTagCount(d, user.tagMask);
+        double score = roundScore(calculateScore(calculateCosineSimilarity(user, catalog, d),
+                calculateWeightedCosineSimilarity(user, catalog, d), criticalMask != 0, matchingTagCount));
+
+        if (top != null) {
+            top.offer(d, score);
         }
+        if (worst != null) {
+            worst.offer(d, score);
+        }
+        if (similar != null && criticalMask == 0 && matchingTagCount >= 2) {
+            similar.offer(d, score);
+        }
+    }
 
-        // 2. 과락 체크
-        boolean hasCriticalFail = false;
-        String criticalFailReason = null;
-        List<String> weakPoints = new ArrayList<>();
-        
-        for (int i = 0; i < 10; i++) {
-            if (deptVector[i] >= CRITICAL_DEPT_THRESHOLD && userVector[i] < CRITICAL_USER_THRESHOLD) {
-                hasCriticalFail = true;
-                AptitudeType aptitude = AptitudeType.fromIndex(i);
-                criticalFailReason = String.format(
-                        "%s 역량이 부족합니다 (요구: %.0f점, 보유: %.1f점)",
-                        aptitude.getDisplayName(), deptVector[i], userVector[i]
-                );
-                weakPoints.add(aptitude.getDisplayName());
+    private List<DepartmentMatch> explain(int[] indices, int limit, int[] excluded, UserProfile user, Set<String> userTags,
+                                          DepartmentSnapshot catalog, Map<Integer, DepartmentMatch> explained) {
+        List<DepartmentMatch> results = new ArrayList<>(limit);
+        for (int d : indices) {
+            if (results.size() >= limit) {
+                break;
+            }
+            if (excluded != null && contains(excluded, d)) {
+                continue;
             }
+            results.add(explained.computeIfAbsent(d, index -> toDepartmentMatch(user, userTags, catalog, index)));
         }
+        return results;
+    }
+
+    private static boolean contains(int[] values, int target) {
+        for (int value : values) {
+            if (value == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DepartmentMatch toDepartmentMatch(UserProfile user, Set<String> userTags, DepartmentSnapshot catalog, int d) {
+        MatchResult matchResult = calculateMatchScore(user, catalog, d);
+
+        List<String> commonTags = null;
+        if (matchResult.matchingTagCount > 0) {
+            commonTags = catalog.commonTags(d, userTags, MAX_COMMON_TAGS); // 공통 태그도 최대 5개만
+        }
+
+        return new DepartmentMatch(
+                catalog.department(d),
+                roundScore(matchResult.score),
+                matchResult.reason.describe(catalog.categoryName(catalog.categoryIds()[d])),
+                matchResult.hasCriticalFail ? matchResult.criticalFailReason : null,
+                commonTags,
+                matchResult.reason
+        );
+    }
+
+    static double roundScore(double score) {
+        return Math.round(score * 10) / 10.0;
+    }
+
+    /**
+     * 두 유사도로 최종 점수 계산 (객체 생성 없음)
+     * 유사도와 태그 수에 대해 증가, 과락에 대해 감소하므로 색인에서 범위의 상한/하한 계산에도 사용합니다.
+     */
+    static double calculateScore(double cosineSimilarity, double weightedSimilarity,
+                                  boolean hasCriticalFail, long matchingTagCount) {
+        // 두 유사도의 조합 (기본 70% + 가중치 30%) → 적성 점수 (70점 만점)
+        double aptitudeScore = ((cosineSimilarity * 0.7) + (weightedSimilarity * 0.3)) * APTITUDE_MAX_SCORE;
 
-        // 3. Cosine Similarity 계산
-        double cosineSimilarity = calculateCosineSimilarity(userVector, deptVector);
-        
-        // 4. 가중치 적용된 Cosine Similarity (계열별 중요 역량 반영)
-        double weightedSimilarity = calculateWeightedCosineSimilarity(userVector, deptVector, category);
-        
-        // 5. 두 유사도의 조합 (기본 70% + 가중치 30%)
-        double combinedSimilarity = (cosineSimilarity * 0.7) + (weightedSimilarity * 0.3);
-        
-        // 6. 적성 점수 (70점 만점)
-        double aptitudeScore = combinedSimilarity * APTITUDE_MAX_SCORE;
-        
         // 과락 시 감점
         if (hasCriticalFail) {
             aptitudeScore *= 0.6;
         }
 
-        // 7. 흥미 점수 (30점 만점)
-        long matchingTagCount = userTags.stream().filter(deptTags::contains).count();
+        // 흥미 점수 (30점 만점)
         double interestScore = Math.min(INTEREST_MAX_SCORE, matchingTagCount * TAG_BONUS_PER_MATCH);
 
-        // 8. 최종 점수
-        double finalScore = aptitudeScore + interestScore;
-
-        // 9. 강점 분석
-        List<String> strongPoints = findStrongPoints(userVector, deptVector);
+        return aptitudeScore + interestScore;
+    }
 
-        // 10. 추천 사유 생성
-        String reason = generateReason(matchingTagCount, category, strongPoints, hasCriticalFail, cosineSimilarity);
+    /**
+     * Cosine Similarity 기반 매칭 점수와 추천 사유 계산 (2단계용)
+     */
+    private MatchResult calculateMatchScore(UserProfile user, DepartmentSnapshot catalog, int d) {
+        double[] userVector = user.vector;
+        double[] deptVectors = catalog.vectors();
+        int base = d * DIMENSION;
+
+        // 1. 과락 체크 (학과 요구 마스크 & 사용자 미달 마스크)
+        int criticalMask = catalog.criticalMasks()[d] & user.weakMask;
+        boolean hasCriticalFail = criticalMask != 0;
+        // 기존과 동일하게 가장 마지막 인덱스의 과락 역량을 사유로 사용
+        int criticalIndex = hasCriticalFail ? 31 - Integer.numberOfLeadingZeros(criticalMask) : -1;
+
+        // 2. 최종 점수 (적성 70점 + 흥미 30점)
+        long matchingTagCount = catalog.matchingTagCount(d, user.tagMask);
+        double cosineSimilarity = calculateCosineSimilarity(user, catalog, d);
+        double finalScore = calculateScore(cosineSimilarity, calculateWeightedCosineSimilarity(user, catalog, d),
+                hasCriticalFail, matchingTagCount);
+
+        // 3. 강점 분석
+        int strongMask = findStrongPoints(userVector, deptVectors, base);
+
+        // 4. 추천 사유 생성
+        MatchReason reason = generateReason(matchingTagCount, strongMask, criticalIndex, cosineSimilarity);
+        String criticalFailReason = hasCriticalFail
+                ? reason.describeMismatch(deptVectors[base + criticalIndex], userVector[criticalIndex])
+                : null;
 
         return new MatchResult(finalScore, reason, hasCriticalFail, criticalFailReason, matchingTagCount);
     }
@@ -168,108 +256,142 @@ public class WeightedDistanceStrategy implements RecommendationStrategy {
      * Cosine Similarity 계산
      * 결과: 0.0 ~ 1.0 (1에 가까울수록 유사)
      */
-    private double calculateCosineSimilarity(double[] vectorA, double[] vectorB) {
-        double dotProduct = 0.0;
-        double magnitudeA = 0.0;
-        double magnitudeB = 0.0;
-
-        for (int i = 0; i < vectorA.length; i++) {
-            dotProduct += vectorA[i] * vectorB[i];
-            magnitudeA += vectorA[i] * vectorA[i];
-            magnitudeB += vectorB[i] * vectorB[i];
-        }
+    private double calculateCosineSimilarity(UserProfile user, DepartmentSnapshot catalog, int d) {
+        return cosine(dot(user.vector, catalog.vectors(), d * DIMENSION), user.norm, catalog.norms()[d]);
+    }
 
-        magnitudeA = Math.sqrt(magnitudeA);
-        magnitudeB = Math.sqrt(magnitudeB);
+    /**
+     * 계열별 중요 역량에 가중치를 적용한 Cosine Similarity
+     */
+    private double calculateWeightedCosineSimilarity(UserProfile user, DepartmentSnapshot catalog, int d) {
+        int category = catalog.categoryIds()[d];
+        return cosine(dot(user.weightedVectors[category], catalog.weightedVectors(), d * DIMENSION),
+                user.weightedNorms[category], catalog.weightedNorms()[d]);
+    }
 
-        if (magnitudeA == 0 || magnitudeB == 0) {
-            return 0.0;
+    private static double dot(double[] userVector, double[] deptVectors, int base) {
+        double dotProduct = 0.0;
+        for (int i = 0; i < DIMENSION; i++) {
+            dotProduct += userVector[i] * deptVectors[base + i];
         }
+        return dotProduct;
+    }
 
-        return dotProduct / (magnitudeA * magnitudeB);
+    private static double magnitude(double[] vector) {
+        double sum = 0.0;
+        for (double v : vector) {
+            sum += v * v;
+        }
+        return Math.sqrt(sum);
     }
 
     /**
-     * 계열별 중요 역량에 가중치를 적용한 Cosine Similarity
+     * 미리 계산된 크기로 내적을 정규화
      */
-    private double calculateWeightedCosineSimilarity(double[] userVector, double[] deptVector, String category) {
-        List<AptitudeType> importantTypes = CATEGORY_WEIGHTS.getOrDefault(category, Collections.emptyList());
-        Set<Integer> importantIndices = importantTypes.stream()
-                .map(AptitudeType::getIndex)
-                .collect(Collectors.toSet());
-
-        double[] weightedUser = new double[10];
-        double[] weightedDept = new double[10];
-
-        for (int i = 0; i < 10; i++) {
-            double weight = importantIndices.contains(i) ? 1.5 : 1.0;
-            weightedUser[i] = userVector[i] * weight;
-            weightedDept[i] = deptVector[i] * weight;
+    static double cosine(double dotProduct, double magnitudeA, double magnitudeB) {
+        if (magnitudeA == 0 || magnitudeB == 0) {
+            return 0.0;
         }
 
-        return calculateCosineSimilarity(weightedUser, weightedDept);
+        return dotProduct / (magnitudeA * magnitudeB);
     }
 
     /**
-     * 사용자가 학과 요구치 이상인 강점 역량 찾기
+     * 사용자가 학과 요구치 이상인 강점 역량 찾기 (적성 인덱스 비트마스크)
      */
-    private List<String> findStrongPoints(double[] userVector, double[] deptVector) {
-        List<String> strongPoints = new ArrayList<>();
+    private int findStrongPoints(double[] userVector, double[] deptVectors, int base) {
+        int strongMask = 0;
         
-        for (int i = 0; i < 10; i++) {
+        for (int i = 0; i < DIMENSION; i++) {
             // 학과가 7점 이상 요구하고, 사용자가 그 이상인 경우
-            if (deptVector[i] >= 7 && userVector[i] >= deptVector[i]) {
-                strongPoints.add(AptitudeType.fromIndex(i).getDisplayName());
+            if (deptVectors[base + i] >= 7 && userVector[i] >= deptVectors[base + i]) {
+                strongMask |= 1 << i;
             }
         }
         
-        return strongPoints;
+        return strongMask;
     }
 
     /**
-     * 추천 사유 생성
+     * 추천 사유 코드 결정 (문장은 MatchReason 에서 생성)
      */
-    private String generateReason(long tagMatchCount, String category, List<String> strongPoints, 
-                                   boolean hasCriticalFail, double similarity) {
+    private MatchReason generateReason(long tagMatchCount, int strongMask, int criticalIndex, double similarity) {
         
-        if (hasCriticalFail) {
-            return category + " 계열이지만, 일부 핵심 역량 보완이 필요합니다.";
+        if (criticalIndex >= 0) {
+            return new MatchReason(MatchReason.Code.CRITICAL_FAIL, criticalIndex, -1);
         }
 
         // 높은 유사도 + 태그 매칭
         if (similarity >= 0.95 && tagMatchCount >= 2) {
-            return "관심 분야와 적성이 모두 뛰어나게 일치합니다!";
+            return MatchReason.of(MatchReason.Code.PERFECT_MATCH);
         }
 
-        // 강점이 있고 태그도 맞음
-        if (strongPoints.size() >= 2 && tagMatchCount >= 2) {
-            String strengths = String.join(", ", strongPoints.subList(0, Math.min(2, strongPoints.size())));
-            return "관심 분야가 잘 맞고, " + strengths + " 역량이 뛰어납니다.";
-        }
+        // 강점 상위 2개 (인덱스 순)
+        if (Integer.bitCount(strongMask) >= 2) {
+            int first = Integer.numberOfTrailingZeros(strongMask);
+            int second = Integer.numberOfTrailingZeros(strongMask & ~(1 << first));
 
-        // 강점만 있음
-        if (strongPoints.size() >= 2) {
-            String strengths = String.join(", ", strongPoints.subList(0, Math.min(2, strongPoints.size())));
-            return strengths + " 등 핵심 역량을 갖추고 있습니다.";
+            // 강점이 있고 태그도 맞음
+            if (tagMatchCount >= 2) {
+                return new MatchReason(MatchReason.Code.INTEREST_AND_STRENGTHS, first, second);
+            }
+
+            // 강점만 있음
+            return new MatchReason(MatchReason.Code.STRENGTHS, first, second);
         }
 
         // 태그만 맞음
         if (tagMatchCount >= 2) {
-            return "관심 분야가 잘 맞고, " + category + " 적성이 우수합니다.";
+            return MatchReason.of(MatchReason.Code.INTEREST_AND_CATEGORY);
         }
 
         if (tagMatchCount == 1) {
-            return "관심사가 일부 일치하며 적성이 부합합니다.";
+            return MatchReason.of(MatchReason.Code.PARTIAL_INTEREST);
         }
 
         // 유사도 기반 기본 메시지
         if (similarity >= 0.9) {
-            return category + " 계열로서 적성이 매우 잘 맞습니다.";
+            return MatchReason.of(MatchReason.Code.CATEGORY_EXCELLENT);
         } else if (similarity >= 0.8) {
-            return category + " 계열로서 전반적인 적성 유형이 잘 맞습니다.";
+            return MatchReason.of(MatchReason.Code.CATEGORY_GOOD);
         }
         
-        return category + " 계열과 적성이 어느 정도 부합합니다.";
+        return MatchReason.of(MatchReason.Code.CATEGORY_FAIR);
+    }
+
+    /**
+     * 요청마다 한 번만 계산하는 사용자 벡터 (10점 만점 환산, 계열별 가중치 적용본, 태그 비트셋)
+     */
+    static final class UserProfile {
+        final double[] vector = new double[DIMENSION];
+        final double norm;
+        final double[][] weightedVectors;
+        final double[] weightedNorms;
+        final int weakMask;
+        final long[] tagMask;
+
+        UserProfile(double[] userScores, Set<String> userTags, DepartmentSnapshot catalog) {
+            int mask = 0;
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] = userScores[i] * 2; // 5점 → 10점 만점
+                if (vector[i] < CRITICAL_USER_THRESHOLD) {
+                    mask |= 1 << i;
+                }
+            }
+            this.norm = magnitude(vector);
+            this.weakMask = mask;
+
+            this.weightedVectors = new double[catalog.categoryCount()][DIMENSION];
+            this.weightedNorms = new double[catalog.categoryCount()];
+            for (int c = 0; c < catalog.categoryCount(); c++) {
+                double[] weights = catalog.categoryWeights(c);
+                for (int i = 0; i < DIMENSION; i++) {
+                    weightedVectors[c][i] = vector[i] * weights[i];
+                }
+                weightedNorms[c] = magnitude(weightedVectors[c]);
+            }
+            this.tagMask = catalog.tagMask(userTags);
+        }
     }
 
     /**
@@ -277,12 +399,12 @@ public class WeightedDistanceStrategy implements RecommendationStrategy {
      */
     private static class MatchResult {
         final double score;
-        final String reason;
+        final MatchReason reason;
         final boolean hasCriticalFail;
         final String criticalFailReason;
         final long matchingTagCount;
 
-        MatchResult(double score, String reason, boolean hasCriticalFail, String criticalFailReason, long matchingTagCount) {
+        MatchResult(double score, MatchReason reason, boolean hasCriticalFail, String criticalFailReason, long matchingTagCount) {
             this.score = score;
             this.reason = reason;
             this.hasCriticalFail = hasCriticalFail;
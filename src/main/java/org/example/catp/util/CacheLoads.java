@@ -0,0 +1,57 @@
+package org.example.catp.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
+
+/**
+ * Caffeine 비동기 캐시에 같은 키의 값을 한 번만 적재 (적재는 호출 스레드에서 수행)
+ *
+ * Cache.get(key, loader) 는 적재 함수를 ConcurrentHashMap.compute 안(버킷 모니터 잠금)에서 실행하므로,
+ * DB 조회처럼 블로킹하는 적재 동안 가상 스레드가 캐리어 스레드에 고정(pinning)되고 같은 버킷의 다른 키 요청도 모니터에서 기다립니다.
+ * 여기서는 빈 future 를 먼저 넣은 뒤 잠금 밖에서 적재해 완료시키고, 같은 키의 동시 요청은 그 future 를 기다립니다.
+ * (future 대기는 가상 스레드를 캐리어에서 내려놓음)
+ *
+ * 적재 결과가 null 이면 Caffeine 이 항목을 제거하고, 예외가 나면 항목을 지운 뒤 그 예외를 적재한 요청에만 던집니다.
+ */
+public final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        while (true) {
+            CompletableFuture<V> existing = cache.getIfPresent(key);
+            if (existing == null) {
+                CompletableFuture<V> loading = new CompletableFuture<>();
+                existing = cache.asMap().putIfAbsent(key, loading);
+                if (existing == null) {
+                    return load(cache, key, loading, loader);
+                }
+            }
+
+            try {
+                return existing.join();
+            } catch (CancellationException e) {
+                // 먼저 적재하던 요청이 실패함, 이 요청이 다시 적재
+            }
+        }
+    }
+
+    private static <K, V> V load(AsyncCache<K, V> cache, K key, CompletableFuture<V> loading,
+                                 Function<? super K, ? extends V> loader) {
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            // 실패는 공유하지 않음 (Cache.get 과 같이 기다리던 요청은 각자 다시 적재, 취소는 Caffeine 이 경고로 남기지 않음)
+            cache.asMap().remove(key, loading);
+            loading.cancel(false);
+            throw e;
+        }
+        loading.complete(value);
+        return value;
+    }
+}
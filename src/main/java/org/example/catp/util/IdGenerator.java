@@ -1,20 +1,84 @@
 package org.example.catp.util;
 
-import java.security.SecureRandom;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결과 ID 생성기
+ * [41비트 밀리초 시각 | 10비트 노드 번호 | 12비트 순번] 을 13자리 base36 문자열로 만듭니다.
+ * 구성상 중복이 없으므로 DB 존재 여부를 확인할 필요가 없고, 문자열 순서가 생성 순서와 같습니다.
+ *
+ * 시각과 순번은 AtomicLong 하나에 담아 CAS 로 갱신하므로 잠금이 없습니다.
+ * 같은 밀리초에 순번이 다 차거나 시계가 뒤로 가면 직전 시각을 이어서 사용합니다.
+ *
+ * 재시작이나 다른 인스턴스와의 중복은 NodeIdAllocator 가 점유별로 DB에 남기는 발급 시각 상한으로 막습니다.
+ * 이전 점유자의 상한(floor) 이후 시각으로만 발급하고, 예약한 상한을 넘는 시각은 DB에 먼저 연장한 뒤 발급합니다.
+ */
+@Component
+@RequiredArgsConstructor
 public class IdGenerator {
 
-    private static final String CHARACTERS = "abcdefghijklmnopqrstuvwxyz0123456789";
-    private static final int ID_LENGTH = 8;
-    private static final SecureRandom RANDOM = new SecureRandom();
+    /** 기준 시각 (2024-01-01T00:00:00Z), 41비트로 약 69년 */
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NodeIdAllocator.NODE_BITS + SEQUENCE_BITS;
+
+    /** 63비트 양수의 base36 최대 길이 (고정 길이로 맞춰 문자열 정렬 = 생성 순서) */
+    private static final int ID_LENGTH = 13;
+
+    private final NodeIdAllocator nodeIdAllocator;
+
+    /** [시각 | 순번] (노드 번호 제외) */
+    private final AtomicLong lastState = new AtomicLong();
+
+    // 13자리 ID 생성 (예: "0a3k9x2m7q1bz")
+    public String generate() {
+        while (true) {
+            NodeIdAllocator.Lease lease = nodeIdAllocator.lease();
+            long state = nextState(lease.floorMillis() - EPOCH_MILLIS);
+            long timestamp = state >>> SEQUENCE_BITS;
+            if (!nodeIdAllocator.reserve(lease, timestamp + EPOCH_MILLIS)) {
+                continue; // 점유를 잃어 번호가 바뀜: 새 번호로 다시 발급
+            }
+            long sequence = state & SEQUENCE_MASK;
+            long id = (timestamp << TIMESTAMP_SHIFT)
+                    | ((long) lease.nodeId() << SEQUENCE_BITS)
+                    | sequence;
+
+            String encoded = Long.toString(id, 36);
+            return "0".repeat(ID_LENGTH - encoded.length()) + encoded;
+        }
+    }
+
+    /**
+     * 종료 시 마지막 발급 시각을 남기고 노드 번호 점유 해제
+     */
+    @PreDestroy
+    public void release() {
+        nodeIdAllocator.release((lastState.get() >>> SEQUENCE_BITS) + EPOCH_MILLIS);
+    }
+
+    /**
+     * @param floor 이 시각(기준 시각 이후 밀리초) 이하는 이전 점유자가 발급했을 수 있으므로 건너뜀
+     */
+    private long nextState(long floor) {
+        while (true) {
+            long previous = lastState.get();
+            long now = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, floor + 1);
+            long previousTimestamp = previous >>> SEQUENCE_BITS;
 
-    // 8자리 랜덤 ID 생성 (예: "k3m9x2a7")
-    public static String generate() {
-        StringBuilder sb = new StringBuilder(ID_LENGTH);
-        for (int i = 0; i < ID_LENGTH; i++) {
-            int randomIndex = RANDOM.nextInt(CHARACTERS.length());
-            sb.append(CHARACTERS.charAt(randomIndex));
+            long next = (now > previousTimestamp)
+                    ? now << SEQUENCE_BITS // 새 밀리초: 순번 0부터
+                    : previous + 1;        // 같은 밀리초(또는 시계 역행): 순번 증가, 넘치면 다음 밀리초로 이어짐
+            if (lastState.compareAndSet(previous, next)) {
+                return next;
+            }
         }
-        return sb.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package org.example.catp.util;
+
+import java.util.*;
+
+/**
+ * 여러 키워드를 텍스트 한 번 순회로 모두 찾는 Aho–Corasick 오토마톤
+ * 키워드마다 String.contains 를 반복하는 대신, 키워드 트라이와 실패 링크를 미리 펼친 전이표로
+ * 텍스트를 문자당 한 번의 표 조회로 훑어 포함된 키워드를 한 번에 찾습니다.
+ * 생성 후에는 불변이므로 여러 스레드에서 동기화 없이 공유할 수 있습니다.
+ *
+ * 키워드 번호는 생성 시 목록 순서이며, 같은 키워드가 여러 번 있으면 각각 다른 번호로 모두 찾습니다.
+ */
+public final class KeywordAutomaton {
+
+    private final int keywordCount;
+
+    /** 문자 → 문자 부류 (키워드에 나오는 문자마다 1부터, 키워드에 없는 문자는 0) */
+    private final char[] charClasses;
+    private final int classCount;
+
+    /**
+     * 실패 링크까지 미리 펼친 전이표: 상태 s에서 부류 c의 문자를 읽으면 transitions[s * classCount + c]
+     * 매칭 중에는 실패 링크를 따라가지 않고 문자마다 표를 한 번만 조회합니다.
+     */
+    private final int[] transitions;
+
+    /** 상태 s에서 끝나는 키워드 번호 (실패 링크를 따라 끝나는 키워드 포함): outputs[outputStart[s] .. outputStart[s + 1]) */
+    private final int[] outputStart;
+    private final int[] outputs;
+
+    /**
+     * @throws IllegalArgumentException 빈 키워드가 있는 경우
+     */
+    public KeywordAutomaton(List<String> keywords) {
+        this.keywordCount = keywords.size();
+
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            if (keyword == null || keyword.isEmpty()) {
+                throw new IllegalArgumentException("빈 키워드는 사용할 수 없습니다. (" + k + "번)");
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = children.get(state).get(keyword.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(keyword.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            ends.get(state).add(k);
+        }
+
+        // 2. 문자 부류 (키워드에 나오는 문자만 구분)
+        this.charClasses = new char[Character.MAX_VALUE + 1];
+        int classes = 1;
+        for (String keyword : keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                if (charClasses[keyword.charAt(i)] == 0) {
+                    charClasses[keyword.charAt(i)] = (char) classes++;
+                }
+            }
+        }
+        this.classCount = classes;
+
+        // 3. 실패 링크, 출력, 전이표 (너비 우선이라 실패 링크 대상의 행은 항상 먼저 채워짐)
+        int states = children.size();
+        int[] fail = new int[states];
+        this.transitions = new int[states * classCount];
+        List<List<Integer>> matched = new ArrayList<>(ends);
+        for (Map.Entry<Character, Integer> edge : children.get(0).entrySet()) {
+            transitions[charClasses[edge.getKey()]] = edge.getValue();
+        }
+        ArrayDeque<Integer> queue = new ArrayDeque<>(children.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            System.arraycopy(transitions, fail[state] * classCount, transitions, state * classCount, classCount);
+            for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                int child = edge.getValue();
+                int charClass = charClasses[edge.getKey()];
+                fail[child] = transitions[fail[state] * classCount + charClass];
+                transitions[state * classCount + charClass] = child;
+
+                if (!matched.get(fail[child]).isEmpty()) {
+                    List<Integer> merged = new ArrayList<>(ends.get(child));
+                    merged.addAll(matched.get(fail[child]));
+                    matched.set(child, merged);
+                }
+                queue.add(child);
+            }
+        }
+
+        // 4. 출력 평탄화
+        this.outputStart = new int[states + 1];
+        this.outputs = new int[matched.stream().mapToInt(List::size).sum()];
+        int o = 0;
+        for (int s = 0; s < states; s++) {
+            outputStart[s] = o;
+            for (int k : matched.get(s)) {
+                outputs[o++] = k;
+            }
+        }
+        outputStart[states] = o;
+    }
+
+    public int keywordCount() {
+        return keywordCount;
+    }
+
+    /**
+     * 텍스트에 포함된 키워드 번호 집합 (String.contains(keyword) 가 true 인 키워드)
+     */
+    public BitSet find(CharSequence text) {
+        BitSet found = new BitSet(keywordCount);
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state * classCount + charClasses[text.charAt(i)]];
+            for (int o = outputStart[state]; o < outputStart[state + 1]; o++) {
+                found.set(outputs[o]);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 텍스트에 포함된 키워드 중 가장 작은 번호 (없으면 -1)
+     */
+    public int findFirst(CharSequence text) {
+        BitSet found = find(text);
+        return found.nextSetBit(0);
+    }
+}
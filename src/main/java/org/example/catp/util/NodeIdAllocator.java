@@ -0,0 +1,279 @@
+package org.example.catp.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 결과 ID 생성용 노드 번호 할당
+ * 같은 DB를 쓰는 인스턴스끼리 id_node_leases 테이블의 행을 점유(lease)하여 서로 다른 번호를 나눠 가집니다.
+ * catp.id.node-id 가 지정되면 그 번호의 행을 (만료 전이라도) 점유하고, 아니면 비어 있거나 만료된 번호를 점유합니다.
+ * 점유는 주기적으로 갱신하며, 갱신이 끊긴 행은 만료 후 다른 인스턴스가 가져갈 수 있습니다.
+ * 만료 판단은 인스턴스마다 다를 수 있는 각자의 시계가 아니라 DB 시각(CURRENT_TIMESTAMP)으로 합니다.
+ *
+ * 행마다 그 번호로 ID를 발급해도 되는 시각 상한(reserved_until)을 미리 기록해 두고, 그 안에서만 발급합니다.
+ * 번호를 새로 점유한 인스턴스는 이전 점유자의 상한을 넘겨받아 그 이후 시각으로만 발급하므로,
+ * 재시작 사이에 시계가 뒤로 가거나 인스턴스 간 시계가 어긋나도 같은 ID가 다시 나오지 않습니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // id_node_leases 테이블 생성 이후에 점유
+public class NodeIdAllocator {
+
+    /** 노드 번호 비트 수 (0 ~ 1023) */
+    public static final int NODE_BITS = 10;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    /** 종료 시 해제한 행의 갱신 시각 (바로 만료된 것으로 보아 다른 인스턴스가 가져갈 수 있음) */
+    private static final String RELEASED_AT = "TIMESTAMP '2000-01-01 00:00:00'";
+
+    /**
+     * 점유한 노드 번호
+     * floorMillis 이하 시각은 이전 점유자가 이미 발급했을 수 있으므로 그 이후 시각으로만 발급합니다.
+     * reservedUntil 은 DB에 기록된 발급 상한이며, 기록이 성공한 뒤에만 늘어납니다.
+     */
+    public static final class Lease {
+        private final int nodeId;
+        private final long floorMillis;
+        private volatile long reservedUntil;
+
+        Lease(int nodeId, long floorMillis, long reservedUntil) {
+            this.nodeId = nodeId;
+            this.floorMillis = floorMillis;
+            this.reservedUntil = reservedUntil;
+        }
+
+        public int nodeId() {
+            return nodeId;
+        }
+
+        public long floorMillis() {
+            return floorMillis;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int configuredNodeId;
+    private final long leaseTtlMillis;
+    /** 한 번에 미리 예약하는 발급 시각 범위 (갱신 주기의 두 배, 갱신이 한 번 늦어도 요청 경로에서 DB를 거치지 않도록) */
+    private final long reservationMillis;
+    private final String owner;
+    /** 점유 변경(재점유, 예약 연장, 해제) 직렬화 */
+    private final ReentrantLock leaseLock = new ReentrantLock();
+
+    private volatile Lease lease;
+    private volatile boolean released;
+
+    public NodeIdAllocator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${catp.id.node-id:-1}") int configuredNodeId,
+            @Value("${catp.id.lease-ttl:5m}") Duration leaseTtl,
+            @Value("${catp.id.lease-heartbeat-ms:60000}") long heartbeatMillis) {
+        if (configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("catp.id.node-id 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + configuredNodeId);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.configuredNodeId = configuredNodeId;
+        this.leaseTtlMillis = leaseTtl.toMillis();
+        this.reservationMillis = heartbeatMillis * 2;
+        this.owner = hostName() + "/" + UUID.randomUUID();
+    }
+
+    @PostConstruct
+    public void init() {
+        lease = claim();
+        log.info("결과 ID 노드 번호: {} ({}, 점유: {})", lease.nodeId(),
+                configuredNodeId >= 0 ? "설정값" : "자동 할당", owner);
+    }
+
+    public Lease lease() {
+        return lease;
+    }
+
+    public int nodeId() {
+        return lease.nodeId();
+    }
+
+    /**
+     * 주어진 점유로 timestampMillis 시각의 ID를 발급해도 되는지 확인하고, 예약 범위를 넘으면 DB에 먼저 연장합니다.
+     * 예약 범위 안이면 DB를 거치지 않습니다.
+     *
+     * @return false 면 점유를 잃어 다른 번호로 바뀌었으므로 새 점유로 다시 발급해야 함
+     * @throws IllegalStateException 종료 중이라 더 발급할 수 없는 경우
+     */
+    public boolean reserve(Lease issuing, long timestampMillis) {
+        if (timestampMillis <= issuing.reservedUntil) {
+            // DB에 기록된 상한 이하: 이후 점유를 잃었더라도 새 점유자는 이 시각 이후로만 발급함
+            return true;
+        }
+        leaseLock.lock();
+        try {
+            if (released) {
+                throw new IllegalStateException("결과 ID 노드 번호를 해제하여 더 발급할 수 없습니다.");
+            }
+            if (issuing != lease) {
+                return false;
+            }
+            if (timestampMillis <= issuing.reservedUntil) {
+                return true;
+            }
+            if (extend(issuing, timestampMillis + reservationMillis)) {
+                return true;
+            }
+            reclaim(issuing);
+            return false;
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    /**
+     * 점유 갱신과 발급 상한 연장 (점유를 잃었으면 다시 점유)
+     */
+    @Scheduled(fixedDelayString = "${catp.id.lease-heartbeat-ms:60000}")
+    public void heartbeat() {
+        leaseLock.lock();
+        try {
+            if (released) {
+                return;
+            }
+            Lease current = lease;
+            long until = Math.max(current.reservedUntil, System.currentTimeMillis() + reservationMillis);
+            if (!extend(current, until)) {
+                reclaim(current);
+            }
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    /**
+     * 점유 해제 (IdGenerator 종료 시 호출)
+     * 행은 지우지 않고 바로 만료된 것으로 표시하며, 발급 상한은 실제로 발급한 마지막 시각으로 줄여
+     * 다음 점유자가 필요 이상으로 앞선 시각부터 발급하지 않게 합니다.
+     *
+     * @param issuedUpToMillis 이 점유로 발급했을 수 있는 마지막 시각
+     */
+    public void release(long issuedUpToMillis) {
+        leaseLock.lock();
+        try {
+            released = true;
+            Lease current = lease;
+            long until = Math.max(current.floorMillis(), Math.min(issuedUpToMillis, current.reservedUntil));
+            jdbcTemplate.update("UPDATE id_node_leases SET heartbeat_at = " + RELEASED_AT + ", reserved_until = ? "
+                    + "WHERE node_id = ? AND owner = ?", until, current.nodeId(), owner);
+        } catch (Exception e) {
+            log.warn("노드 번호 {} 점유 해제 실패 (만료 후 재사용됩니다): {}", lease.nodeId(), e.getMessage());
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    /**
+     * DB의 발급 상한을 until 까지 늘림
+     *
+     * @return false 면 다른 인스턴스가 번호를 가져감
+     */
+    private boolean extend(Lease current, long until) {
+        int updated = jdbcTemplate.update(
+                "UPDATE id_node_leases SET heartbeat_at = CURRENT_TIMESTAMP, reserved_until = ? "
+                        + "WHERE node_id = ? AND owner = ?",
+                until, current.nodeId(), owner);
+        if (updated == 1) {
+            current.reservedUntil = until;
+        }
+        return updated == 1;
+    }
+
+    private void reclaim(Lease lost) {
+        lease = claim();
+        log.error("노드 번호 {} 점유를 잃어 번호 {} 를 다시 점유했습니다.", lost.nodeId(), lease.nodeId());
+    }
+
+    /**
+     * 설정된 번호, 또는 비어 있거나 만료된 번호를 낮은 번호부터 점유
+     */
+    private Lease claim() {
+        if (configuredNodeId >= 0) {
+            // 설정값 번호: 다른 인스턴스와 동시에 가져가는 경우만 다시 시도
+            for (int attempt = 0; attempt < 10; attempt++) {
+                Lease claimed = tryClaim(configuredNodeId, true);
+                if (claimed != null) {
+                    return claimed;
+                }
+            }
+            throw new IllegalStateException("설정된 결과 ID 노드 번호 " + configuredNodeId + " 를 점유하지 못했습니다.");
+        }
+        for (int candidate = 0; candidate <= MAX_NODE_ID; candidate++) {
+            Lease claimed = tryClaim(candidate, false);
+            if (claimed != null) {
+                return claimed;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 결과 ID 노드 번호가 없습니다. (최대 " + (MAX_NODE_ID + 1) + "개)");
+    }
+
+    /**
+     * 번호 하나 점유 시도 (force 면 만료 전이라도 가져옴)
+     *
+     * @return 점유하지 못했으면 null
+     */
+    private Lease tryClaim(int candidate, boolean force) {
+        long now = System.currentTimeMillis();
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO id_node_leases (node_id, owner, heartbeat_at, reserved_until) "
+                            + "VALUES (?, ?, CURRENT_TIMESTAMP, ?)",
+                    candidate, owner, now + reservationMillis);
+            return new Lease(candidate, 0, now + reservationMillis);
+        } catch (DataIntegrityViolationException alreadyLeased) {
+            // 이미 있는 번호: 이전 점유자의 발급 상한을 넘겨받음
+            // (읽은 뒤 다른 인스턴스가 먼저 가져갔으면 상한이 바뀌어 UPDATE 가 0건)
+            List<Long> previous = jdbcTemplate.queryForList(
+                    "SELECT COALESCE(reserved_until, 0) FROM id_node_leases WHERE node_id = ?", Long.class, candidate);
+            if (previous.isEmpty()) {
+                return null;
+            }
+            long floor = previous.get(0);
+            long until = Math.max(floor, now) + reservationMillis;
+            int updated = force
+                    ? jdbcTemplate.update(
+                            "UPDATE id_node_leases SET owner = ?, heartbeat_at = CURRENT_TIMESTAMP, reserved_until = ? "
+                                    + "WHERE node_id = ? AND COALESCE(reserved_until, 0) = ?",
+                            owner, until, candidate, floor)
+                    : jdbcTemplate.update(
+                            "UPDATE id_node_leases SET owner = ?, heartbeat_at = CURRENT_TIMESTAMP, reserved_until = ? "
+                                    + "WHERE node_id = ? AND COALESCE(reserved_until, 0) = ? "
+                                    + "AND heartbeat_at < DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP)",
+                            owner, until, candidate, floor, -leaseTtlMillis);
+            if (updated == 0) {
+                return null;
+            }
+            if (floor - now > reservationMillis) {
+                // 예약 범위보다 더 앞섬: 이전 점유자의 시계가 빨랐거나 이 인스턴스의 시계가 뒤로 감
+                log.warn("노드 번호 {} 의 이전 발급 상한이 현재 시계보다 {}ms 앞서 있어 그 이후 시각으로 발급합니다.",
+                        candidate, floor - now);
+            }
+            return new Lease(candidate, floor, until);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.catp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.dto.BatchResultSummary;
+import org.example.catp.service.BatchResultService;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.cache.ResultResponseCache;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.metrics.PipelineMetrics;
+import org.example.catp.service.serializer.AnalysisResultWriter;
+import org.example.catp.service.session.TestSessionService;
+import org.example.catp.service.storage.TestResultCodec;
+import org.example.catp.service.storage.TestResultWriteBehind;
+import org.example.catp.util.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 일괄 제출 응답 형식 선택 (Accept 에 따라 JSON / NDJSON / 406)
+ */
+class ApiControllerBatchTest {
+
+    /** 이 건수를 넘으면 (둘 다 받을 수 있을 때) NDJSON */
+    private static final int STREAM_THRESHOLD = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BatchResultService batchResultService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        batchResultService = mock(BatchResultService.class);
+        when(batchResultService.shouldStream(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) > STREAM_THRESHOLD);
+        when(batchResultService.submit(any(), anyList())).thenAnswer(invocation -> {
+            List<BatchResultSummary> summaries = new ArrayList<>();
+            for (int i = 0; i < ((List<?>) invocation.getArgument(1)).size(); i++) {
+                summaries.add(new BatchResultSummary(i, "id" + i, "논리형 인재", null));
+            }
+            return summaries;
+        });
+
+        ApiController controller = new ApiController(mock(QuestionCatalog.class), mock(CareerService.class),
+                mock(AnalysisResultWriter.class), mock(TestResultCodec.class), mock(TestResultWriteBehind.class),
+                mock(IdGenerator.class), mock(ResultResponseCache.class), batchResultService,
+                mock(TestSessionService.class), objectMapper, mock(PipelineMetrics.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void largeBatchStreamsOnlyWhenNdjsonIsAcceptable() throws Exception {
+        assertThat(submit(STREAM_THRESHOLD + 1, null)).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(submit(STREAM_THRESHOLD + 1, "*/*")).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(submit(STREAM_THRESHOLD + 1, "application/json")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(submit(STREAM_THRESHOLD + 1, "application/json, */*;q=0.1")).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void smallBatchUsesJsonUnlessNdjsonIsPreferred() throws Exception {
+        assertThat(submit(3, null)).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(submit(3, "application/x-ndjson")).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(submit(3, "application/x-ndjson, */*")).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(submit(3, "application/json;q=0.5, application/x-ndjson")).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(submit(3, "application/x-ndjson;q=0.5, application/json")).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void neitherFormatAcceptableIsRejectedBeforeSaving() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/results/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT, "text/html, application/json;q=0")
+                        .content(body(3)))
+                .andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(406);
+        verify(batchResultService, never()).submit(any(), anyList());
+    }
+
+    /**
+     * 일괄 제출 후 응답 형식 (본문도 그 형식으로 읽히는지 확인)
+     */
+    private MediaType submit(int size, String accept) throws Exception {
+        var request = post("/api/results/batch").contentType(MediaType.APPLICATION_JSON).content(body(size));
+        if (accept != null) {
+            request.header(HttpHeaders.ACCEPT, accept);
+        }
+        MvcResult started = mockMvc.perform(request).andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started)).andReturn();
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+
+        MediaType type = MediaType.parseMediaType(result.getResponse().getContentType());
+        String content = result.getResponse().getContentAsString();
+        if (MediaType.APPLICATION_NDJSON.equals(type)) {
+            assertThat(content.lines()).hasSize(size);
+        } else {
+            assertThat(objectMapper.readTree(content).get("total").asInt()).isEqualTo(size);
+        }
+        return type;
+    }
+
+    private String body(int size) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("answers", Collections.nCopies(size, List.of(1, 2, 3))));
+    }
+}
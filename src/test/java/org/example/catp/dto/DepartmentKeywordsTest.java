@@ -0,0 +1,175 @@
+package org.example.catp.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 표 + 오토마톤이 기존 DepartmentImportDto 의 하드코딩 구현과 같은 계열, 같은 태그를 같은 순서로 내는지 확인
+ * 태그는 JSON 배열로 저장되므로 순서(HashSet 순회 순서)까지 같아야 저장 값이 바뀌지 않습니다.
+ */
+class DepartmentKeywordsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DepartmentKeywords keywords = DepartmentKeywords.standard();
+
+    @Test
+    void realDepartmentsMatchLegacy() throws Exception {
+        int departments = 0;
+        for (String resource : List.of("/jj_departments_with_scores.json", "/catalogs/sample.json")) {
+            for (DepartmentImportDto dto : readDepartments(resource)) {
+                assertThat(keywords.inferCategory(dto.getName())).as(dto.getName())
+                        .isEqualTo(Legacy.inferCategory(dto.getName()));
+                assertThat(keywords.extractTags(dto.getAptitudeDescription())).as(dto.getName())
+                        .isEqualTo(Legacy.extractTags(dto.getAptitudeDescription()));
+                departments++;
+            }
+        }
+        assertThat(departments).isGreaterThan(50);
+    }
+
+    @Test
+    void randomDescriptionsMatchLegacy() {
+        // 키워드 조각(대소문자 섞은 영문 포함)과 일반 단어를 섞어 태그 조합과 HashSet 크기가 다양하게 나오도록
+        List<String> pieces = new ArrayList<>(Legacy.TAG_KEYWORDS);
+        pieces.addAll(List.of("ai", "Ai", "학생", "관심", "좋아하는", "공", "컴퓨", "데이", "음", "법학", "교", " "));
+        List<String> names = new ArrayList<>(List.of("학과", "학부", "전공", "IT금융", "it금융", "교육", "과"));
+        names.addAll(Legacy.CATEGORY_KEYWORDS);
+
+        Random random = new Random(21);
+        Set<Integer> tagCounts = new HashSet<>();
+        for (int n = 0; n < 20_000; n++) {
+            List<String> descriptions = new ArrayList<>();
+            int lines = random.nextInt(4);
+            for (int l = 0; l < lines; l++) {
+                StringBuilder line = new StringBuilder();
+                int words = random.nextInt(12);
+                for (int w = 0; w < words; w++) {
+                    line.append(pieces.get(random.nextInt(pieces.size())));
+                }
+                descriptions.add(line.toString());
+            }
+            List<String> expected = Legacy.extractTags(descriptions);
+            assertThat(keywords.extractTags(descriptions)).as("설명 %s", descriptions).isEqualTo(expected);
+            tagCounts.add(expected.size());
+
+            String name = names.get(random.nextInt(names.size())) + names.get(random.nextInt(names.size()));
+            assertThat(keywords.inferCategory(name)).as(name).isEqualTo(Legacy.inferCategory(name));
+        }
+        // HashSet 이 여러 번 커지는 크기까지 나왔는지 (순회 순서가 크기에 따라 달라지므로)
+        assertThat(tagCounts).contains(0, 13, 25);
+    }
+
+    private List<DepartmentImportDto> readDepartments(String path) throws Exception {
+        try (InputStream in = DepartmentKeywordsTest.class.getResourceAsStream(path)) {
+            return objectMapper.readValue(in, new TypeReference<>() {});
+        }
+    }
+
+    /**
+     * 키워드 표 도입 전 DepartmentImportDto 의 구현 (그대로 옮김)
+     */
+    private static final class Legacy {
+
+        static final List<String> CATEGORY_KEYWORDS = List.of(
+                "공학", "컴퓨터", "전기", "기계", "건축", "토목", "화학", "소재", "신소재", "데이터", "인공지능", "소프트웨어",
+                "경영", "경제", "금융", "회계", "무역", "부동산", "물류", "IT금융", "창업",
+                "국어", "영어", "일본", "중국", "한국어", "문학", "역사", "한문",
+                "디자인", "예술", "미술", "체육", "음악", "공연", "영화", "게임", "웹툰", "산업디자인", "시각디자인", "생활체육", "축구", "태권도",
+                "간호", "물리치료", "작업치료", "방사선", "보건", "식품영양", "재활", "운동처방", "동물보건",
+                "교육과", "사범",
+                "법학", "행정", "경찰", "사회복지", "상담", "문헌정보",
+                "관광", "호텔", "외식", "조리", "패션", "한식",
+                "소방", "자동차",
+                "미네르바", "로컬벤처", "농식품", "반려동물", "자유전공", "펫산업");
+
+        static final List<String> TAG_KEYWORDS = List.copyOf(keywordMap().keySet());
+
+        static String inferCategory(String name) {
+            if (containsAny(name, "공학", "컴퓨터", "전기", "기계", "건축", "토목", "화학", "소재", "신소재", "데이터", "인공지능", "소프트웨어")) return "이공계";
+            if (containsAny(name, "경영", "경제", "금융", "회계", "무역", "부동산", "물류", "IT금융", "창업")) return "경상계";
+            if (containsAny(name, "국어", "영어", "일본", "중국", "한국어", "문학", "역사", "한문")) return "인문계";
+            if (containsAny(name, "디자인", "예술", "미술", "체육", "음악", "공연", "영화", "게임", "웹툰", "산업디자인", "시각디자인", "생활체육", "축구", "태권도")) return "예체능";
+            if (containsAny(name, "간호", "물리치료", "작업치료", "방사선", "보건", "식품영양", "재활", "운동처방", "동물보건")) return "보건의료";
+            if (containsAny(name, "교육과", "사범")) return "교육계";
+            if (containsAny(name, "법학", "행정", "경찰", "사회복지", "상담", "문헌정보")) return "사회과학";
+            if (containsAny(name, "관광", "호텔", "외식", "조리", "패션", "한식")) return "관광·서비스";
+            if (containsAny(name, "소방", "자동차")) return "안전·기술";
+            if (containsAny(name, "미네르바", "로컬벤처", "농식품", "반려동물", "자유전공", "펫산업")) return "융합·미래";
+            return "기타";
+        }
+
+        private static boolean containsAny(String text, String... keywords) {
+            for (String k : keywords) {
+                if (text.contains(k)) return true;
+            }
+            return false;
+        }
+
+        static List<String> extractTags(List<String> descriptions) {
+            Map<String, List<String>> keywordMap = keywordMap();
+
+            Set<String> tags = new HashSet<>();
+            String combinedText = String.join(" ", descriptions).toLowerCase();
+
+            keywordMap.forEach((key, values) -> {
+                if (combinedText.contains(key)) {
+                    tags.addAll(values);
+                }
+            });
+
+            return new ArrayList<>(tags);
+        }
+
+        private static Map<String, List<String>> keywordMap() {
+            Map<String, List<String>> keywordMap = new HashMap<>();
+
+            keywordMap.put("교사", List.of("교육", "교직"));
+            keywordMap.put("교수", List.of("교육", "학문"));
+            keywordMap.put("의사", List.of("의료", "건강"));
+            keywordMap.put("간호", List.of("의료", "간호", "돌봄"));
+            keywordMap.put("논리", List.of("논리", "분석", "수학"));
+            keywordMap.put("분석", List.of("분석", "데이터", "논리"));
+            keywordMap.put("소프트웨어", List.of("IT", "코딩", "컴퓨터"));
+            keywordMap.put("하드웨어", List.of("기계", "전자", "컴퓨터"));
+            keywordMap.put("프로그래밍", List.of("코딩", "IT", "개발"));
+            keywordMap.put("컴퓨터", List.of("IT", "컴퓨터", "기술"));
+            keywordMap.put("프로그램", List.of("IT", "코딩", "프로그래밍"));
+            keywordMap.put("코딩", List.of("IT", "코딩", "프로그래밍"));
+            keywordMap.put("AI", List.of("AI", "인공지능", "기술"));
+            keywordMap.put("인공지능", List.of("AI", "인공지능", "기술"));
+            keywordMap.put("데이터", List.of("데이터", "분석", "IT"));
+            keywordMap.put("디자인", List.of("디자인", "미술", "창작"));
+            keywordMap.put("예술", List.of("예술", "창작", "표현"));
+            keywordMap.put("경영", List.of("경영", "비즈니스", "관리"));
+            keywordMap.put("금융", List.of("금융", "경제", "투자"));
+            keywordMap.put("법", List.of("법", "법률", "정의"));
+            keywordMap.put("건축", List.of("건축", "설계", "공간"));
+            keywordMap.put("체육", List.of("체육", "운동", "스포츠"));
+            keywordMap.put("음악", List.of("음악", "예술", "공연"));
+            keywordMap.put("언어", List.of("언어", "외국어", "소통"));
+            keywordMap.put("영어", List.of("영어", "외국어", "언어"));
+            keywordMap.put("일본", List.of("일본", "일본어", "외국어"));
+            keywordMap.put("중국", List.of("중국", "중국어", "외국어"));
+            keywordMap.put("역사", List.of("역사", "인문", "문화"));
+            keywordMap.put("문화", List.of("문화", "인문", "예술"));
+            keywordMap.put("과학", List.of("과학", "연구", "실험"));
+            keywordMap.put("공학", List.of("공학", "기술", "엔지니어링"));
+            keywordMap.put("게임", List.of("게임", "콘텐츠", "개발"));
+            keywordMap.put("영화", List.of("영화", "미디어", "콘텐츠"));
+            keywordMap.put("방송", List.of("방송", "미디어", "콘텐츠"));
+            keywordMap.put("관광", List.of("관광", "여행", "서비스"));
+            keywordMap.put("호텔", List.of("호텔", "서비스", "관광"));
+            keywordMap.put("조리", List.of("조리", "요리", "식품"));
+            keywordMap.put("패션", List.of("패션", "디자인", "의류"));
+            keywordMap.put("웹툰", List.of("웹툰", "만화", "창작"));
+            keywordMap.put("심리", List.of("심리", "상담", "치료"));
+            return keywordMap;
+        }
+    }
+}
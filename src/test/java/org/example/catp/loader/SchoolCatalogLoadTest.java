@@ -0,0 +1,103 @@
+package org.example.catp.loader;
+
+import org.example.catp.entity.Department;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이전 버전 스키마(학과 이름 단독 UNIQUE)의 DB에서 시작해도, 같은 이름의 학과가 있는 두 학교(sample, other)와 기본 학교가 모두 적재되는지 확인
+ * 이름 단독 제약을 지운 뒤에도 기본 학교(school 이 NULL) 안에서는 학과 이름이 중복될 수 없는지 확인
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class SchoolCatalogLoadTest {
+
+    private static final String SHARED_NAME = "컴퓨터공학과";
+
+    @Autowired
+    private DepartmentCatalog departmentCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        Path directory = Files.createTempDirectory("catp-legacy");
+        String url = "jdbc:h2:file:" + directory.resolve("catp_db");
+        // 이전 버전이 만든 학과 테이블 (학교 컬럼 없음, 이름 단독 UNIQUE)
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE departments (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        aptitude_scores TEXT NOT NULL,
+                        category VARCHAR(255),
+                        description TEXT,
+                        name VARCHAR(255) NOT NULL,
+                        tags TEXT,
+                        url VARCHAR(255))""");
+            statement.execute("ALTER TABLE departments ADD CONSTRAINT UKJ6CWKS7XECS5JOV19RO8GE3QK UNIQUE (name)");
+        }
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("catp.write-behind.spool-file", () -> directory.resolve("pending.jsonl").toString());
+    }
+
+    @Test
+    void schoolsSharingDepartmentNamesAreAllLoaded() {
+        List<String> sample = names(departmentCatalog.current("sample").departments());
+        List<String> other = names(departmentCatalog.current("other").departments());
+        List<String> standard = names(departmentCatalog.current().departments());
+
+        assertThat(sample).contains(SHARED_NAME).hasSize(5);
+        assertThat(other).contains(SHARED_NAME).hasSize(2);
+        assertThat(standard).contains(SHARED_NAME);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM departments WHERE name = ?", Integer.class, SHARED_NAME))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void legacyNameConstraintIsReplacedBySchoolScopedConstraints() {
+        List<String> uniqueColumns = jdbcTemplate.queryForList("""
+                SELECT LISTAGG(kcu.COLUMN_NAME, ',') WITHIN GROUP (ORDER BY kcu.COLUMN_NAME)
+                FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+                JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu
+                  ON kcu.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME
+                WHERE tc.TABLE_NAME = 'DEPARTMENTS' AND tc.CONSTRAINT_TYPE = 'UNIQUE'
+                GROUP BY tc.CONSTRAINT_NAME""", String.class);
+
+        assertThat(uniqueColumns).containsExactlyInAnyOrder("NAME,SCHOOL", "NAME,SCHOOL_KEY");
+    }
+
+    @Test
+    void defaultSchoolDepartmentNamesStayUnique() {
+        String insert = "INSERT INTO departments (name, aptitude_scores, school) VALUES (?, '[1,1,1,1,1,1,1,1,1,1]', ?)";
+
+        assertThatThrownBy(() -> jdbcTemplate.update(insert, SHARED_NAME, null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update(insert, SHARED_NAME, "sample"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM departments WHERE name = ?", Integer.class, SHARED_NAME))
+                .isEqualTo(3);
+    }
+
+    private static List<String> names(List<Department> departments) {
+        return departments.stream().map(Department::getName).toList();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.catp.service;
+
+import org.example.catp.repository.TestResultRepository;
+import org.example.catp.service.cache.ResultResponseCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 키셋 묶음 삭제가 묶음 경계에 같은 생성 시간의 행이 걸쳐 있어도 건너뛰거나 반복하지 않고 기준 이전 행만 모두 지우는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Timeout(60)
+class DataCleanupServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 3, 1, 0, 0);
+    private static final int CHUNK_SIZE = 3;
+
+    @Autowired
+    private TestResultRepository testResultRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ResultResponseCache resultResponseCache = mock(ResultResponseCache.class);
+
+    @Test
+    void rowsSharingCreatedAtAcrossChunkBoundariesAreAllDeleted() {
+        jdbcTemplate.update("DELETE FROM test_results");
+        // 같은 시간 10건 → 묶음 3개 반에 걸침, 이어서 같은 시간 4건, 기준 시간 정각 1건과 이후 2건은 남아야 함
+        insert("a", 10, CUTOFF.minusDays(40));
+        insert("b", 4, CUTOFF.minusDays(35));
+        insert("c", 1, CUTOFF);
+        insert("d", 2, CUTOFF.plusDays(1));
+
+        DataCleanupService.CleanupReport report = service().deleteBefore(CUTOFF);
+
+        assertThat(report.deletedRows()).isEqualTo(14);
+        assertThat(report.chunks()).isEqualTo(5);
+        assertThat(report.remainingBacklog()).isZero();
+        assertThat(remainingIds()).containsExactly("c0", "d0", "d1");
+        verify(resultResponseCache, times(1)).invalidateAll();
+    }
+
+    @Test
+    void exactMultipleOfChunkSizeStopsAfterEmptyChunk() {
+        jdbcTemplate.update("DELETE FROM test_results");
+        // id 순서와 생성 시간 순서가 엇갈리도록 (뒤 id가 더 이른 시간)
+        insert("z", 3, CUTOFF.minusDays(50));
+        insert("m", 3, CUTOFF.minusDays(20));
+        insert("a", 3, CUTOFF.minusDays(10));
+        insert("k", 3, CUTOFF.minusNanos(1000));
+
+        DataCleanupService.CleanupReport report = service().deleteBefore(CUTOFF);
+
+        assertThat(report.deletedRows()).isEqualTo(12);
+        assertThat(report.chunks()).isEqualTo(4);
+        assertThat(report.remainingBacklog()).isZero();
+        assertThat(remainingIds()).isEmpty();
+    }
+
+    private DataCleanupService service() {
+        return new DataCleanupService(testResultRepository, resultResponseCache,
+                new TransactionTemplate(transactionManager), 30, CHUNK_SIZE, Duration.ZERO, Duration.ofMinutes(1));
+    }
+
+    private void insert(String prefix, int count, LocalDateTime createdAt) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO test_results (id, user_answers, user_scores, created_at) VALUES (?, ?, ?, ?)",
+                    prefix + i, "0:", "", Timestamp.valueOf(createdAt));
+        }
+    }
+
+    private List<String> remainingIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM test_results ORDER BY id", String.class);
+    }
+}
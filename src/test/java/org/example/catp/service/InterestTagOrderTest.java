@@ -0,0 +1,177 @@
+package org.example.catp.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.entity.Question;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.catalog.QuestionSnapshot;
+import org.example.catp.service.catalog.TagDictionary;
+import org.example.catp.support.TestCatalogs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관심사 태그 선택이 기존 구현(HashMap 집계 + 안정 정렬)과 같은 태그를 같은 순서로 내는지 확인
+ * 동점 순서는 기존 HashMap 순회 순서를 재현하므로, JDK 의 HashMap 동작이 바뀌면 여기서 드러납니다.
+ */
+class InterestTagOrderTest {
+
+    private static final int MAX_INTEREST_TAGS = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<Question> questions;
+    private QuestionSnapshot questionSnapshot;
+    private CareerService careerService;
+
+    @BeforeEach
+    void setUp() {
+        questions = TestCatalogs.questions(objectMapper);
+        QuestionCatalog questionCatalog = TestCatalogs.questionCatalog(questions, objectMapper);
+        questionSnapshot = questionCatalog.current();
+        careerService = TestCatalogs.careerService(questionCatalog,
+                TestCatalogs.departmentCatalog(TestCatalogs.departments(objectMapper), objectMapper));
+    }
+
+    @Test
+    void sameTagsInSameOrderAsBaseline() throws Exception {
+        Random random = new Random(4);
+        int tiedAtCut = 0;
+        for (int n = 0; n < 1000; n++) {
+            int[] answers = answers(random, n % 4);
+            List<String> expected = baselineInterestTags(answers);
+
+            assertThat(careerService.extractInterestTags(questionSnapshot, answers))
+                    .as("답변 %s", Arrays.toString(answers))
+                    .isEqualTo(expected);
+            if (tiedAtCut(answers)) {
+                tiedAtCut++;
+            }
+        }
+        // 동점 처리 순서가 실제로 결과를 가르는 경우가 충분히 포함되었는지
+        assertThat(tiedAtCut).isGreaterThan(100);
+    }
+
+    @Test
+    void everyTableSizeMatchesBaseline() throws Exception {
+        // 긍정 답변 수를 0개부터 전부까지 늘려 HashMap 테이블이 커지는 모든 단계를 지나가도록
+        Random random = new Random(9);
+        for (int positives = 0; positives <= questions.size(); positives++) {
+            for (int repeat = 0; repeat < 20; repeat++) {
+                int[] answers = new int[questions.size()];
+                Arrays.fill(answers, 1 + random.nextInt(3));
+                List<Integer> order = new ArrayList<>();
+                for (int i = 0; i < answers.length; i++) {
+                    order.add(i);
+                }
+                Collections.shuffle(order, random);
+                for (int i = 0; i < positives; i++) {
+                    answers[order.get(i)] = 4 + random.nextInt(2);
+                }
+
+                assertThat(careerService.extractInterestTags(questionSnapshot, answers))
+                        .as("답변 %s", Arrays.toString(answers))
+                        .isEqualTo(baselineInterestTags(answers));
+            }
+        }
+    }
+
+    /**
+     * 0: 1 ~ 5 고르게, 1: 보통(3) 없이, 2: 한 값 주변, 3: 4 / 5 위주
+     */
+    private int[] answers(Random random, int mode) {
+        int[] answers = new int[questions.size()];
+        int base = 1 + random.nextInt(5);
+        for (int i = 0; i < answers.length; i++) {
+            answers[i] = switch (mode) {
+                case 0 -> 1 + random.nextInt(5);
+                case 1 -> new int[]{1, 2, 4, 5}[random.nextInt(4)];
+                case 2 -> Math.max(1, Math.min(5, base + random.nextInt(3) - 1));
+                default -> random.nextInt(4) == 0 ? 1 + random.nextInt(3) : 4 + random.nextInt(2);
+            };
+        }
+        return answers;
+    }
+
+    /**
+     * 기존 구현: HashMap 에 빈도를 모은 뒤 빈도 → 대표 태그 순으로 안정 정렬하고 그룹별 대표 태그만 남김
+     */
+    private List<String> baselineInterestTags(int[] answers) throws Exception {
+        Map<String, Integer> tagCounts = baselineTagCounts(answers);
+        List<Map.Entry<String, Integer>> sortedTags = sortedByBaselineOrder(tagCounts);
+
+        Set<String> selectedTags = new LinkedHashSet<>();
+        Set<String> usedGroups = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : sortedTags) {
+            String group = groupOf(entry.getKey());
+            if (group != null) {
+                if (!usedGroups.add(group)) {
+                    continue;
+                }
+                selectedTags.add(group);
+            } else {
+                selectedTags.add(entry.getKey());
+            }
+            if (selectedTags.size() >= MAX_INTEREST_TAGS) {
+                break;
+            }
+        }
+        return new ArrayList<>(selectedTags);
+    }
+
+    private Map<String, Integer> baselineTagCounts(int[] answers) throws Exception {
+        Map<String, Integer> tagCounts = new HashMap<>();
+        for (int i = 0; i < questions.size(); i++) {
+            if (answers[i] >= 4) {
+                int weight = (answers[i] == 5) ? 2 : 1;
+                List<String> questionTags = objectMapper.readValue(questions.get(i).getTags(), new TypeReference<>() {});
+                for (String tag : questionTags) {
+                    tagCounts.merge(tag, weight, Integer::sum);
+                }
+            }
+        }
+        return tagCounts;
+    }
+
+    private static List<Map.Entry<String, Integer>> sortedByBaselineOrder(Map<String, Integer> tagCounts) {
+        return tagCounts.entrySet().stream()
+                .sorted((a, b) -> {
+                    int countCompare = b.getValue().compareTo(a.getValue());
+                    if (countCompare != 0) return countCompare;
+                    return Boolean.compare(TagDictionary.PRIMARY_TAGS.contains(b.getKey()),
+                            TagDictionary.PRIMARY_TAGS.contains(a.getKey()));
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 선택 경계에서 빈도와 대표 태그 여부가 같은 태그가 둘 이상인지 (순회 순서가 선택 결과를 가르는 경우)
+     */
+    private boolean tiedAtCut(int[] answers) throws Exception {
+        List<Map.Entry<String, Integer>> sorted = sortedByBaselineOrder(baselineTagCounts(answers));
+        Set<String> groups = new HashSet<>();
+        for (int k = 0; k < sorted.size() - 1; k++) {
+            String tag = sorted.get(k).getKey();
+            groups.add(groupOf(tag) != null ? groupOf(tag) : tag);
+            if (groups.size() >= MAX_INTEREST_TAGS) {
+                Map.Entry<String, Integer> next = sorted.get(k + 1);
+                return next.getValue().equals(sorted.get(k).getValue())
+                        && TagDictionary.PRIMARY_TAGS.contains(next.getKey()) == TagDictionary.PRIMARY_TAGS.contains(tag);
+            }
+        }
+        return false;
+    }
+
+    private static String groupOf(String tag) {
+        for (Map.Entry<String, List<String>> group : TagDictionary.TAG_GROUPS.entrySet()) {
+            if (group.getValue().contains(tag)) {
+                return group.getKey();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.catp.service.cache;
+
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.dto.Summary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 캐시된 분석 결과를 한 요청이 바꿔도 같은 키의 다른 요청에 영향이 없는지 확인
+ */
+class AnalysisResultCacheTest {
+
+    private static final AnalysisResultCache.Key KEY = new AnalysisResultCache.Key(1L, "", 1L, 1L);
+
+    @Test
+    void callersCannotCorruptCachedScores() {
+        AnalysisResultCache cache = new AnalysisResultCache(100, Duration.ofHours(1));
+        double[] computed = {3.0, 2.5};
+        List<String> tags = new ArrayList<>(List.of("IT"));
+
+        AnalysisResult first = cache.get(KEY, () -> result(computed, tags));
+        computed[0] = 0.0;
+        tags.add("AI");
+        first.scores()[1] = 0.0;
+
+        AnalysisResult hit = cache.get(KEY, () -> result(new double[]{9.9, 9.9}, List.of()));
+        assertThat(hit.scores()).containsExactly(3.0, 2.5);
+        assertThat(hit.interestTags()).containsExactly("IT");
+        assertThatThrownBy(() -> hit.interestTags().add("AI")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static AnalysisResult result(double[] scores, List<String> tags) {
+        return new AnalysisResult(scores, tags, "논리형 인재", List.of(), List.of(), List.of(),
+                new Summary("논리형 인재 유형입니다.", "", null, null));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.catp.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.entity.Department;
+import org.example.catp.repository.DepartmentRepository;
+import org.example.catp.service.storage.DatabaseBusyException;
+import org.example.catp.service.storage.DatabaseLimiter;
+import org.example.catp.support.TestCatalogs;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기본 학교 적재가 요청 경로의 첫 적재와 재적재 사이에서 순서대로 수행되고, DB 동시 접근 상한을 따르는지 확인
+ */
+class DepartmentCatalogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DepartmentRepository repository = mock(DepartmentRepository.class);
+
+    @Test
+    void reloadRacingFirstLoadPublishesNewerSnapshot() throws Exception {
+        List<Department> departments = TestCatalogs.departments(objectMapper);
+        List<Department> before = departments.subList(0, 2);
+        List<Department> after = departments.subList(0, 3);
+
+        // 요청 경로의 첫 적재는 이전 데이터를 읽은 채로 붙잡아 두고, 그 사이에 DB가 바뀌어 재적재가 요청됨
+        CountDownLatch firstReadEntered = new CountDownLatch(1);
+        CountDownLatch firstReadRelease = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(repository.findAllBySchoolIsNullOrderByIdAsc()).thenAnswer(invocation -> {
+            if (reads.getAndIncrement() == 0) {
+                firstReadEntered.countDown();
+                firstReadRelease.await();
+                return before;
+            }
+            return after;
+        });
+        DepartmentCatalog catalog = catalog(new DatabaseLimiter(10, Duration.ofSeconds(5)));
+
+        Thread request = new Thread(catalog::current);
+        request.start();
+        assertThat(firstReadEntered.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread reloader = new Thread(() -> catalog.reload());
+        reloader.start();
+        Thread.sleep(200);
+        firstReadRelease.countDown();
+        request.join(TimeUnit.SECONDS.toMillis(10));
+        reloader.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 먼저 시작한 첫 적재의 스냅샷이 나중에 덮어쓰지 않음
+        assertThat(catalog.current().size()).isEqualTo(3);
+        assertThat(reads).hasValue(2);
+    }
+
+    @Test
+    void reloadWaitsForDatabaseLimiter() throws Exception {
+        when(repository.findAllBySchoolIsNullOrderByIdAsc()).thenReturn(TestCatalogs.departments(objectMapper));
+        DatabaseLimiter limiter = new DatabaseLimiter(1, Duration.ofMillis(100));
+        DepartmentCatalog catalog = catalog(limiter);
+
+        // 다른 요청이 유일한 DB 차례를 잡고 있는 동안
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> limiter.run(() -> {
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        assertThat(held.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(catalog::reload).isInstanceOf(DatabaseBusyException.class);
+        assertThat(catalog.loaded()).isEmpty();
+
+        release.countDown();
+        holder.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(catalog.reload().size()).isEqualTo(TestCatalogs.departments(objectMapper).size());
+    }
+
+    private DepartmentCatalog catalog(DatabaseLimiter limiter) {
+        return new DepartmentCatalog(repository, objectMapper, event -> { }, limiter, 100_000, Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.catp.service.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.entity.Question;
+import org.example.catp.entity.TestResult;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.storage.TestResultCodec;
+import org.example.catp.support.TestCatalogs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제출 응답(AnalysisResultWriter)과 조회 응답(TestResultCodec → ObjectMapper)이 같은 결과를 같은 바이트로 내는지 확인
+ * 요약(summary)과 생성 시각(created_at)은 두 응답이 원래 다르므로 비교하지 않습니다.
+ */
+class AnalysisResultWriterTest {
+
+    private static final List<String> SHARED_FIELDS = List.of("id", "personality", "scores", "interest_tags",
+            "top_departments", "worst_departments", "similar_departments");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CareerService careerService;
+    private TestResultCodec codec;
+    private AnalysisResultWriter writer;
+    private int questionCount;
+
+    @BeforeEach
+    void setUp() {
+        List<Question> questions = TestCatalogs.questions(objectMapper);
+        DepartmentCatalog departmentCatalog =
+                TestCatalogs.departmentCatalog(TestCatalogs.departments(objectMapper), objectMapper);
+        careerService = TestCatalogs.careerService(TestCatalogs.questionCatalog(questions, objectMapper), departmentCatalog);
+        codec = new TestResultCodec(departmentCatalog, objectMapper);
+        writer = new AnalysisResultWriter(objectMapper);
+        questionCount = questions.size();
+    }
+
+    @Test
+    void submitAndViewResponsesShareFieldBytes() throws IOException {
+        Random random = new Random(42);
+        for (int n = 0; n < 50; n++) {
+            String id = "result-" + n;
+            List<Integer> answers = TestCatalogs.randomAnswers(random, questionCount);
+            AnalysisResult analysis = careerService.analyzeTest(answers);
+
+            Map<String, String> submitted = rawFields(writer.write(id, analysis).body());
+            TestResult stored = codec.encode(id, null, answers, analysis);
+            Map<String, String> viewedFresh = rawFields(objectMapper.writeValueAsBytes(codec.toResponse(stored, analysis)));
+            Map<String, String> viewedStored = rawFields(objectMapper.writeValueAsBytes(codec.toResponse(stored)));
+
+            for (String field : SHARED_FIELDS) {
+                assertThat(submitted).containsKey(field);
+                assertThat(viewedFresh.get(field)).as("%s (캐시에 미리 만든 조회 응답)", field).isEqualTo(submitted.get(field));
+                assertThat(viewedStored.get(field)).as("%s (저장 행으로 조립한 조회 응답)", field).isEqualTo(submitted.get(field));
+            }
+        }
+    }
+
+    @Test
+    void submitResponseKeepsFieldOrder() throws IOException {
+        AnalysisResult analysis = careerService.analyzeTest(TestCatalogs.randomAnswers(new Random(7), questionCount));
+
+        assertThat(rawFields(writer.write("x", analysis).body()).keySet()).containsExactly(
+                "id", "personality", "scores", "interest_tags",
+                "top_departments", "worst_departments", "similar_departments", "summary");
+    }
+
+    /**
+     * 최상위 필드별 원본 JSON 조각 (다시 직렬화하지 않고 본문에서 그대로 잘라냄)
+     */
+    private Map<String, String> rawFields(byte[] body) throws IOException {
+        String json = new String(body, StandardCharsets.UTF_8);
+        Map<String, String> fields = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                int start = (int) parser.currentTokenLocation().getCharOffset();
+                parser.skipChildren();
+                parser.finishToken();
+                int end = (int) parser.currentLocation().getCharOffset();
+                fields.put(name, json.substring(start, end));
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.catp.service.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.entity.Question;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.catalog.UnknownSchoolException;
+import org.example.catp.service.storage.ResultQueueFullException;
+import org.example.catp.support.TestCatalogs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 최종 제출의 저장이 실패해도 세션과 답변이 남아 같은 세션으로 다시 제출할 수 있는지 확인
+ */
+class TestSessionServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private QuestionCatalog questionCatalog;
+    private DepartmentCatalog departmentCatalog;
+    private CareerService careerService;
+    private List<Integer> answers;
+
+    @BeforeEach
+    void setUp() {
+        List<Question> questions = TestCatalogs.questions(objectMapper);
+        questionCatalog = TestCatalogs.questionCatalog(questions, objectMapper);
+        departmentCatalog = TestCatalogs.departmentCatalog(TestCatalogs.departments(objectMapper), objectMapper);
+        careerService = TestCatalogs.careerService(questionCatalog, departmentCatalog);
+        answers = TestCatalogs.randomAnswers(new Random(15), questions.size());
+    }
+
+    @Test
+    void failedSaveKeepsSessionForRetry() throws Exception {
+        TestSessionService service = service(careerService);
+        TestSession session = answeredSession(service);
+
+        assertThatThrownBy(() -> service.complete(session, completed -> {
+            throw new ResultQueueFullException("대기열 포화");
+        })).isInstanceOf(ResultQueueFullException.class);
+
+        // 세션과 답변이 그대로 남아 다시 제출 가능
+        assertThat(service.find(session.id())).containsSame(session);
+        assertThat(session.answered()).isEqualTo(answers.size());
+        TestSessionService.Completed completed = service.complete(session, saved -> saved);
+        assertThat(completed.answers()).isEqualTo(answers);
+        assertThat(completed.result()).usingRecursiveComparison().isEqualTo(careerService.analyzeTest(answers));
+
+        // 저장된 뒤에는 닫힘
+        assertThat(service.find(session.id())).isEmpty();
+        assertThatThrownBy(() -> service.complete(session, saved -> saved)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> session.answer(0, List.of(1))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void unknownSchoolDuringScoringKeepsSession() throws Exception {
+        // 세션 시작 후 학교 학과가 삭제된 경우
+        CareerService failing = mock(CareerService.class);
+        when(failing.analyzeWithScores(any(), any(), any(), any())).thenThrow(new UnknownSchoolException("x"));
+        TestSessionService service = service(failing);
+        TestSession session = answeredSession(service);
+
+        assertThatThrownBy(() -> service.complete(session, saved -> saved)).isInstanceOf(UnknownSchoolException.class);
+
+        assertThat(service.find(session.id())).containsSame(session);
+        session.answer(0, List.of(answers.get(0)));
+    }
+
+    @Test
+    void answersAndSecondSubmitAreRejectedWhileSaving() throws Exception {
+        TestSessionService service = service(careerService);
+        TestSession session = answeredSession(service);
+
+        service.complete(session, completed -> {
+            assertThatThrownBy(() -> session.answer(0, List.of(1)))
+                    .isInstanceOf(IllegalStateException.class).hasMessageContaining("제출 처리 중");
+            assertThatThrownBy(() -> service.complete(session, saved -> saved))
+                    .isInstanceOf(IllegalStateException.class).hasMessageContaining("제출 처리 중");
+            return completed;
+        });
+    }
+
+    private TestSessionService service(CareerService careerService) {
+        return new TestSessionService(questionCatalog, departmentCatalog, careerService, Duration.ofHours(1), 100);
+    }
+
+    private TestSession answeredSession(TestSessionService service) {
+        TestSession session = service.create(null);
+        session.answer(0, answers);
+        return session;
+    }
+}
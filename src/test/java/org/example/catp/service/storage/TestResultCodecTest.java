@@ -0,0 +1,145 @@
+package org.example.catp.service.storage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.dto.DepartmentMatch;
+import org.example.catp.entity.Department;
+import org.example.catp.entity.Question;
+import org.example.catp.entity.TestResult;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.support.TestCatalogs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결과 행 압축 형식의 저장 → 복원 확인 (답변 3비트 묶음, 범위 밖 JSON 대체, 기존 JSON 행, 삭제된 학과)
+ */
+class TestResultCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<Department> departments;
+    private CareerService careerService;
+    private TestResultCodec codec;
+    private int questionCount;
+
+    @BeforeEach
+    void setUp() {
+        List<Question> questions = TestCatalogs.questions(objectMapper);
+        departments = TestCatalogs.departments(objectMapper);
+        DepartmentCatalog departmentCatalog = TestCatalogs.departmentCatalog(departments, objectMapper);
+        careerService = TestCatalogs.careerService(TestCatalogs.questionCatalog(questions, objectMapper), departmentCatalog);
+        codec = new TestResultCodec(departmentCatalog, objectMapper);
+        questionCount = questions.size();
+    }
+
+    @Test
+    void packedAnswersRoundTripEveryValue() throws Exception {
+        // 답변 2개가 문자 1개에 들어가므로 홀수 길이(마지막 문자 절반만 사용)와 짝수 길이 모두 확인
+        for (int size : new int[]{0, 1, 2, 7, 8, 40, 41}) {
+            List<Integer> answers = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                answers.add(i % 8);
+            }
+
+            String encoded = codec.encodeAnswers(answers);
+
+            assertThat(encoded).startsWith(size + ":").doesNotStartWith("[");
+            assertThat(codec.decodeAnswers(encoded)).isEqualTo(answers);
+        }
+
+        // 같은 위치에 0 ~ 7 이 모두 오도록 (앞/뒤 3비트 모두)
+        for (int first = 0; first <= 7; first++) {
+            for (int second = 0; second <= 7; second++) {
+                List<Integer> answers = List.of(first, second, second, first);
+                assertThat(codec.decodeAnswers(codec.encodeAnswers(answers))).isEqualTo(answers);
+            }
+        }
+    }
+
+    @Test
+    void outOfRangeAnswersFallBackToJson() throws Exception {
+        for (List<Integer> answers : List.of(List.of(1, 8), List.of(-1, 3), List.of(5, 100, 2))) {
+            String encoded = codec.encodeAnswers(answers);
+
+            assertThat(encoded).isEqualTo(objectMapper.writeValueAsString(answers));
+            assertThat(codec.decodeAnswers(encoded)).isEqualTo(answers);
+        }
+
+        double[] scores = {3.0, 7.5, 0.0};
+        String encodedScores = codec.encodeScores(scores);
+        assertThat(encodedScores).startsWith("[");
+        assertThat(codec.decodeScores(encodedScores)).containsExactly(scores);
+    }
+
+    @Test
+    void storedRowRebuildsSameResponse() throws Exception {
+        Random random = new Random(8);
+        for (int n = 0; n < 30; n++) {
+            List<Integer> answers = TestCatalogs.randomAnswers(random, questionCount);
+            AnalysisResult analysis = careerService.analyzeTest(answers);
+
+            TestResult stored = codec.encode("r" + n, null, answers, analysis);
+            Map<String, Object> response = codec.toResponse(stored);
+
+            assertThat(codec.decodeAnswers(stored.getUserAnswers())).isEqualTo(answers);
+            assertThat((double[]) response.get("scores")).containsExactly(analysis.scores());
+            assertThat(response.get("interest_tags")).isEqualTo(analysis.interestTags());
+            assertThat(response.get("top_departments")).isEqualTo(analysis.topDepartments());
+            assertThat(response.get("worst_departments")).isEqualTo(analysis.worstDepartments());
+            assertThat(response.get("similar_departments")).isEqualTo(analysis.similarDepartments());
+        }
+    }
+
+    @Test
+    void legacyJsonRowIsReadAsStored() throws Exception {
+        String legacyDepartments = """
+                [{"department":{"id":1,"name":"컴퓨터공학과","aptitudeScores":"[9,8,7,6,5,4,3,2,1,1]",\
+                "description":"설명","url":null,"tags":"[\\"IT\\"]","category":"이공계"},\
+                "match_percentage":91.5,"reason":"적성이 잘 맞습니다.","common_tags":["IT"]}]""";
+        TestResult legacy = new TestResult();
+        legacy.setId("legacy");
+        legacy.setPersonalityType("논리형 인재");
+        legacy.setUserAnswers("[1,2,3,4,5]");
+        legacy.setUserScores("[3.5,2.0,4.25]");
+        legacy.setInterestTags("[\"IT\",\"AI\"]");
+        legacy.setTopDepartments(legacyDepartments);
+        legacy.setWorstDepartments("[]");
+        legacy.setSimilarDepartments(null);
+
+        Map<String, Object> response = codec.toResponse(legacy);
+
+        assertThat(codec.decodeAnswers(legacy.getUserAnswers())).containsExactly(1, 2, 3, 4, 5);
+        assertThat((double[]) response.get("scores")).containsExactly(3.5, 2.0, 4.25);
+        assertThat(response.get("interest_tags")).isEqualTo(List.of("IT", "AI"));
+        JsonNode topDepartments = objectMapper.valueToTree(response.get("top_departments"));
+        assertThat(topDepartments).isEqualTo(objectMapper.readTree(legacyDepartments));
+        assertThat((List<?>) response.get("worst_departments")).isEmpty();
+        assertThat((List<?>) response.get("similar_departments")).isEmpty();
+    }
+
+    @Test
+    void departmentDeletedAfterSaveIsDropped() throws Exception {
+        List<Integer> answers = TestCatalogs.randomAnswers(new Random(3), questionCount);
+        AnalysisResult analysis = careerService.analyzeTest(answers);
+        TestResult stored = codec.encode("r", null, answers, analysis);
+        Department deleted = analysis.topDepartments().get(0).department();
+
+        // 같은 id 로 다시 적재하되 첫 번째 추천 학과만 빠진 카탈로그
+        List<Department> remaining = departments.stream().filter(d -> !d.getId().equals(deleted.getId())).toList();
+        TestResultCodec afterDelete = new TestResultCodec(TestCatalogs.departmentCatalog(remaining, objectMapper), objectMapper);
+
+        List<?> top = (List<?>) afterDelete.toResponse(stored).get("top_departments");
+
+        assertThat(top).isEqualTo(analysis.topDepartments().subList(1, analysis.topDepartments().size()));
+        assertThat(top).extracting(match -> ((DepartmentMatch) match).department().getId()).doesNotContain(deleted.getId());
+    }
+}
@@ -0,0 +1,263 @@
+package org.example.catp.service.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.catp.entity.TestResult;
+import org.example.catp.service.metrics.PipelineMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * DB 장애 중 보관 파일로 넘어간 결과가 계속 조회되고, 재시작 없이 다시 저장되는지 확인
+ * 재저장이 DB 에서 오래 걸려도 보관 파일 추가가 막히지 않고, 재저장 도중 종료되어도 다음 실행에서 다시 저장되는지 확인
+ * 이미 저장된 ID와 겹친 결과는 같은 결과면 저장된 것으로 보고, 다른 결과면 ID를 바꾸지 않고 실패로 집계하는지 확인
+ */
+class TestResultWriteBehindTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String SLOW_RETRY_THREAD = "slow-spool-retry";
+
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+    private final CountDownLatch slowRetryEntered = new CountDownLatch(1);
+    private final CountDownLatch slowRetryRelease = new CountDownLatch(1);
+    private final Set<String> inserted = ConcurrentHashMap.newKeySet();
+    private final Map<String, TestResult> storedRows = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private TestResultWriteBehind writeBehind;
+    private Path spoolFile;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals(SLOW_RETRY_THREAD)) {
+                // 느린 DB 흉내: 재저장 작업의 INSERT 를 풀어 줄 때까지 붙잡아 둠
+                slowRetryEntered.countDown();
+                slowRetryRelease.await();
+            } else if (databaseDown.get()) {
+                throw new CannotGetJdbcConnectionException("DB 연결 실패");
+            }
+            for (TestResult result : (Collection<TestResult>) invocation.getArgument(1)) {
+                if (inserted.contains(result.getId())) {
+                    throw new DuplicateKeyException("중복 id: " + result.getId());
+                }
+            }
+            for (TestResult result : (Collection<TestResult>) invocation.getArgument(1)) {
+                inserted.add(result.getId());
+                storedRows.put(result.getId(), copy(result));
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        doAnswer(invocation -> {
+            TestResult stored = storedRows.get((String) invocation.getArgument(2));
+            return (stored != null) ? List.of(stored) : List.of();
+        }).when(jdbcTemplate).query(anyString(), any(RowMapper.class), (Object) any());
+
+        spoolFile = tempDir.resolve("pending.jsonl");
+        writeBehind = new TestResultWriteBehind(jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                objectMapper,
+                new PipelineMetrics(new SimpleMeterRegistry()),
+                new DatabaseLimiter(10, Duration.ofSeconds(5)),
+                spoolFile, 100, 10, Duration.ofMillis(10), TestResultWriteBehind.OverflowPolicy.SYNC);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void spooledResultStaysReadableUntilRetried() throws Exception {
+        databaseDown.set(true);
+        writeBehind.submit(result("a"));
+        awaitSpooled(1);
+
+        // 보관 파일에 넘어간 뒤에도 조회 가능
+        assertThat(Files.exists(spoolFile)).isTrue();
+        assertThat(writeBehind.findPending("a")).isPresent();
+
+        // DB가 아직 내려가 있으면 보관 파일에 그대로 남김
+        writeBehind.retrySpool();
+        assertThat(writeBehind.stats().spooled()).isEqualTo(1);
+        assertThat(writeBehind.findPending("a")).isPresent();
+
+        // DB가 돌아오면 재시작 없이 저장
+        databaseDown.set(false);
+        writeBehind.retrySpool();
+        assertThat(inserted).containsExactly("a");
+        assertThat(writeBehind.findPending("a")).isEmpty();
+        assertThat(writeBehind.stats().spooled()).isZero();
+        assertThat(Files.exists(spoolFile)).isFalse();
+    }
+
+    @Test
+    void spoolLeftByPreviousRunIsReadableAfterStartup() throws Exception {
+        databaseDown.set(true);
+        writeBehind.submit(result("b"));
+        awaitSpooled(1);
+        writeBehind.shutdown();
+
+        // 다음 실행: 시작 시 다시 저장에 실패해도 조회 가능
+        setUp();
+        writeBehind.replaySpool();
+        assertThat(writeBehind.findPending("b")).isPresent();
+
+        databaseDown.set(false);
+        writeBehind.retrySpool();
+        assertThat(inserted).containsExactly("b");
+        assertThat(writeBehind.findPending("b")).isEmpty();
+    }
+
+    @Test
+    void retryInterruptedByShutdownIsReplayed() throws Exception {
+        databaseDown.set(true);
+        writeBehind.submit(result("c"));
+        awaitSpooled(1);
+        writeBehind.shutdown();
+
+        // 재저장 도중 종료: 보관 파일이 재저장용 파일로 옮겨진 채 남음
+        Path retrying = spoolFile.resolveSibling(spoolFile.getFileName() + ".retrying");
+        Files.move(spoolFile, retrying);
+
+        setUp();
+        databaseDown.set(false);
+        writeBehind.replaySpool();
+        assertThat(inserted).containsExactly("c");
+        assertThat(writeBehind.findPending("c")).isEmpty();
+        assertThat(writeBehind.stats().spooled()).isZero();
+        assertThat(Files.exists(retrying)).isFalse();
+        assertThat(Files.exists(spoolFile)).isFalse();
+    }
+
+    @Test
+    void slowRetryDoesNotBlockSpooling() throws Exception {
+        databaseDown.set(true);
+        writeBehind.submit(result("a"));
+        awaitSpooled(1);
+
+        // 재저장 작업이 DB 에서 붙잡혀 있는 동안
+        Thread retry = new Thread(() -> {
+            try {
+                writeBehind.retrySpool();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, SLOW_RETRY_THREAD);
+        retry.start();
+        assertThat(slowRetryEntered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 저장 스레드는 새로 실패한 결과를 보관 파일에 계속 추가할 수 있음
+        writeBehind.submit(result("b"));
+        awaitSpooled(2);
+
+        slowRetryRelease.countDown();
+        retry.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(inserted).containsExactly("a");
+        assertThat(writeBehind.findPending("a")).isEmpty();
+        assertThat(writeBehind.findPending("b")).isPresent();
+        assertThat(writeBehind.stats().spooled()).isEqualTo(1);
+        assertThat(Files.readAllLines(spoolFile)).hasSize(1).allMatch(line -> line.contains("\"b\""));
+    }
+
+    @Test
+    void replayOfAlreadyStoredResultCountsAsSaved() throws Exception {
+        writeBehind.submit(result("a"));
+        awaitPendingDrained();
+        writeBehind.shutdown();
+
+        // 재저장 후 보관 파일을 지우기 전에 종료되어 이미 저장된 결과가 보관 파일에 남은 경우
+        Files.writeString(spoolFile, objectMapper.writeValueAsString(storedRows.get("a")) + "\n");
+        setUp();
+        writeBehind.replaySpool();
+
+        assertThat(inserted).containsExactly("a");
+        assertThat(storedRows).containsOnlyKeys("a");
+        assertThat(writeBehind.stats().failedRows()).isZero();
+        assertThat(writeBehind.findPending("a")).isEmpty();
+        assertThat(Files.exists(spoolFile)).isFalse();
+    }
+
+    @Test
+    void differentResultUnderStoredIdIsFailedWithoutNewId() throws Exception {
+        TestResult other = result("dup");
+        other.setPersonalityType("예술형 인재");
+        other.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0));
+        inserted.add("dup");
+        storedRows.put("dup", other);
+
+        writeBehind.submit(result("ok"));
+        writeBehind.submit(result("dup"));
+        awaitPendingDrained();
+
+        // 응답한 ID를 다른 ID로 바꿔 저장하지 않고, 저장된 결과도 그대로 둠
+        assertThat(inserted).containsExactlyInAnyOrder("dup", "ok");
+        assertThat(storedRows.get("dup")).isSameAs(other);
+        assertThat(writeBehind.stats().failedRows()).isEqualTo(1);
+        assertThat(writeBehind.findPending("dup")).isEmpty();
+    }
+
+    private void awaitPendingDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (writeBehind.stats().pending() > 0) {
+            assertThat(System.nanoTime()).as("저장 대기").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitSpooled(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (writeBehind.stats().spooled() < count) {
+            assertThat(System.nanoTime()).as("보관 파일 기록 대기").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private TestResult copy(TestResult result) throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsString(result), TestResult.class);
+    }
+
+    private static TestResult result(String id) {
+        TestResult result = new TestResult();
+        result.setId(id);
+        result.setUserAnswers("2:AB");
+        result.setUserScores("AB");
+        result.setInterestTags("[]");
+        result.setPersonalityType("논리형 인재");
+        return result;
+    }
+}
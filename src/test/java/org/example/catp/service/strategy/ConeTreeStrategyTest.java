@@ -0,0 +1,216 @@
+package org.example.catp.service.strategy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.dto.AnalysisResult;
+import org.example.catp.entity.Department;
+import org.example.catp.entity.Question;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.catalog.DepartmentSnapshot;
+import org.example.catp.support.TestCatalogs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 콘 트리 후보 선택이 전체 스캔(WeightedDistanceStrategy)과 같은 추천/비추천/유사 학과를 같은 순서로 고르는지 확인
+ * 색인을 쓰는 크기(256개 이상)의 무작위 카탈로그와, 같은 점수/태그가 반복되어 동점이 많은 카탈로그로 비교합니다.
+ */
+class ConeTreeStrategyTest {
+
+    private static final int MIN_DEPARTMENT_SCORE = 1;
+    private static final int MAX_DEPARTMENT_SCORE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WeightedDistanceStrategy linear = new WeightedDistanceStrategy("scalar");
+    private final ConeTreeStrategy coneTree = new ConeTreeStrategy("scalar");
+
+    private List<Department> templates;
+    private List<String> tagPool;
+    /** 실제 분석 과정으로 만든 사용자 점수와 관심사 태그 */
+    private List<double[]> analyzedScores;
+    private List<Set<String>> analyzedTags;
+
+    @BeforeEach
+    void setUp() {
+        templates = TestCatalogs.departments(objectMapper);
+        Set<String> tags = new LinkedHashSet<>();
+        for (Department template : templates) {
+            tags.addAll(tagsOf(template));
+        }
+        tagPool = new ArrayList<>(tags);
+
+        List<Question> questions = TestCatalogs.questions(objectMapper);
+        CareerService careerService = TestCatalogs.careerService(
+                TestCatalogs.questionCatalog(questions, objectMapper),
+                TestCatalogs.departmentCatalog(templates, objectMapper));
+        Random random = new Random(17);
+        analyzedScores = new ArrayList<>();
+        analyzedTags = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            AnalysisResult result = careerService.analyzeTest(TestCatalogs.randomAnswers(random, questions.size()));
+            analyzedScores.add(result.scores());
+            analyzedTags.add(new HashSet<>(result.interestTags()));
+        }
+    }
+
+    @Test
+    void randomCatalogsMatchLinearScan() {
+        for (int size : new int[]{ConeTreeStrategy.MIN_INDEXED_SIZE, 1000, 3000}) {
+            Random random = new Random(size);
+            assertSameAsLinearScan("무작위 " + size, catalog(size, i -> {
+                // 적성 점수, 태그 모두 무작위 (계열, 설명은 실제 학과에서)
+                Department department = copy(templates.get(random.nextInt(templates.size())), i);
+                department.setAptitudeScores(randomScores(random, MIN_DEPARTMENT_SCORE, MAX_DEPARTMENT_SCORE).toString());
+                department.setTags(json(randomTags(random, tagPool, 6)));
+                return department;
+            }), random);
+        }
+    }
+
+    @Test
+    void jitteredCatalogsMatchLinearScan() {
+        for (int size : new int[]{300, 2000}) {
+            Random random = new Random(size);
+            assertSameAsLinearScan("흔든 실제 학과 " + size, catalog(size, i -> {
+                Department department = copy(templates.get(i % templates.size()), i);
+                List<Integer> scores = new ArrayList<>();
+                for (int score : parseScores(department)) {
+                    scores.add(Math.max(MIN_DEPARTMENT_SCORE, Math.min(MAX_DEPARTMENT_SCORE, score + random.nextInt(5) - 2)));
+                }
+                department.setAptitudeScores(scores.toString());
+                return department;
+            }), random);
+        }
+    }
+
+    @Test
+    void tieHeavyCatalogsMatchLinearScan() {
+        // 실제 학과를 그대로 반복: 같은 점수, 같은 태그의 학과가 여러 개씩
+        for (int size : new int[]{ConeTreeStrategy.MIN_INDEXED_SIZE, 1024}) {
+            Random random = new Random(size);
+            assertSameAsLinearScan("반복 " + size,
+                    catalog(size, i -> copy(templates.get(i % templates.size()), i)), random);
+        }
+
+        // 점수 두 가지, 태그 몇 개뿐인 카탈로그: 대부분의 학과가 동점
+        Random random = new Random(2);
+        List<String> fewTags = tagPool.subList(0, 4);
+        assertSameAsLinearScan("두 점수", catalog(512, i -> {
+            Department department = copy(templates.get(random.nextInt(templates.size())), i);
+            List<Integer> scores = new ArrayList<>();
+            for (int k = 0; k < DepartmentSnapshot.DIMENSION; k++) {
+                scores.add(random.nextBoolean() ? 4 : 8);
+            }
+            department.setAptitudeScores(scores.toString());
+            department.setTags(json(randomTags(random, fewTags, 2)));
+            return department;
+        }), random);
+
+        // 모든 학과가 같은 학과의 복사본
+        Department only = templates.get(0);
+        assertSameAsLinearScan("한 학과 복사", catalog(300, i -> copy(only, i)), random);
+    }
+
+    /**
+     * 실제 분석 사용자와 무작위 사용자(세밀한 점수, 1/3/5 점만 있는 점수) 모두에 대해 세 목록을 순서까지 비교
+     */
+    private void assertSameAsLinearScan(String name, DepartmentSnapshot catalog, Random random) {
+        assertThat(catalog.size()).isGreaterThanOrEqualTo(ConeTreeStrategy.MIN_INDEXED_SIZE);
+
+        List<double[]> scores = new ArrayList<>(analyzedScores);
+        List<Set<String>> tags = new ArrayList<>(analyzedTags);
+        for (int i = 0; i < 40; i++) {
+            double[] fine = new double[DepartmentSnapshot.DIMENSION];
+            double[] coarse = new double[DepartmentSnapshot.DIMENSION];
+            for (int k = 0; k < fine.length; k++) {
+                fine[k] = (10 + random.nextInt(41)) / 10.0;
+                coarse[k] = 1 + 2 * random.nextInt(3);
+            }
+            scores.add(fine);
+            tags.add(new HashSet<>(randomTags(random, tagPool, 10)));
+            scores.add(coarse);
+            tags.add(new HashSet<>(randomTags(random, tagPool, 3)));
+        }
+
+        for (int u = 0; u < scores.size(); u++) {
+            Recommendation expected = linear.recommend(scores.get(u), tags.get(u), catalog);
+            Recommendation actual = coneTree.recommend(scores.get(u), tags.get(u), catalog);
+            String input = name + ", 사용자 " + u;
+            assertThat(actual.getTopDepartments()).as("추천 (%s)", input).isEqualTo(expected.getTopDepartments());
+            assertThat(actual.getWorstDepartments()).as("비추천 (%s)", input).isEqualTo(expected.getWorstDepartments());
+            assertThat(actual.getSimilarDepartments()).as("유사 (%s)", input).isEqualTo(expected.getSimilarDepartments());
+        }
+    }
+
+    private DepartmentSnapshot catalog(int size, IntFunction<Department> factory) {
+        List<Department> departments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            departments.add(factory.apply(i));
+        }
+        return TestCatalogs.departmentCatalog(departments, objectMapper).current();
+    }
+
+    private static Department copy(Department template, int i) {
+        Department department = new Department();
+        department.setId((long) i + 1);
+        department.setName(String.format("%s-%05d", template.getName(), i));
+        department.setAptitudeScores(template.getAptitudeScores());
+        department.setDescription(template.getDescription());
+        department.setUrl(template.getUrl());
+        department.setTags(template.getTags());
+        department.setCategory(template.getCategory());
+        return department;
+    }
+
+    private static List<Integer> randomScores(Random random, int min, int max) {
+        List<Integer> scores = new ArrayList<>(DepartmentSnapshot.DIMENSION);
+        for (int k = 0; k < DepartmentSnapshot.DIMENSION; k++) {
+            scores.add(min + random.nextInt(max - min + 1));
+        }
+        return scores;
+    }
+
+    private static List<String> randomTags(Random random, List<String> pool, int max) {
+        Set<String> tags = new LinkedHashSet<>();
+        int count = random.nextInt(max + 1);
+        while (tags.size() < count) {
+            tags.add(pool.get(random.nextInt(pool.size())));
+        }
+        return new ArrayList<>(tags);
+    }
+
+    private List<Integer> parseScores(Department department) {
+        try {
+            return objectMapper.readValue(department.getAptitudeScores(), new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> tagsOf(Department department) {
+        try {
+            return objectMapper.readValue(department.getTags(), new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String json(List<String> tags) {
+        try {
+            return objectMapper.writeValueAsString(tags);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.catp.support;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.catp.dto.DepartmentImportDto;
+import org.example.catp.dto.QuestionImportDto;
+import org.example.catp.entity.Department;
+import org.example.catp.entity.Question;
+import org.example.catp.repository.DepartmentRepository;
+import org.example.catp.repository.QuestionRepository;
+import org.example.catp.service.CareerService;
+import org.example.catp.service.cache.AnalysisResultCache;
+import org.example.catp.service.calculator.StandardScoreCalculator;
+import org.example.catp.service.catalog.DepartmentCatalog;
+import org.example.catp.service.catalog.QuestionCatalog;
+import org.example.catp.service.metrics.PipelineMetrics;
+import org.example.catp.service.storage.DatabaseLimiter;
+import org.example.catp.service.strategy.WeightedDistanceStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 테스트 공용 카탈로그 (DB 없이 실제 questions.json, 학과 JSON 과 목 저장소로 구성)
+ */
+public final class TestCatalogs {
+
+    private TestCatalogs() {
+    }
+
+    public static List<Question> questions(ObjectMapper objectMapper) {
+        List<QuestionImportDto> dtos = readResource("/questions.json", objectMapper, new TypeReference<>() {});
+        List<Question> questions = new ArrayList<>(dtos.size());
+        for (QuestionImportDto dto : dtos) {
+            Question question = dto.toEntity(objectMapper);
+            question.setId((long) questions.size() + 1);
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    /**
+     * 실제 기본 학교 학과 (id 는 파일 순서대로 1부터)
+     */
+    public static List<Department> departments(ObjectMapper objectMapper) {
+        List<DepartmentImportDto> dtos =
+                readResource("/jj_departments_with_scores.json", objectMapper, new TypeReference<>() {});
+        List<Department> departments = DepartmentImportDto.toEntities(dtos, objectMapper);
+        for (int i = 0; i < departments.size(); i++) {
+            departments.get(i).setId((long) i + 1);
+        }
+        return departments;
+    }
+
+    public static QuestionCatalog questionCatalog(List<Question> questions, ObjectMapper objectMapper) {
+        QuestionRepository repository = mock(QuestionRepository.class);
+        when(repository.findAllByOrderByQuestionOrderAsc()).thenReturn(questions);
+        QuestionCatalog catalog = new QuestionCatalog(repository, objectMapper, event -> { });
+        catalog.reload();
+        return catalog;
+    }
+
+    /**
+     * 기본 학교 학과만 있는 카탈로그
+     */
+    public static DepartmentCatalog departmentCatalog(List<Department> departments, ObjectMapper objectMapper) {
+        return departmentCatalog(mock(DepartmentRepository.class), departments, objectMapper);
+    }
+
+    /**
+     * 주어진 저장소로 만든 카탈로그 (다른 학교 학과는 저장소 목 설정을 따름)
+     */
+    public static DepartmentCatalog departmentCatalog(DepartmentRepository repository, List<Department> departments,
+                                                      ObjectMapper objectMapper) {
+        when(repository.findAllBySchoolIsNullOrderByIdAsc()).thenReturn(departments);
+        DepartmentCatalog catalog = new DepartmentCatalog(repository, objectMapper, event -> { },
+                new DatabaseLimiter(10, Duration.ofSeconds(5)), 100_000, Duration.ofHours(1));
+        catalog.reload();
+        return catalog;
+    }
+
+    /**
+     * 분석 결과 캐시를 쓰지 않는 분석 서비스
+     */
+    public static CareerService careerService(QuestionCatalog questionCatalog, DepartmentCatalog departmentCatalog) {
+        return new CareerService(questionCatalog, departmentCatalog, new StandardScoreCalculator(),
+                new WeightedDistanceStrategy(), new AnalysisResultCache(0, Duration.ofHours(1)),
+                new PipelineMetrics(new SimpleMeterRegistry()));
+    }
+
+    /**
+     * 무작위 답변 (1 ~ 5)
+     */
+    public static List<Integer> randomAnswers(Random random, int questionCount) {
+        List<Integer> answers = new ArrayList<>(questionCount);
+        for (int i = 0; i < questionCount; i++) {
+            answers.add(1 + random.nextInt(5));
+        }
+        return answers;
+    }
+
+    private static <T> T readResource(String path, ObjectMapper objectMapper, TypeReference<T> type) {
+        try (InputStream in = TestCatalogs.class.getResourceAsStream(path)) {
+            return objectMapper.readValue(in, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
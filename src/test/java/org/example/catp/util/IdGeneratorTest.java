@@ -0,0 +1,131 @@
+package org.example.catp.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 번호 점유와 발급 상한으로 재시작, 시계 역행, 점유 상실 후에도 같은 ID가 나오지 않는지 확인 (메모리 H2)
+ */
+class IdGeneratorTest {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("""
+                CREATE TABLE id_node_leases (
+                    node_id INTEGER PRIMARY KEY,
+                    owner VARCHAR(100) NOT NULL,
+                    heartbeat_at TIMESTAMP(6) NOT NULL,
+                    reserved_until BIGINT)""");
+    }
+
+    @Test
+    void liveLeasesGetDifferentNodeIds() {
+        NodeIdAllocator first = allocator(-1);
+        NodeIdAllocator second = allocator(-1);
+
+        assertThat(first.nodeId()).isZero();
+        assertThat(second.nodeId()).isEqualTo(1);
+    }
+
+    @Test
+    void restartContinuesAfterLastIssuedTimestamp() {
+        NodeIdAllocator allocator = allocator(-1);
+        IdGenerator generator = new IdGenerator(allocator);
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(generator.generate());
+        }
+        String last = generator.generate();
+        generator.release();
+
+        // 해제한 번호를 다음 인스턴스가 그대로 이어받음
+        NodeIdAllocator restarted = allocator(-1);
+        IdGenerator next = new IdGenerator(restarted);
+        String first = next.generate();
+
+        assertThat(restarted.nodeId()).isEqualTo(allocator.nodeId());
+        assertThat(ids).doesNotContain(first).doesNotContain(last);
+        assertThat(timestampOf(first)).isGreaterThan(timestampOf(last));
+    }
+
+    @Test
+    void clockBehindPreviousOwnerStillIssuesLaterTimestamps() {
+        // 이전 점유자가 1시간 앞선 시계로 발급하고 만료된 번호 (이 인스턴스 기준으로는 시계가 뒤로 간 것과 같음)
+        long ahead = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        jdbcTemplate.update("INSERT INTO id_node_leases VALUES (0, 'old', DATEADD(HOUR, -1, CURRENT_TIMESTAMP), ?)", ahead);
+
+        IdGenerator generator = new IdGenerator(allocator(-1));
+        String id = generator.generate();
+
+        assertThat(timestampOf(id)).isGreaterThan(ahead);
+        assertThat(nodeOf(id)).isZero();
+    }
+
+    @Test
+    void unexpiredLeaseIsNotTakenEvenIfLocalClockSaysExpired() {
+        // 만료는 DB 시각으로만 판단: 방금 갱신된 행은 건너뜀
+        jdbcTemplate.update("INSERT INTO id_node_leases VALUES (0, 'other', CURRENT_TIMESTAMP, 0)");
+
+        assertThat(allocator(-1).nodeId()).isEqualTo(1);
+    }
+
+    @Test
+    void lostLeaseSwitchesToNewNodeWithoutReissuing() {
+        NodeIdAllocator allocator = allocator(-1);
+        IdGenerator generator = new IdGenerator(allocator);
+        String before = generator.generate();
+        long reserved = jdbcTemplate.queryForObject("SELECT reserved_until FROM id_node_leases WHERE node_id = 0", Long.class);
+
+        // 다른 인스턴스가 번호 0 을 가져감 (이전 상한을 넘겨받음)
+        jdbcTemplate.update("UPDATE id_node_leases SET owner = 'other' WHERE node_id = 0");
+        allocator.heartbeat();
+        String after = generator.generate();
+
+        assertThat(nodeOf(before)).isZero();
+        assertThat(nodeOf(after)).isEqualTo(1);
+        assertThat(timestampOf(before)).isLessThanOrEqualTo(reserved);
+    }
+
+    @Test
+    void configuredNodeIdInheritsReservation() {
+        long ahead = System.currentTimeMillis() + Duration.ofMinutes(10).toMillis();
+        jdbcTemplate.update("INSERT INTO id_node_leases VALUES (7, 'old', CURRENT_TIMESTAMP, ?)", ahead);
+
+        IdGenerator generator = new IdGenerator(allocator(7));
+        String id = generator.generate();
+
+        assertThat(nodeOf(id)).isEqualTo(7);
+        assertThat(timestampOf(id)).isGreaterThan(ahead);
+    }
+
+    private NodeIdAllocator allocator(int configuredNodeId) {
+        NodeIdAllocator allocator = new NodeIdAllocator(jdbcTemplate, configuredNodeId, Duration.ofMinutes(5), 60_000);
+        allocator.init();
+        return allocator;
+    }
+
+    /** ID에 담긴 발급 시각 (epoch 밀리초) */
+    private static long timestampOf(String id) {
+        return (Long.parseLong(id, 36) >>> 22) + EPOCH_MILLIS;
+    }
+
+    private static long nodeOf(String id) {
+        return (Long.parseLong(id, 36) >>> 12) & NodeIdAllocator.MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.catp.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catp.dto.DepartmentKeywords;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오토마톤의 find / findFirst 가 키워드마다 String.contains 를 부른 결과와 같은지 확인
+ */
+class KeywordAutomatonTest {
+
+    @Test
+    void randomKeywordsMatchContains() {
+        // 작은 문자 집합으로 접두사/접미사/겹침/중복 키워드가 자주 생기도록
+        Random random = new Random(21);
+        String alphabet = "abc가나";
+        for (int round = 0; round < 2_000; round++) {
+            List<String> keywords = new ArrayList<>();
+            int keywordCount = 1 + random.nextInt(12);
+            for (int k = 0; k < keywordCount; k++) {
+                keywords.add(randomText(random, alphabet, 1 + random.nextInt(4)));
+            }
+            KeywordAutomaton automaton = new KeywordAutomaton(keywords);
+
+            for (int t = 0; t < 100; t++) {
+                // 키워드에 없는 문자(x, 공백)도 섞음
+                String text = randomText(random, alphabet + "x ", random.nextInt(20));
+                assertSameAsContains(automaton, keywords, text);
+            }
+        }
+    }
+
+    @Test
+    void realKeywordsMatchContainsOnRealDepartments() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode table = readResource(DepartmentKeywords.RESOURCE, objectMapper);
+        List<String> categoryKeywords = new ArrayList<>();
+        table.get("categories").forEach(category -> category.get("keywords")
+                .forEach(keyword -> categoryKeywords.add(keyword.asText())));
+        List<String> tagKeywords = new ArrayList<>();
+        table.get("tags").fieldNames().forEachRemaining(tagKeywords::add);
+
+        KeywordAutomaton categoryAutomaton = new KeywordAutomaton(categoryKeywords);
+        KeywordAutomaton tagAutomaton = new KeywordAutomaton(tagKeywords);
+
+        int departments = 0;
+        for (String resource : List.of("/jj_departments_with_scores.json", "/catalogs/sample.json")) {
+            for (JsonNode department : readResource(resource, objectMapper)) {
+                assertSameAsContains(categoryAutomaton, categoryKeywords, department.get("학과").asText());
+                StringBuilder combined = new StringBuilder();
+                department.get("적성").forEach(line -> combined.append(line.asText()).append(' '));
+                assertSameAsContains(tagAutomaton, tagKeywords, combined.toString().toLowerCase());
+                departments++;
+            }
+        }
+        assertThat(departments).isGreaterThan(50);
+    }
+
+    @Test
+    void duplicateKeywordsAreAllFound() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("공학", "학", "공학", "컴퓨터공학"));
+
+        assertThat(automaton.find("컴퓨터공학과")).isEqualTo(BitSet.valueOf(new long[]{0b1111}));
+        assertThat(automaton.findFirst("수학과")).isEqualTo(1);
+        assertThat(automaton.findFirst("")).isEqualTo(-1);
+    }
+
+    @Test
+    void emptyKeywordIsRejected() {
+        assertThatThrownBy(() -> new KeywordAutomaton(List.of("공학", "")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertSameAsContains(KeywordAutomaton automaton, List<String> keywords, String text) {
+        BitSet expected = new BitSet();
+        for (int k = 0; k < keywords.size(); k++) {
+            if (text.contains(keywords.get(k))) {
+                expected.set(k);
+            }
+        }
+        assertThat(automaton.find(text)).as("키워드 %s, 텍스트 '%s'", keywords, text).isEqualTo(expected);
+        assertThat(automaton.findFirst(text)).as("키워드 %s, 텍스트 '%s'", keywords, text)
+                .isEqualTo(expected.nextSetBit(0));
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private static JsonNode readResource(String path, ObjectMapper objectMapper) throws Exception {
+        try (InputStream in = KeywordAutomatonTest.class.getResourceAsStream(path)) {
+            return objectMapper.readTree(in);
+        }
+    }
+}